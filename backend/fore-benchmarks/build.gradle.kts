@@ -0,0 +1,58 @@
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
+
+plugins {
+    java
+    id("io.spring.dependency-management")
+}
+
+val jmhVersion = "1.37"
+
+dependencyManagement {
+    imports {
+        mavenBom(SpringBootPlugin.BOM_COORDINATES)
+    }
+}
+
+dependencies {
+    implementation(project(":fore-common"))
+    implementation(project(":fore-game-service"))
+
+    // Serialization under benchmark
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    compileOnly("jakarta.persistence:jakarta.persistence-api") // Annotations on the mapped entities
+
+    // Logging (no Spring context, so configure Logback directly)
+    implementation("ch.qos.logback:logback-classic")
+
+    // JMH
+    implementation("org.openjdk.jmh:jmh-core:${jmhVersion}")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:${jmhVersion}")
+
+    // Lombok
+    compileOnly("org.projectlombok:lombok")
+    annotationProcessor("org.projectlombok:lombok")
+}
+
+/*
+ * ./gradlew :fore-benchmarks:jmh                                  # every suite
+ * ./gradlew :fore-benchmarks:jmh -Pjmh.include=GameSessionBenchmark
+ * ./gradlew :fore-benchmarks:jmh -Pjmh.args="-f 1 -wi 1 -i 2"      # quick smoke run
+ *
+ * Throughput and sampled latency come from each suite's @BenchmarkMode;
+ * the GC profiler adds allocation rate (gc.alloc.rate.norm = bytes per operation).
+ */
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH suites with the GC allocation profiler"
+    dependsOn(tasks.classes)
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.upToDateWhen { false }
+    doFirst { resultFile.get().asFile.parentFile.mkdirs() }
+
+    args(listOf("-prof", "gc", "-rf", "json", "-rff", resultFile.get().asFile.absolutePath))
+    (project.findProperty("jmh.args") as String?)?.let { args(it.split(" ").filter(String::isNotBlank)) }
+    (project.findProperty("jmh.include") as String?)?.let { args(it) }
+}
@@ -0,0 +1,97 @@
+package com.fore.benchmarks;
+
+import com.fore.game.domain.events.GameEvent;
+import com.fore.game.domain.model.GameConstants;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.PlayerState;
+import com.fore.game.domain.model.Property;
+import com.fore.game.domain.model.SeededDiceSource;
+import com.fore.game.domain.model.Tile;
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.game.domain.model.enums.TurnPhase;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic game fixtures shared by the benchmark suites.
+ * Every game is seeded and runs on a fixed clock so runs are comparable.
+ */
+final class BenchmarkGames {
+
+    static final UUID HUMAN_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+    private static final long TOP_UP_BELOW_CENTS = GameConstants.STARTING_CURRENCY.toCents() / 2;
+
+    private BenchmarkGames() {
+    }
+
+    /**
+     * A freshly started human-vs-NPC game.
+     */
+    static GameSession newGame(long seed) {
+        GameSession game = GameSession.create(HUMAN_ID, "Benchmark", true, Difficulty.MEDIUM,
+                SeededDiceSource.withSeed(seed));
+        game.useClock(CLOCK);
+        game.drainEvents();
+        return game;
+    }
+
+    /**
+     * A game played for {@code turns} turns, so most properties have owners.
+     */
+    static GameSession midGame(long seed, int turns) {
+        GameSession game = newGame(seed);
+        for (int i = 0; i < turns; i++) {
+            playTurn(game);
+            game.drainEvents();
+        }
+        return game;
+    }
+
+    /**
+     * Events recorded while playing {@code turns} turns, in order.
+     */
+    static List<GameEvent> recordedEvents(long seed, int turns) {
+        GameSession game = newGame(seed);
+        List<GameEvent> events = new ArrayList<>();
+        for (int i = 0; i < turns; i++) {
+            playTurn(game);
+            events.addAll(game.drainEvents());
+        }
+        return List.copyOf(events);
+    }
+
+    /**
+     * Roll (again on doubles), buy the landed-on property if affordable, then end the turn.
+     * Players running low are topped up so the game never ends and the rent path stays hot.
+     */
+    static void playTurn(GameSession game) {
+        UUID playerId = game.getCurrentPlayerId();
+        PlayerState player = game.getPlayer(playerId);
+        if (player.getCurrencyCents() < TOP_UP_BELOW_CENTS) {
+            player.setCurrency(GameConstants.STARTING_CURRENCY);
+        }
+
+        while (game.getTurnPhase() == TurnPhase.ROLL && playerId.equals(game.getCurrentPlayerId())) {
+            game.rollDice(playerId);
+        }
+        if (!playerId.equals(game.getCurrentPlayerId())) {
+            return; // Turn lost in a sand trap
+        }
+
+        Tile tile = game.getBoard().getTileAt(player.getPosition());
+        if (tile.isProperty()) {
+            Property property = tile.requireProperty();
+            if (!property.isOwned() && player.canAfford(property.getPurchasePrice())) {
+                game.purchaseProperty(playerId, property.getPropertyId());
+            }
+        }
+        game.endTurn(playerId);
+    }
+}
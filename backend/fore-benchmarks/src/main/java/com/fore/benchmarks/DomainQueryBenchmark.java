@@ -0,0 +1,70 @@
+package com.fore.benchmarks;
+
+import com.fore.game.domain.model.Board;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.PlayerState;
+import com.fore.game.domain.model.enums.CourseGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-side queries the NPC engines and rent calculation hit on every decision.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DomainQueryBenchmark {
+
+    private static final CourseGroup[] GROUPS = CourseGroup.values();
+    private static final int PLAYERS = 2;
+    private static final int GROUP_QUERIES = PLAYERS * 6; // Every player against every course group
+
+    private Board board;
+    private PlayerState[] players;
+    private UUID[] playerIds;
+
+    @Setup
+    public void setUp() {
+        GameSession game = BenchmarkGames.midGame(42L, 60);
+        board = game.getBoard();
+        players = game.getPlayers().values().toArray(new PlayerState[0]);
+        playerIds = new UUID[players.length];
+        for (int i = 0; i < players.length; i++) {
+            playerIds[i] = players[i].getPlayerId();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GROUP_QUERIES)
+    public void ownsCompleteGroup(Blackhole blackhole) {
+        for (UUID playerId : playerIds) {
+            for (CourseGroup group : GROUPS) {
+                blackhole.consume(board.ownsCompleteGroup(playerId, group));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLAYERS)
+    public void calculateNetWorth(Blackhole blackhole) {
+        for (PlayerState player : players) {
+            blackhole.consume(player.calculateNetWorth(board));
+        }
+    }
+}
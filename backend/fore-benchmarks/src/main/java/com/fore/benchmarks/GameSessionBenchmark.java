@@ -0,0 +1,48 @@
+package com.fore.benchmarks;
+
+import com.fore.game.domain.events.GameEvent;
+import com.fore.game.domain.model.GameSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full turn through GameSession commands: roll, move, rent or purchase, end turn.
+ * Run with and without event recording to separate rule cost from event cost.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class GameSessionBenchmark {
+
+    @Param({"true", "false"})
+    boolean recordingEvents;
+
+    private GameSession game;
+
+    @Setup
+    public void setUp() {
+        game = BenchmarkGames.midGame(42L, 40);
+        game.setRecordingEvents(recordingEvents);
+    }
+
+    @Benchmark
+    public List<GameEvent> turnCycle() {
+        BenchmarkGames.playTurn(game);
+        return game.drainEvents();
+    }
+}
@@ -0,0 +1,160 @@
+package com.fore.benchmarks;
+
+import com.fore.game.application.dto.GameStateDtoMapper;
+import com.fore.game.application.dto.GameStateResponse;
+import com.fore.game.application.dto.GameStateResponse.BoardDto;
+import com.fore.game.application.dto.GameStateResponse.PlayerStateDto;
+import com.fore.game.application.dto.GameStateResponse.PropertyDto;
+import com.fore.game.application.dto.GameStateResponse.TileDto;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.PlayerState;
+import com.fore.game.domain.model.Property;
+import com.fore.game.domain.model.Tile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Domain-to-DTO mapping of the game state response, built for every command and state read.
+ * {@code previousMapping} is the mapper as it was before template fragments and per-owner group
+ * ownership, kept as the baseline.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class GameStateMappingBenchmark {
+
+    private final GameStateDtoMapper mapper = new GameStateDtoMapper();
+
+    private GameSession game;
+
+    @Setup
+    public void setUp() {
+        game = BenchmarkGames.midGame(42L, 60);
+        mapper.toGameStateResponse(game); // Fill the template fragments
+    }
+
+    @Benchmark
+    public GameStateResponse mapping() {
+        return mapper.toGameStateResponse(game);
+    }
+
+    @Benchmark
+    public GameStateResponse previousMapping() {
+        return PreviousMapping.toGameStateResponse(game);
+    }
+
+    /**
+     * Baseline: player names via a stream, every static field re-read per call,
+     * and two ownsCompleteGroup lookups per owned property.
+     */
+    private static final class PreviousMapping {
+
+        static GameStateResponse toGameStateResponse(GameSession game) {
+            Map<UUID, String> playerNames = game.getPlayers().values().stream()
+                    .collect(Collectors.toMap(PlayerState::getPlayerId, PlayerState::getDisplayName));
+            PlayerState currentPlayer = game.getCurrentPlayerId() != null
+                    ? game.getPlayers().get(game.getCurrentPlayerId())
+                    : null;
+
+            List<PlayerStateDto> players = game.getPlayers().values().stream()
+                    .map(player -> PlayerStateDto.builder()
+                            .playerId(player.getPlayerId())
+                            .displayName(player.getDisplayName())
+                            .npc(player.isNpc())
+                            .npcDifficulty(player.getNpcDifficulty() != null
+                                    ? player.getNpcDifficulty().name()
+                                    : null)
+                            .position(player.getPosition())
+                            .currencyCents(player.getCurrency().toCents())
+                            .ownedPropertyIds(new ArrayList<>(player.getOwnedPropertyIds()))
+                            .bankrupt(player.isBankrupt())
+                            .inSandTrap(player.isInSandTrap())
+                            .turnsInSandTrap(player.getTurnsInSandTrap())
+                            .build())
+                    .collect(Collectors.toList());
+
+            List<TileDto> tiles = game.getBoard().getTiles().stream()
+                    .map(tile -> mapTile(tile, game, playerNames, currentPlayer))
+                    .collect(Collectors.toList());
+
+            return GameStateResponse.builder()
+                    .gameId(game.getGameId())
+                    .status(game.getStatus().name())
+                    .currentPlayerId(game.getCurrentPlayerId())
+                    .turnPhase(game.getTurnPhase().name())
+                    .turnNumber(game.getTurnNumber())
+                    .winnerId(game.getWinnerId())
+                    .players(players)
+                    .board(BoardDto.builder().tiles(tiles).build())
+                    .createdAt(game.getCreatedAt())
+                    .updatedAt(game.getUpdatedAt())
+                    .build();
+        }
+
+        private static TileDto mapTile(Tile tile, GameSession game, Map<UUID, String> playerNames,
+                                       PlayerState currentPlayer) {
+            return TileDto.builder()
+                    .tileId(tile.getTileId())
+                    .position(tile.getPosition())
+                    .type(tile.getType().name())
+                    .name(tile.getName())
+                    .property(tile.getProperty()
+                            .map(property -> mapProperty(property, game, playerNames, currentPlayer))
+                            .orElse(null))
+                    .build();
+        }
+
+        private static PropertyDto mapProperty(Property property, GameSession game, Map<UUID, String> playerNames,
+                                               PlayerState currentPlayer) {
+            boolean canBePurchased = !property.isOwned()
+                    && currentPlayer != null
+                    && currentPlayer.getPosition() == property.getTilePosition()
+                    && currentPlayer.canAfford(property.getPurchasePrice());
+            boolean canBeImproved = property.isOwned()
+                    && currentPlayer != null
+                    && property.isOwnedBy(currentPlayer.getPlayerId())
+                    && property.canBeImproved()
+                    && game.getBoard().ownsCompleteGroup(currentPlayer.getPlayerId(), property.getCourseGroup())
+                    && currentPlayer.canAfford(property.getImprovementCost());
+            long currentRentCents = property.isOwned()
+                    ? property.calculateRent(game.getBoard().ownsCompleteGroup(
+                            property.getOwnerId(), property.getCourseGroup())).toCents()
+                    : 0;
+
+            return PropertyDto.builder()
+                    .propertyId(property.getPropertyId())
+                    .name(property.getName())
+                    .courseGroup(property.getCourseGroup().name())
+                    .courseGroupColor(property.getCourseGroup().getHexColor())
+                    .purchasePriceCents(property.getPurchasePrice().toCents())
+                    .baseRentCents(property.getBaseRent().toCents())
+                    .currentRentCents(currentRentCents)
+                    .improvementCostCents(property.getImprovementCost().toCents())
+                    .ownerId(property.getOwnerId())
+                    .ownerName(property.getOwnerId() != null ? playerNames.get(property.getOwnerId()) : null)
+                    .improvementLevel(property.getImprovementLevel().name())
+                    .mortgaged(property.isMortgaged())
+                    .canBePurchased(canBePurchased)
+                    .canBeImproved(canBeImproved)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.fore.benchmarks;
+
+import com.fore.game.domain.events.GameEvent;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.infrastructure.config.JacksonConfig;
+import com.fore.game.infrastructure.persistence.entity.GameEventEntity;
+import com.fore.game.infrastructure.persistence.entity.GameSessionEntity;
+import com.fore.game.infrastructure.persistence.mapper.GameEventMapper;
+import com.fore.game.infrastructure.persistence.mapper.GameSessionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain-to-entity mapping done on every save and load, and per recorded event.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class PersistenceMappingBenchmark {
+
+    private final GameSessionMapper sessionMapper = new GameSessionMapper();
+    private final GameEventMapper eventMapper = new GameEventMapper(new JacksonConfig().objectMapper());
+
+    private GameSession game;
+    private GameSessionEntity entity;
+    private List<GameEvent> events;
+    private int nextEvent;
+
+    @Setup
+    public void setUp() {
+        game = BenchmarkGames.midGame(42L, 60);
+        entity = sessionMapper.toEntity(game);
+        events = BenchmarkGames.recordedEvents(42L, 60);
+    }
+
+    @Benchmark
+    public GameSessionEntity sessionToEntity() {
+        return sessionMapper.toEntity(game);
+    }
+
+    @Benchmark
+    public GameSession sessionToDomain() {
+        return sessionMapper.toDomain(entity);
+    }
+
+    /**
+     * Cycles through a recorded game so every event type is represented.
+     */
+    @Benchmark
+    public GameEventEntity eventToEntity() {
+        int index = nextEvent;
+        nextEvent = index + 1 == events.size() ? 0 : index + 1;
+        return eventMapper.toEntity(events.get(index), index);
+    }
+}
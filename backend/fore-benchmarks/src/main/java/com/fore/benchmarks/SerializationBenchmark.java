@@ -0,0 +1,79 @@
+package com.fore.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fore.game.application.dto.GameStateDtoMapper;
+import com.fore.game.application.dto.GameStateResponse;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.infrastructure.config.JacksonConfig;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot;
+import com.fore.game.infrastructure.persistence.mapper.BinarySnapshotCodec;
+import com.fore.game.infrastructure.persistence.mapper.GameSessionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the JSONB snapshot column and the game state REST/WebSocket payload,
+ * using the application's ObjectMapper configuration, against the binary snapshot codec.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final BinarySnapshotCodec codec = new BinarySnapshotCodec();
+
+    private GameStateSnapshot snapshot;
+    private byte[] snapshotJson;
+    private byte[] snapshotBinary;
+    private GameStateResponse response;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        GameSession game = BenchmarkGames.midGame(42L, 60);
+        snapshot = new GameSessionMapper().toEntity(game).getGameStateSnapshot();
+        snapshotJson = objectMapper.writeValueAsBytes(snapshot);
+        snapshotBinary = codec.encode(snapshot);
+        response = new GameStateDtoMapper().toGameStateResponse(game);
+    }
+
+    @Benchmark
+    public byte[] writeSnapshot() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(snapshot);
+    }
+
+    @Benchmark
+    public GameStateSnapshot readSnapshot() throws IOException {
+        return objectMapper.readValue(snapshotJson, GameStateSnapshot.class);
+    }
+
+    @Benchmark
+    public byte[] writeSnapshotBinary() {
+        return codec.encode(snapshot);
+    }
+
+    @Benchmark
+    public GameStateSnapshot readSnapshotBinary() {
+        return codec.decode(snapshotBinary);
+    }
+
+    @Benchmark
+    public byte[] writeGameStateResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,68 @@
+package com.fore.common.ids;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free generator of time-ordered UUIDs in the RFC 9562 version 7 layout.
+ *
+ * <pre>
+ *  48 bits  unix epoch milliseconds
+ *   4 bits  version (7)
+ *  12 bits  sequence within the millisecond
+ *   2 bits  variant (IETF)
+ *  62 bits  random
+ * </pre>
+ *
+ * Ids are strictly increasing across all threads of a JVM: the timestamp and sequence are
+ * advanced with a single CAS, and a sequence overflow borrows the next millisecond.
+ * New primary keys therefore land at the right-hand edge of B-tree indexes.
+ * The random bits come from {@link ThreadLocalRandom}, so generation never blocks on
+ * {@code SecureRandom}; these ids are identifiers, not secrets.
+ */
+public final class TimeOrderedIds {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_IETF = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    /** Last issued (millis << SEQUENCE_BITS | sequence). */
+    private static final AtomicLong lastTimeAndSequence = new AtomicLong();
+
+    private TimeOrderedIds() {
+    }
+
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(long epochMillis) {
+        long candidate = epochMillis << SEQUENCE_BITS;
+        long timeAndSequence;
+        while (true) {
+            long last = lastTimeAndSequence.get();
+            timeAndSequence = Math.max(candidate, last + 1);
+            if (lastTimeAndSequence.compareAndSet(last, timeAndSequence)) {
+                break;
+            }
+        }
+
+        long millis = timeAndSequence >>> SEQUENCE_BITS;
+        long sequence = timeAndSequence & ((1L << SEQUENCE_BITS) - 1);
+        long mostSigBits = (millis << 16) | VERSION_7 | sequence;
+        long leastSigBits = VARIANT_IETF | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Creation time of a version 7 id in epoch milliseconds.
+     */
+    public static long epochMillisOf(UUID id) {
+        if (id.version() != 7) {
+            throw new IllegalArgumentException("Not a time-ordered id: " + id);
+        }
+        return id.getMostSignificantBits() >>> 16;
+    }
+}
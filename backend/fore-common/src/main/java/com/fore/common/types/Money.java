@@ -17,6 +17,7 @@ import java.math.RoundingMode;
 public final class Money implements Comparable<Money> {
 
     private static final int CENTS_PER_DOLLAR = 100;
+    private static final Money ZERO = new Money(0);
 
     private final long cents;
 
@@ -38,7 +39,7 @@ public final class Money implements Comparable<Money> {
     }
 
     public static Money zero() {
-        return new Money(0);
+        return ZERO;
     }
 
     @JsonValue
@@ -0,0 +1,77 @@
+package com.fore.common.ids;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TimeOrderedIdsTest {
+
+    @Test
+    void next_shouldUseVersion7Layout() {
+        UUID id = TimeOrderedIds.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void next_shouldEncodeCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedIds.next();
+        long after = System.currentTimeMillis();
+
+        // Sequence overflow from other tests may borrow a millisecond or two
+        assertThat(TimeOrderedIds.epochMillisOf(id)).isBetween(before, after + 5);
+    }
+
+    @Test
+    void next_shouldBeStrictlyIncreasingInStringOrder() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(TimeOrderedIds.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            // Database uuid ordering compares bytes, which matches the textual form
+            assertThat(ids.get(i).toString()).isGreaterThan(ids.get(i - 1).toString());
+        }
+    }
+
+    @Test
+    void next_sameMillisecond_shouldAdvanceSequence() {
+        long millis = System.currentTimeMillis();
+
+        UUID first = TimeOrderedIds.next(millis);
+        UUID second = TimeOrderedIds.next(millis);
+
+        assertThat(TimeOrderedIds.epochMillisOf(first)).isGreaterThanOrEqualTo(millis);
+        assertThat(second.getMostSignificantBits()).isEqualTo(first.getMostSignificantBits() + 1);
+    }
+
+    @Test
+    void next_fromManyThreads_shouldNeverRepeat() {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 8).parallel().forEach(worker -> {
+            for (int i = 0; i < 20_000; i++) {
+                ids.add(TimeOrderedIds.next());
+            }
+        });
+
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+
+    @Test
+    void epochMillisOf_randomUuid_shouldThrow() {
+        assertThatThrownBy(() -> TimeOrderedIds.epochMillisOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Not a time-ordered id");
+    }
+}
@@ -2,13 +2,17 @@ package com.fore.game.api.rest;
 
 import com.fore.game.application.dto.*;
 import com.fore.game.application.usecases.*;
+import com.fore.game.domain.model.enums.GameStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +26,7 @@ public class GameController {
     private final JoinGameUseCase joinGameUseCase;
     private final GetGameUseCase getGameUseCase;
     private final ExecuteActionUseCase executeActionUseCase;
+    private final GetGameHistoryUseCase getGameHistoryUseCase;
 
     /**
      * Create a new game.
@@ -34,22 +39,41 @@ public class GameController {
     }
 
     /**
-     * Get game state by ID.
+     * Get game state by ID. The body is the stored read model, written as-is.
      */
     @GetMapping("/{gameId}")
-    public ResponseEntity<GameStateResponse> getGame(@PathVariable UUID gameId) {
+    public ResponseEntity<byte[]> getGame(@PathVariable UUID gameId) {
         log.debug("GET /api/v1/games/{}", gameId);
-        GameStateResponse response = getGameUseCase.getById(gameId);
+        byte[] response = getGameUseCase.getJsonById(gameId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
+    }
+
+    /**
+     * Get game state as of an event sequence number, rebuilt from the event log.
+     */
+    @GetMapping("/{gameId}/state")
+    public ResponseEntity<GameStateResponse> getGameStateAt(
+            @PathVariable UUID gameId,
+            @RequestParam long atSequence) {
+        log.debug("GET /api/v1/games/{}/state?atSequence={}", gameId, atSequence);
+        GameStateResponse response = getGameHistoryUseCase.getStateAt(gameId, atSequence);
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Get available games (waiting for players).
+     * Get available games (waiting for players), newest first.
+     * Pass the previous page's nextCursor as cursor for the next page.
      */
     @GetMapping("/available")
-    public ResponseEntity<AvailableGamesResponse> getAvailableGames() {
-        log.debug("GET /api/v1/games/available");
-        AvailableGamesResponse response = getGameUseCase.getAvailableGames();
+    public ResponseEntity<AvailableGamesResponse> getAvailableGames(
+            @RequestParam(required = false) Boolean vsNpc,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdAfter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("GET /api/v1/games/available?vsNpc={}&createdAfter={}&limit={}", vsNpc, createdAfter, limit);
+        AvailableGamesResponse response = getGameUseCase.getAvailableGames(vsNpc, createdAfter, cursor, limit);
         return ResponseEntity.ok(response);
     }
 
@@ -63,6 +87,21 @@ public class GameController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Summaries of a player's games, newest first; active games unless a status is given.
+     * Pass the previous page's nextCursor as cursor for the next page.
+     */
+    @GetMapping("/player/{playerId}/summaries")
+    public ResponseEntity<PlayerGamesResponse> getPlayerGameSummaries(
+            @PathVariable UUID playerId,
+            @RequestParam(required = false) GameStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("GET /api/v1/games/player/{}/summaries?status={}&limit={}", playerId, status, limit);
+        PlayerGamesResponse response = getGameUseCase.getGameSummariesByPlayer(playerId, status, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Join an existing game.
      */
@@ -50,6 +50,15 @@ public class GlobalExceptionHandler {
                 .body(buildErrorResponse(ex, request));
     }
 
+    @ExceptionHandler(GameConcurrencyException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentModification(
+            GameConcurrencyException ex, HttpServletRequest request) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(buildErrorResponse(ex, request));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -3,6 +3,7 @@ package com.fore.game.api.websocket;
 import com.fore.game.api.websocket.dto.GameUpdateMessage;
 import com.fore.game.api.websocket.dto.GameUpdateMessage.UpdateType;
 import com.fore.game.api.websocket.dto.GameUpdateNotification;
+import com.fore.game.api.websocket.dto.LobbyUpdateMessage;
 import com.fore.game.api.websocket.dto.PlayerPresenceMessage;
 import com.fore.game.application.dto.ActionResultResponse;
 import com.fore.game.application.dto.GameStateResponse;
@@ -26,6 +27,7 @@ public class GameEventPublisher {
     private final SimpMessagingTemplate messagingTemplate;
 
     private static final String GAME_TOPIC = "/topic/game/";
+    private static final String LOBBY_TOPIC = "/topic/lobby";
 
     public void publishActionResult(
             UUID gameId,
@@ -68,6 +70,12 @@ public class GameEventPublisher {
         messagingTemplate.convertAndSend(destination, presence);
     }
 
+    public void publishLobbyUpdate(LobbyUpdateMessage update) {
+        log.debug("Publishing {} for game {} to {}", update.getUpdateType(), update.getGameId(), LOBBY_TOPIC);
+
+        messagingTemplate.convertAndSend(LOBBY_TOPIC, update);
+    }
+
     public void sendToPlayer(UUID gameId, UUID playerId, Object message) {
         String destination = "/queue/game/" + gameId + "/player/" + playerId;
         log.debug("Sending to player {}: {}", playerId, destination);
@@ -0,0 +1,35 @@
+package com.fore.game.api.websocket.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fore.game.application.dto.AvailableGamesResponse.GameSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Delta sent to /topic/lobby when a game opens for players or stops accepting them.
+ * Clients apply it to the page they loaded from GET /api/v1/games/available.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LobbyUpdateMessage {
+
+    private LobbyUpdateType updateType;
+    private UUID gameId;
+    private GameSummary game; // Only for GAME_ADDED
+    private Instant timestamp;
+
+    public enum LobbyUpdateType {
+        GAME_ADDED,
+        GAME_REMOVED
+    }
+}
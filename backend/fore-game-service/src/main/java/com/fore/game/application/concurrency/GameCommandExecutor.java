@@ -0,0 +1,129 @@
+package com.fore.game.application.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs commands for one game strictly one after another, like an actor mailbox.
+ *
+ * Games are striped by id over a fixed set of single-threaded lanes, one per core by default.
+ * Commands for the same game always land on the same lane and run in arrival order;
+ * different games spread across lanes and run in parallel.
+ * The caller blocks until its command has run and gets its result or exception back.
+ *
+ * Per lane it publishes {@code fore.game.executor.queue.depth} (commands waiting) and
+ * {@code fore.game.executor.wait} (time from submission to start), tagged with {@code stripe}.
+ */
+@Slf4j
+@Component
+public class GameCommandExecutor {
+
+    private final Stripe[] stripes;
+
+    public GameCommandExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${fore.game-executor.stripes:0}") int configuredStripes) {
+        int count = configuredStripes > 0 ? configuredStripes : Runtime.getRuntime().availableProcessors();
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(i, meterRegistry);
+        }
+        log.info("Game command executor started with {} stripes", count);
+    }
+
+    /**
+     * Run a command in the game's lane and wait for it.
+     * A command that is already running in that lane runs inline instead of deadlocking on itself.
+     */
+    public <T> T execute(UUID gameId, Supplier<T> command) {
+        Stripe stripe = stripeFor(gameId);
+        if (Thread.currentThread() == stripe.thread) {
+            return command.get();
+        }
+
+        long submittedAt = System.nanoTime();
+        Future<T> result = stripe.executor.submit(() -> {
+            stripe.waitTime.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            return command.get();
+        });
+
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Command for game " + gameId + " failed", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for command on game " + gameId, e);
+        }
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    int stripeIndexOf(UUID gameId) {
+        int hash = gameId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Stripe stripe : stripes) {
+            stripe.executor.shutdown();
+        }
+        for (Stripe stripe : stripes) {
+            stripe.executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private Stripe stripeFor(UUID gameId) {
+        return stripes[stripeIndexOf(gameId)];
+    }
+
+    private static final class Stripe {
+
+        private final ThreadPoolExecutor executor;
+        private final Timer waitTime;
+        private volatile Thread thread;
+
+        Stripe(int index, MeterRegistry meterRegistry) {
+            BlockingQueue<Runnable> mailbox = new LinkedBlockingQueue<>();
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, mailbox, runnable -> {
+                Thread worker = new Thread(runnable, "game-stripe-" + index);
+                this.thread = worker;
+                return worker;
+            });
+
+            String stripe = Integer.toString(index);
+            Gauge.builder("fore.game.executor.queue.depth", mailbox, BlockingQueue::size)
+                    .description("Game commands waiting in a stripe's mailbox")
+                    .tag("stripe", stripe)
+                    .register(meterRegistry);
+            this.waitTime = Timer.builder("fore.game.executor.wait")
+                    .description("Time a game command waited in its stripe's mailbox")
+                    .tag("stripe", stripe)
+                    .register(meterRegistry);
+        }
+    }
+}
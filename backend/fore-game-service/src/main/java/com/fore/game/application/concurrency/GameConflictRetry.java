@@ -0,0 +1,59 @@
+package com.fore.game.application.concurrency;
+
+import com.fore.game.domain.exceptions.GameConcurrencyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a game command when its save loses an optimistic version check.
+ *
+ * Each attempt must load the game afresh and re-apply the command, so the attempt is the
+ * whole load -> mutate -> save unit (typically one transaction). After the last attempt the
+ * GameConcurrencyException reaches the caller.
+ *
+ * Publishes {@code fore.game.save.conflicts} (source=command) for every lost check and
+ * {@code fore.game.command.retries.exhausted} for commands that gave up.
+ */
+@Slf4j
+@Component
+public class GameConflictRetry {
+
+    private final int maxAttempts;
+    private final Counter conflicts;
+    private final Counter exhausted;
+
+    public GameConflictRetry(
+            MeterRegistry meterRegistry,
+            @Value("${fore.game-executor.conflict-attempts:3}") int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.conflicts = Counter.builder("fore.game.save.conflicts")
+                .description("Game saves rejected because another writer changed the game first")
+                .tag("source", "command")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("fore.game.command.retries.exhausted")
+                .description("Game commands that still conflicted after every retry")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(UUID gameId, Supplier<T> attempt) {
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.get();
+            } catch (GameConcurrencyException e) {
+                conflicts.increment();
+                if (attemptNumber >= maxAttempts) {
+                    exhausted.increment();
+                    log.warn("Game {} still conflicting after {} attempts", gameId, attemptNumber);
+                    throw e;
+                }
+                log.debug("Version conflict on game {}, retrying (attempt {})", gameId, attemptNumber + 1);
+            }
+        }
+    }
+}
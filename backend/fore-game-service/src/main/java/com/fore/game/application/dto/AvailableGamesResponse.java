@@ -18,7 +18,8 @@ import java.util.UUID;
 public class AvailableGamesResponse {
 
     private List<GameSummary> games;
-    private int totalCount;
+    private int totalCount; // Games in this page
+    private String nextCursor; // Null on the last page
 
     @Data
     @NoArgsConstructor
@@ -31,6 +32,7 @@ public class AvailableGamesResponse {
         private String creatorName;
         private int playerCount;
         private int maxPlayers;
+        private boolean vsNpc;
         private Instant createdAt;
     }
 }
@@ -9,6 +9,7 @@ import com.fore.game.domain.model.enums.CourseGroup;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -17,9 +18,21 @@ import java.util.stream.Collectors;
 @Component
 public class GameStateDtoMapper {
 
+    // Static tile and property fields per board template id; a template's layout never changes
+    private final Map<String, List<TileFragment>> fragmentsByTemplate = new ConcurrentHashMap<>();
+
+    /**
+     * Single pass over players and tiles. Group ownership is worked out once per owner, and the
+     * static tile and property fields come from fragments cached per board template.
+     */
     public GameStateResponse toGameStateResponse(GameSession game) {
-        Map<UUID, String> playerNames = game.getPlayers().values().stream()
-                .collect(Collectors.toMap(PlayerState::getPlayerId, PlayerState::getDisplayName));
+        Collection<PlayerState> players = game.getPlayers().values();
+        Map<UUID, String> playerNames = new HashMap<>(players.size() * 2);
+        List<PlayerStateDto> playerDtos = new ArrayList<>(players.size());
+        for (PlayerState player : players) {
+            playerNames.put(player.getPlayerId(), player.getDisplayName());
+            playerDtos.add(mapPlayer(player));
+        }
 
         return GameStateResponse.builder()
                 .gameId(game.getGameId())
@@ -28,7 +41,7 @@ public class GameStateDtoMapper {
                 .turnPhase(game.getTurnPhase().name())
                 .turnNumber(game.getTurnNumber())
                 .winnerId(game.getWinnerId())
-                .players(mapPlayers(game))
+                .players(playerDtos)
                 .board(mapBoard(game, playerNames))
                 .pendingTrade(mapTrade(game.getPendingTrade(), playerNames))
                 .createdAt(game.getCreatedAt())
@@ -36,90 +49,86 @@ public class GameStateDtoMapper {
                 .build();
     }
 
-    private List<PlayerStateDto> mapPlayers(GameSession game) {
-        return game.getPlayers().values().stream()
-                .map(player -> PlayerStateDto.builder()
-                        .playerId(player.getPlayerId())
-                        .displayName(player.getDisplayName())
-                        .npc(player.isNpc())
-                        .npcDifficulty(player.getNpcDifficulty() != null 
-                                ? player.getNpcDifficulty().name() 
-                                : null)
-                        .position(player.getPosition())
-                        .currencyCents(player.getCurrency().toCents())
-                        .ownedPropertyIds(new ArrayList<>(player.getOwnedPropertyIds()))
-                        .bankrupt(player.isBankrupt())
-                        .inSandTrap(player.isInSandTrap())
-                        .turnsInSandTrap(player.getTurnsInSandTrap())
-                        .build())
-                .collect(Collectors.toList());
+    private PlayerStateDto mapPlayer(PlayerState player) {
+        return PlayerStateDto.builder()
+                .playerId(player.getPlayerId())
+                .displayName(player.getDisplayName())
+                .npc(player.isNpc())
+                .npcDifficulty(player.getNpcDifficulty() != null
+                        ? player.getNpcDifficulty().name()
+                        : null)
+                .position(player.getPosition())
+                .currencyCents(player.getCurrencyCents())
+                .ownedPropertyIds(new ArrayList<>(player.getOwnedPropertyIds()))
+                .bankrupt(player.isBankrupt())
+                .inSandTrap(player.isInSandTrap())
+                .turnsInSandTrap(player.getTurnsInSandTrap())
+                .build();
     }
 
     private BoardDto mapBoard(GameSession game, Map<UUID, String> playerNames) {
         UUID currentPlayerId = game.getCurrentPlayerId();
-        PlayerState currentPlayer = currentPlayerId != null 
-                ? game.getPlayers().get(currentPlayerId) 
+        PlayerState currentPlayer = currentPlayerId != null
+                ? game.getPlayers().get(currentPlayerId)
                 : null;
 
-        List<TileDto> tiles = game.getBoard().getTiles().stream()
-                .map(tile -> mapTile(tile, game, playerNames, currentPlayer))
-                .collect(Collectors.toList());
+        Board board = game.getBoard();
+        Map<UUID, Set<CourseGroup>> completeGroups = new HashMap<>();
+        List<Tile> tiles = board.getTiles();
+        List<TileFragment> fragments = fragmentsFor(board);
+        List<TileDto> tileDtos = new ArrayList<>(tiles.size());
+        for (int i = 0; i < tiles.size(); i++) {
+            Tile tile = tiles.get(i);
+            TileFragment fragment = fragments.get(i);
+            PropertyDto property = fragment.property() != null
+                    ? mapProperty(tile.requireProperty(), fragment.property(), board, playerNames,
+                            completeGroups, currentPlayer)
+                    : null;
+            tileDtos.add(TileDto.builder()
+                    .tileId(fragment.tileId())
+                    .position(fragment.position())
+                    .type(fragment.type())
+                    .name(fragment.name())
+                    .property(property)
+                    .build());
+        }
 
         return BoardDto.builder()
-                .tiles(tiles)
+                .tiles(tileDtos)
                 .build();
     }
 
-    private TileDto mapTile(Tile tile, GameSession game, Map<UUID, String> playerNames, PlayerState currentPlayer) {
-        PropertyDto propertyDto = tile.getProperty()
-                .map(prop -> mapProperty(prop, game, playerNames, currentPlayer))
-                .orElse(null);
-
-        return TileDto.builder()
-                .tileId(tile.getTileId())
-                .position(tile.getPosition())
-                .type(tile.getType().name())
-                .name(tile.getName())
-                .property(propertyDto)
-                .build();
-    }
-
-    private PropertyDto mapProperty(Property property, GameSession game, 
-                                    Map<UUID, String> playerNames, PlayerState currentPlayer) {
-        
-        boolean canBePurchased = !property.isOwned() 
-                && currentPlayer != null 
-                && currentPlayer.getPosition() == property.getTilePosition()
-                && currentPlayer.canAfford(property.getPurchasePrice());
+    private PropertyDto mapProperty(Property property, PropertyFragment fragment, Board board,
+                                    Map<UUID, String> playerNames, Map<UUID, Set<CourseGroup>> completeGroups,
+                                    PlayerState currentPlayer) {
+        // Complete groups are worked out once per owner, not once per owned property
+        UUID ownerId = property.getOwnerId();
+        boolean ownerHasGroup = ownerId != null && completeGroups
+                .computeIfAbsent(ownerId, board::getCompleteGroupsOwnedBy)
+                .contains(property.getCourseGroup());
 
-        boolean canBeImproved = property.isOwned()
+        boolean canBePurchased = ownerId == null
                 && currentPlayer != null
-                && property.isOwnedBy(currentPlayer.getPlayerId())
+                && currentPlayer.getPosition() == fragment.tilePosition()
+                && currentPlayer.canAffordCents(fragment.purchasePriceCents());
+
+        boolean canBeImproved = currentPlayer != null
+                && currentPlayer.getPlayerId().equals(ownerId)
                 && property.canBeImproved()
-                && game.getBoard().ownsCompleteGroup(currentPlayer.getPlayerId(), property.getCourseGroup())
-                && currentPlayer.canAfford(property.getImprovementCost());
-
-        // Calculate current rent
-        long currentRentCents = 0;
-        if (property.isOwned()) {
-            boolean ownerHasGroup = game.getBoard().ownsCompleteGroup(
-                    property.getOwnerId(), 
-                    property.getCourseGroup()
-            );
-            currentRentCents = property.calculateRent(ownerHasGroup).toCents();
-        }
+                && ownerHasGroup
+                && currentPlayer.canAffordCents(fragment.improvementCostCents());
 
         return PropertyDto.builder()
-                .propertyId(property.getPropertyId())
-                .name(property.getName())
-                .courseGroup(property.getCourseGroup().name())
-                .courseGroupColor(property.getCourseGroup().getHexColor())
-                .purchasePriceCents(property.getPurchasePrice().toCents())
-                .baseRentCents(property.getBaseRent().toCents())
-                .currentRentCents(currentRentCents)
-                .improvementCostCents(property.getImprovementCost().toCents())
-                .ownerId(property.getOwnerId())
-                .ownerName(property.getOwnerId() != null ? playerNames.get(property.getOwnerId()) : null)
+                .propertyId(fragment.propertyId())
+                .name(fragment.name())
+                .courseGroup(fragment.courseGroup())
+                .courseGroupColor(fragment.courseGroupColor())
+                .purchasePriceCents(fragment.purchasePriceCents())
+                .baseRentCents(fragment.baseRentCents())
+                .currentRentCents(ownerId != null ? property.calculateRentCents(ownerHasGroup) : 0)
+                .improvementCostCents(fragment.improvementCostCents())
+                .ownerId(ownerId)
+                .ownerName(ownerId != null ? playerNames.get(ownerId) : null)
                 .improvementLevel(property.getImprovementLevel().name())
                 .mortgaged(property.isMortgaged())
                 .canBePurchased(canBePurchased)
@@ -127,6 +136,42 @@ public class GameStateDtoMapper {
                 .build();
     }
 
+    private List<TileFragment> fragmentsFor(Board board) {
+        String templateId = board.getTemplateId();
+        if (templateId == null) {
+            return fragmentsOf(board);
+        }
+        return fragmentsByTemplate.computeIfAbsent(templateId, id -> fragmentsOf(board));
+    }
+
+    private static List<TileFragment> fragmentsOf(Board board) {
+        List<TileFragment> fragments = new ArrayList<>(board.getTiles().size());
+        for (Tile tile : board.getTiles()) {
+            PropertyFragment property = tile.getProperty()
+                    .map(prop -> new PropertyFragment(
+                            prop.getPropertyId(),
+                            prop.getName(),
+                            prop.getCourseGroup().name(),
+                            prop.getCourseGroup().getHexColor(),
+                            prop.getTilePosition(),
+                            prop.getPurchasePrice().toCents(),
+                            prop.getBaseRent().toCents(),
+                            prop.getImprovementCost().toCents()))
+                    .orElse(null);
+            fragments.add(new TileFragment(tile.getTileId(), tile.getPosition(), tile.getType().name(),
+                    tile.getName(), property));
+        }
+        return List.copyOf(fragments);
+    }
+
+    private record TileFragment(UUID tileId, int position, String type, String name, PropertyFragment property) {
+    }
+
+    private record PropertyFragment(UUID propertyId, String name, String courseGroup, String courseGroupColor,
+                                    int tilePosition, long purchasePriceCents, long baseRentCents,
+                                    long improvementCostCents) {
+    }
+
     private TradeOfferDto mapTrade(TradeOffer trade, Map<UUID, String> playerNames) {
         if (trade == null) return null;
 
@@ -228,7 +273,8 @@ public class GameStateDtoMapper {
                 .status(game.getStatus().name())
                 .creatorName(creatorName)
                 .playerCount(game.getPlayers().size())
-                .maxPlayers(2)
+                .maxPlayers(GameConstants.MAX_PLAYERS)
+                .vsNpc(game.getPlayers().values().stream().anyMatch(PlayerState::isNpc))
                 .createdAt(game.getCreatedAt())
                 .build();
     }
@@ -33,6 +33,9 @@ public class GameStateResponse {
     private Instant createdAt;
     private Instant updatedAt;
 
+    // Sequence of the last logged event the state reflects; only set on historical states
+    private Long eventSequence;
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
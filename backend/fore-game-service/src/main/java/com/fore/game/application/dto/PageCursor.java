@@ -0,0 +1,39 @@
+package com.fore.game.application.dto;
+
+import com.fore.game.domain.exceptions.InvalidActionException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a list of games ordered newest first: the last game of a page.
+ * Clients get it as an opaque token and send it back unchanged for the next page.
+ */
+public record PageCursor(Instant createdAt, UUID gameId) {
+
+    public String encode() {
+        String position = createdAt + "|" + gameId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token from {@link #encode()}; null or blank means the first page.
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = position.indexOf('|');
+            return new PageCursor(
+                    Instant.parse(position.substring(0, separator)),
+                    UUID.fromString(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidActionException("Invalid page cursor");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.fore.game.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PlayerGamesResponse {
+
+    private List<PlayerGameSummary> games;
+    private int totalCount; // Games in this page
+    private String nextCursor; // Null on the last page
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PlayerGameSummary {
+        private UUID gameId;
+        private String status;
+        private String turnPhase;
+        private int turnNumber;
+        private UUID currentPlayerId;
+        private UUID winnerId;
+        private String opponentName;
+        private boolean vsNpc;
+        private Instant createdAt;
+        private Instant lastActivityAt;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Rule-based NPC decision engine.
@@ -16,12 +17,23 @@ import java.util.*;
  * - Purchase threshold (how much cash to keep in reserve)
  * - Improvement priority
  * - Trade evaluation strictness
+ *
+ * Buy and improve decisions are drawn from the given generator, so an engine built with a
+ * seeded one plays the same game again from the same dice.
  */
 @Slf4j
 @Component
 public class DeterministicNpcEngine implements NpcDecisionEngine {
 
-    private final Random random = new Random();
+    private final RandomGenerator random;
+
+    public DeterministicNpcEngine() {
+        this(new Random());
+    }
+
+    public DeterministicNpcEngine(RandomGenerator random) {
+        this.random = random;
+    }
 
     @Override
     public String getEngineType() {
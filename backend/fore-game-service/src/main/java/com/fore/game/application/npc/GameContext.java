@@ -104,13 +104,13 @@ public class GameContext {
                 .difficulty(npc.getNpcDifficulty())
                 .npcPosition(npc.getPosition())
                 .npcCurrency(npc.getCurrency())
-                .npcOwnedPropertyIds(new HashSet<>(npc.getOwnedPropertyIds()))
+                .npcOwnedPropertyIds(npc.getOwnedPropertyIds())
                 .npcInSandTrap(npc.isInSandTrap())
                 .opponentPlayerId(opponent.getPlayerId())
                 .opponentName(opponent.getDisplayName())
                 .opponentPosition(opponent.getPosition())
                 .opponentCurrency(opponent.getCurrency())
-                .opponentOwnedPropertyIds(new HashSet<>(opponent.getOwnedPropertyIds()))
+                .opponentOwnedPropertyIds(opponent.getOwnedPropertyIds())
                 .allProperties(allProperties)
                 .currentTileProperty(currentTileProperty)
                 .pendingTrade(game.getPendingTrade())
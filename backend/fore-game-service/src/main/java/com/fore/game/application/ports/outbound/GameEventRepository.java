@@ -1,20 +1,42 @@
 package com.fore.game.application.ports.outbound;
 
 import com.fore.game.domain.events.GameEvent;
+import com.fore.game.domain.events.LoggedEvent;
+import com.fore.game.domain.model.GameSession;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Port interface for game event persistence (append-only log).
  */
 public interface GameEventRepository {
 
-    void appendEvents(UUID gameId, List<GameEvent> events);
+    /**
+     * Append events after the game's last logged event, and advance its
+     * {@link GameSession#getEventSequence} to the last one appended. If the transaction
+     * rolls back, the sequence goes back to unknown so the next append reads the log.
+     */
+    void appendEvents(GameSession game, List<GameEvent> events);
 
     List<GameEvent> findByGameId(UUID gameId);
 
     List<GameEvent> findByGameIdAfterSequence(UUID gameId, long afterSequenceNum);
 
+    /**
+     * Events after a sequence number, read lazily from the log. Must be consumed inside a
+     * transaction and closed; a reader that stops early leaves the rest unread.
+     */
+    Stream<LoggedEvent> streamByGameIdAfterSequence(UUID gameId, long afterSequenceNum);
+
+    /**
+     * The latest checkpoint at or before a sequence number, as a game whose
+     * {@link GameSession#getEventSequence} is the checkpoint's sequence.
+     * A sequence inside the game's creation batch resolves to its first checkpoint.
+     */
+    Optional<GameSession> findCheckpoint(UUID gameId, long atOrBeforeSequence);
+
     long getNextSequenceNumber(UUID gameId);
 }
@@ -0,0 +1,25 @@
+package com.fore.game.application.ports.outbound;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port interface for the pre-rendered game state read model.
+ * Each game has one view: its latest state response as serialized JSON.
+ */
+public interface GameStateViewRepository {
+
+    /**
+     * Store the view for a game's state as of {@code eventSequence}.
+     * A view older than the stored one is ignored.
+     */
+    void save(UUID gameId, long eventSequence, byte[] stateJson);
+
+    Optional<StateView> findView(UUID gameId);
+
+    /**
+     * A stored view and the event sequence it was rendered at.
+     */
+    record StateView(long eventSequence, byte[] stateJson) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.fore.game.application.ports.outbound;
+
+import com.fore.game.application.dto.AvailableGamesResponse.GameSummary;
+import com.fore.game.application.dto.PageCursor;
+import com.fore.game.application.dto.PlayerGamesResponse.PlayerGameSummary;
+import com.fore.game.domain.model.enums.GameStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Port interface for game list queries that only need summary columns.
+ * Implementations must not load game state snapshots.
+ */
+public interface GameSummaryRepository {
+
+    /**
+     * Waiting games newest first, starting after {@code query.after()}.
+     */
+    List<GameSummary> findWaitingGames(WaitingGamesQuery query);
+
+    /**
+     * Filters are optional: a null {@code vsNpc} or {@code createdAfter} does not filter,
+     * a null {@code after} starts at the newest game.
+     */
+    record WaitingGamesQuery(Boolean vsNpc, Instant createdAfter, PageCursor after, int limit) {
+    }
+
+    /**
+     * A player's games in the given statuses, newest first, starting after {@code query.after()}.
+     */
+    List<PlayerGameSummary> findPlayerGames(PlayerGamesQuery query);
+
+    record PlayerGamesQuery(UUID playerId, Set<GameStatus> statuses, PageCursor after, int limit) {
+    }
+}
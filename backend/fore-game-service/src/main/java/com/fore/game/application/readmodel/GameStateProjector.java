@@ -0,0 +1,63 @@
+package com.fore.game.application.readmodel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fore.game.application.dto.GameStateResponse;
+import com.fore.game.application.ports.outbound.GameStateViewRepository;
+import com.fore.game.domain.model.GameSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Keeps the game state read model in step with commands.
+ * Use cases hand over the response they already built, so each state is mapped
+ * and serialized once, by the writer, instead of by every reader. The same bytes go into
+ * the {@link GameStateResponseCache} once the command commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameStateProjector {
+
+    private final GameStateViewRepository viewRepository;
+    private final ObjectMapper objectMapper;
+    private final GameStateResponseCache responseCache;
+
+    /**
+     * Store the response for the game's state after its last logged event.
+     * Call inside the command's transaction, after the events are appended.
+     * The cached state is dropped straight away and replaced only if the transaction commits.
+     */
+    public void project(GameSession game, GameStateResponse response) {
+        UUID gameId = game.getGameId();
+        long version = game.getEventSequence();
+        byte[] stateJson = render(response);
+        viewRepository.save(gameId, version, stateJson);
+
+        responseCache.evict(gameId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    responseCache.put(gameId, version, stateJson);
+                }
+            });
+        } else {
+            responseCache.put(gameId, version, stateJson);
+        }
+    }
+
+    /**
+     * The response as served: serialized with the same mapper the REST layer uses.
+     */
+    public byte[] render(GameStateResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to render state of game " + response.getGameId(), e);
+        }
+    }
+}
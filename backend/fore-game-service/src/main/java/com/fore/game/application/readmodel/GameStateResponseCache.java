@@ -0,0 +1,124 @@
+package com.fore.game.application.readmodel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serialized game states held in memory, so the burst of re-fetches that follows every action
+ * is served without touching the read model table.
+ * <p>
+ * One entry per game, tagged with the event sequence it was rendered at. An entry is only ever
+ * replaced by a newer version, so a reader that loaded a view just before a command committed
+ * cannot put back a state the command has already superseded. Entries are evicted least recently
+ * used first once their total size passes the byte budget.
+ * <p>
+ * Publishes {@code fore.game.state.cache.requests} tagged {@code result=hit|miss}, and
+ * {@code fore.game.state.cache.size} / {@code fore.game.state.cache.bytes} gauges.
+ */
+@Component
+public class GameStateResponseCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Counter hits;
+    private final Counter misses;
+    private long totalBytes;
+
+    public GameStateResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${fore.state-cache.max-bytes:67108864}") long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.hits = Counter.builder("fore.game.state.cache.requests")
+                .description("Game state reads served from the in-memory cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("fore.game.state.cache.requests")
+                .description("Game state reads that fell through to the read model")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("fore.game.state.cache.size", this, GameStateResponseCache::size)
+                .description("Game states held in the cache")
+                .register(meterRegistry);
+        Gauge.builder("fore.game.state.cache.bytes", this, GameStateResponseCache::bytes)
+                .description("Serialized bytes held in the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The cached state of a game, counting the lookup as a hit or a miss.
+     */
+    public Optional<byte[]> get(UUID gameId) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(gameId);
+        }
+        (entry != null ? hits : misses).increment();
+        return Optional.ofNullable(entry).map(Entry::stateJson);
+    }
+
+    /**
+     * Cache a game's state rendered at {@code version}, unless a newer one is already held.
+     * A state larger than the whole budget is not cached.
+     */
+    public void put(UUID gameId, long version, byte[] stateJson) {
+        if (stateJson.length > maxBytes) {
+            return;
+        }
+        synchronized (entries) {
+            Entry current = entries.get(gameId);
+            if (current != null) {
+                if (current.version() >= version) {
+                    return;
+                }
+                totalBytes -= current.stateJson().length;
+            }
+            entries.put(gameId, new Entry(version, stateJson));
+            totalBytes += stateJson.length;
+            evictOverBudget();
+        }
+    }
+
+    /**
+     * Drop a game's state, e.g. because a command is about to change it.
+     */
+    public void evict(UUID gameId) {
+        synchronized (entries) {
+            Entry removed = entries.remove(gameId);
+            if (removed != null) {
+                totalBytes -= removed.stateJson().length;
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long bytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    private void evictOverBudget() {
+        Iterator<Map.Entry<UUID, Entry>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().stateJson().length;
+            eldest.remove();
+        }
+    }
+
+    private record Entry(long version, byte[] stateJson) {
+    }
+}
@@ -0,0 +1,190 @@
+package com.fore.game.application.readmodel;
+
+import com.fore.game.api.websocket.GameEventPublisher;
+import com.fore.game.api.websocket.dto.LobbyUpdateMessage;
+import com.fore.game.api.websocket.dto.LobbyUpdateMessage.LobbyUpdateType;
+import com.fore.game.application.dto.AvailableGamesResponse.GameSummary;
+import com.fore.game.application.dto.GameStateDtoMapper;
+import com.fore.game.application.dto.PageCursor;
+import com.fore.game.application.ports.outbound.GameSummaryRepository;
+import com.fore.game.application.ports.outbound.GameSummaryRepository.WaitingGamesQuery;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.enums.GameStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory index of the games waiting for players, in lobby order (newest first).
+ * <p>
+ * Loaded from the database before the server starts taking requests, then kept current by the
+ * use cases that open and fill games, so lobby reads never reach Postgres. Every change is also
+ * pushed to /topic/lobby as a delta. Changes apply once the command's transaction commits.
+ * Like the resident game store, this assumes one instance owns the games it serves.
+ * <p>
+ * Publishes {@code fore.lobby.waiting}, the number of indexed games.
+ */
+@Slf4j
+@Component
+public class LobbyIndex implements SmartInitializingSingleton {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private static final Comparator<PageCursor> NEWEST_FIRST = Comparator
+            .comparing(PageCursor::createdAt)
+            .thenComparing(PageCursor::gameId)
+            .reversed();
+
+    private final GameSummaryRepository summaryRepository;
+    private final GameStateDtoMapper dtoMapper;
+    private final GameEventPublisher eventPublisher;
+
+    private final ConcurrentSkipListMap<PageCursor, GameSummary> games = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final Map<UUID, PageCursor> positions = new ConcurrentHashMap<>();
+
+    // Games closed before their opening was applied, e.g. joined between the create's commit and its callback
+    private final Set<UUID> closedBeforeOpened = new HashSet<>();
+
+    public LobbyIndex(
+            GameSummaryRepository summaryRepository,
+            GameStateDtoMapper dtoMapper,
+            GameEventPublisher eventPublisher,
+            MeterRegistry meterRegistry) {
+        this.summaryRepository = summaryRepository;
+        this.dtoMapper = dtoMapper;
+        this.eventPublisher = eventPublisher;
+        Gauge.builder("fore.lobby.waiting", positions, Map::size)
+                .description("Games waiting for players in the lobby index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load every waiting game, a page at a time. Runs once all beans exist and before the
+     * web server starts, so no create or join can interleave with it.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        PageCursor after = null;
+        List<GameSummary> page;
+        do {
+            page = summaryRepository.findWaitingGames(new WaitingGamesQuery(null, null, after, REBUILD_PAGE_SIZE));
+            page.forEach(this::add);
+            if (!page.isEmpty()) {
+                GameSummary last = page.get(page.size() - 1);
+                after = new PageCursor(last.getCreatedAt(), last.getGameId());
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        log.info("Lobby index loaded with {} waiting games", positions.size());
+    }
+
+    /**
+     * Waiting games newest first, starting after {@code query.after()}, same contract as
+     * {@link GameSummaryRepository#findWaitingGames}.
+     */
+    public List<GameSummary> findWaitingGames(WaitingGamesQuery query) {
+        ConcurrentNavigableMap<PageCursor, GameSummary> from = query.after() != null
+                ? games.tailMap(query.after(), false)
+                : games;
+        Instant createdAfter = query.createdAfter();
+        List<GameSummary> page = new ArrayList<>(Math.min(query.limit(), 64));
+        for (GameSummary game : from.values()) {
+            if (createdAfter != null && !game.getCreatedAt().isAfter(createdAfter)) {
+                break; // Everything further on is older
+            }
+            if (query.vsNpc() == null || query.vsNpc() == game.isVsNpc()) {
+                page.add(game);
+                if (page.size() == query.limit()) {
+                    break;
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * A new game is open for players: index it and announce it once the creation commits.
+     */
+    public void gameOpened(GameSession game) {
+        if (game.getStatus() != GameStatus.WAITING) {
+            return;
+        }
+        GameSummary summary = dtoMapper.toGameSummary(game);
+        afterCommit(() -> {
+            synchronized (closedBeforeOpened) {
+                if (closedBeforeOpened.remove(summary.getGameId())) {
+                    return;
+                }
+                add(summary);
+            }
+            publish(LobbyUpdateType.GAME_ADDED, summary.getGameId(), summary);
+        });
+    }
+
+    /**
+     * A game stopped accepting players: drop it and announce it once the change commits.
+     */
+    public void gameClosed(UUID gameId) {
+        afterCommit(() -> {
+            synchronized (closedBeforeOpened) {
+                if (!remove(gameId)) {
+                    closedBeforeOpened.add(gameId);
+                    return;
+                }
+            }
+            publish(LobbyUpdateType.GAME_REMOVED, gameId, null);
+        });
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    private void add(GameSummary summary) {
+        PageCursor position = new PageCursor(summary.getCreatedAt(), summary.getGameId());
+        games.put(position, summary);
+        positions.put(summary.getGameId(), position);
+    }
+
+    private boolean remove(UUID gameId) {
+        PageCursor position = positions.remove(gameId);
+        return position != null && games.remove(position) != null;
+    }
+
+    private void publish(LobbyUpdateType type, UUID gameId, GameSummary summary) {
+        eventPublisher.publishLobbyUpdate(LobbyUpdateMessage.builder()
+                .updateType(type)
+                .gameId(gameId)
+                .game(summary)
+                .timestamp(Instant.now())
+                .build());
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
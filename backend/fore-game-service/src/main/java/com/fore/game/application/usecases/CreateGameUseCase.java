@@ -7,6 +7,8 @@ import com.fore.game.application.dto.GameStateResponse;
 import com.fore.game.application.dto.GameStateDtoMapper;
 import com.fore.game.application.ports.outbound.GameEventRepository;
 import com.fore.game.application.ports.outbound.GameRepository;
+import com.fore.game.application.readmodel.GameStateProjector;
+import com.fore.game.application.readmodel.LobbyIndex;
 import com.fore.game.domain.events.GameEvent;
 import com.fore.game.domain.model.GameSession;
 import com.fore.game.domain.model.enums.Difficulty;
@@ -25,6 +27,8 @@ public class CreateGameUseCase {
     private final GameRepository gameRepository;
     private final GameEventRepository eventRepository;
     private final GameStateDtoMapper dtoMapper;
+    private final GameStateProjector stateProjector;
+    private final LobbyIndex lobbyIndex;
     private final GameEventPublisher eventPublisher;
 
     @Transactional
@@ -50,12 +54,14 @@ public class CreateGameUseCase {
         GameSession savedGame = gameRepository.save(game);
         
         // Persist events
-        eventRepository.appendEvents(savedGame.getGameId(), events);
+        eventRepository.appendEvents(savedGame, events);
 
         log.info("Created game: {} with status: {}", 
                 savedGame.getGameId(), savedGame.getStatus());
 
         GameStateResponse response = dtoMapper.toGameStateResponse(savedGame);
+        stateProjector.project(savedGame, response);
+        lobbyIndex.gameOpened(savedGame);
 
         // Publish WebSocket event
         eventPublisher.publishGameState(
@@ -1,15 +1,20 @@
 package com.fore.game.application.usecases;
 
+import com.fore.common.ids.TimeOrderedIds;
 import com.fore.common.types.Money;
 import com.fore.game.api.websocket.GameEventPublisher;
 import com.fore.game.api.websocket.dto.GameUpdateMessage.UpdateType;
+import com.fore.game.application.concurrency.GameCommandExecutor;
+import com.fore.game.application.concurrency.GameConflictRetry;
 import com.fore.game.application.dto.ActionResultResponse;
 import com.fore.game.application.dto.GameStateDtoMapper;
+import com.fore.game.application.dto.GameStateResponse;
 import com.fore.game.application.dto.PlayerActionRequest;
 import com.fore.game.application.dto.PlayerActionRequest.ActionType;
 import com.fore.game.application.npc.NpcTurnService;
 import com.fore.game.application.ports.outbound.GameEventRepository;
 import com.fore.game.application.ports.outbound.GameRepository;
+import com.fore.game.application.readmodel.GameStateProjector;
 import com.fore.game.domain.events.GameEvent;
 import com.fore.game.domain.exceptions.GameNotFoundException;
 import com.fore.game.domain.exceptions.InvalidActionException;
@@ -22,7 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationContext;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashSet;
 import java.util.List;
@@ -36,11 +41,24 @@ public class ExecuteActionUseCase {
     private final GameRepository gameRepository;
     private final GameEventRepository eventRepository;
     private final GameStateDtoMapper dtoMapper;
+    private final GameStateProjector stateProjector;
     private final GameEventPublisher eventPublisher;
     private final ApplicationContext applicationContext; // For async self-invocation
+    private final GameCommandExecutor commandExecutor;
+    private final GameConflictRetry conflictRetry;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * Runs the action in the game's command lane, so concurrent requests for one game
+     * (e.g. a human request racing the async NPC turn) apply one after another.
+     * If another node saved the game first, the action is re-applied to a fresh load.
+     */
     public ActionResultResponse execute(UUID gameId, PlayerActionRequest request) {
+        return commandExecutor.execute(gameId, () -> conflictRetry.execute(gameId,
+                () -> transactionTemplate.execute(status -> executeInLane(gameId, request))));
+    }
+
+    private ActionResultResponse executeInLane(UUID gameId, PlayerActionRequest request) {
         log.info("Executing action {} for player {} in game {}", 
                 request.getActionType(), request.getPlayerId(), gameId);
 
@@ -62,15 +80,18 @@ public class ExecuteActionUseCase {
         GameSession savedGame = gameRepository.save(game);
         
         // Persist events
-        eventRepository.appendEvents(savedGame.getGameId(), events);
+        eventRepository.appendEvents(savedGame, events);
 
         log.info("Action {} completed for game {}", request.getActionType(), gameId);
 
+        GameStateResponse gameState = dtoMapper.toGameStateResponse(savedGame);
+        stateProjector.project(savedGame, gameState);
+
         ActionResultResponse.ActionResultResponseBuilder responseBuilder = ActionResultResponse.builder()
                 .success(true)
                 .actionType(request.getActionType().name())
                 .events(dtoMapper.toEventDtos(events))
-                .gameState(dtoMapper.toGameStateResponse(savedGame));
+                .gameState(gameState);
 
         if (diceRoll != null) {
             responseBuilder.diceRoll(dtoMapper.toDiceRollDto(diceRoll));
@@ -163,7 +184,7 @@ public class ExecuteActionUseCase {
 
     private TradeOffer buildTradeOffer(UUID offeringPlayerId, PlayerActionRequest.TradeOfferRequest request) {
         return TradeOffer.builder()
-                .offerId(UUID.randomUUID())
+                .offerId(TimeOrderedIds.next())
                 .offeringPlayerId(offeringPlayerId)
                 .receivingPlayerId(request.getReceivingPlayerId())
                 .offeredPropertyIds(request.getOfferedPropertyIds() != null 
@@ -0,0 +1,76 @@
+package com.fore.game.application.usecases;
+
+import com.fore.game.application.dto.GameStateDtoMapper;
+import com.fore.game.application.dto.GameStateResponse;
+import com.fore.game.domain.exceptions.InvalidActionException;
+import com.fore.game.domain.model.GameSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Point-in-time game state for support and anti-cheat investigations.
+ * States are rebuilt from the nearest checkpoint and kept in a small LRU cache: investigators
+ * tend to step back and forth around the same few turns of one game.
+ */
+@Slf4j
+@Service
+public class GetGameHistoryUseCase {
+
+    private final ReplayGameUseCase replayGameUseCase;
+    private final GameStateDtoMapper dtoMapper;
+    private final Map<StateKey, GameStateResponse> cache;
+
+    public GetGameHistoryUseCase(
+            ReplayGameUseCase replayGameUseCase,
+            GameStateDtoMapper dtoMapper,
+            @Value("${fore.history.cache-size:256}") int cacheSize) {
+        this.replayGameUseCase = replayGameUseCase;
+        this.dtoMapper = dtoMapper;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StateKey, GameStateResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * The game as it stood once the command that logged {@code atSequence} had run.
+     * A sequence past the end of the log gives the latest state, which is not cached
+     * because later events will still change it.
+     */
+    public GameStateResponse getStateAt(UUID gameId, long atSequence) {
+        if (atSequence < 1) {
+            throw new InvalidActionException("atSequence must be at least 1");
+        }
+
+        StateKey key = new StateKey(gameId, atSequence);
+        GameStateResponse cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null) {
+            return cached;
+        }
+
+        log.debug("Rebuilding game {} at sequence {}", gameId, atSequence);
+        GameSession game = replayGameUseCase.rebuild(gameId, atSequence);
+        GameStateResponse response = dtoMapper.toGameStateResponse(game);
+        response.setEventSequence(game.getEventSequence());
+
+        if (game.getEventSequence() >= atSequence) {
+            synchronized (cache) {
+                cache.put(key, response);
+            }
+        }
+        return response;
+    }
+
+    private record StateKey(UUID gameId, long sequence) {
+    }
+}
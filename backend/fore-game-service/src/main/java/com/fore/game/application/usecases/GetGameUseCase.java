@@ -1,10 +1,21 @@
 package com.fore.game.application.usecases;
 
+import com.fore.game.application.concurrency.GameCommandExecutor;
 import com.fore.game.application.dto.AvailableGamesResponse;
 import com.fore.game.application.dto.GameStateResponse;
 import com.fore.game.application.dto.GameStateDtoMapper;
+import com.fore.game.application.dto.PageCursor;
+import com.fore.game.application.dto.PlayerGamesResponse;
 import com.fore.game.application.ports.outbound.GameRepository;
+import com.fore.game.application.ports.outbound.GameSummaryRepository;
+import com.fore.game.application.ports.outbound.GameSummaryRepository.PlayerGamesQuery;
+import com.fore.game.application.ports.outbound.GameSummaryRepository.WaitingGamesQuery;
+import com.fore.game.application.ports.outbound.GameStateViewRepository;
+import com.fore.game.application.readmodel.GameStateProjector;
+import com.fore.game.application.readmodel.LobbyIndex;
+import com.fore.game.application.readmodel.GameStateResponseCache;
 import com.fore.game.domain.exceptions.GameNotFoundException;
+import com.fore.game.domain.exceptions.InvalidActionException;
 import com.fore.game.domain.model.GameSession;
 import com.fore.game.domain.model.enums.GameStatus;
 import lombok.RequiredArgsConstructor;
@@ -12,40 +23,98 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GetGameUseCase {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Set<GameStatus> ACTIVE_STATUSES = EnumSet.of(GameStatus.WAITING, GameStatus.IN_PROGRESS);
+
     private final GameRepository gameRepository;
+    private final GameSummaryRepository summaryRepository;
     private final GameStateDtoMapper dtoMapper;
+    private final GameCommandExecutor commandExecutor;
+    private final GameStateViewRepository stateViewRepository;
+    private final GameStateProjector stateProjector;
+    private final LobbyIndex lobbyIndex;
+    private final GameStateResponseCache responseCache;
 
-    @Transactional(readOnly = true)
+    /**
+     * The game's state as served: the cached or stored read model, written by the last command.
+     * Falls back to mapping the game for games whose view has not been written yet.
+     */
+    public byte[] getJsonById(UUID gameId) {
+        return responseCache.get(gameId)
+                .or(() -> stateViewRepository.findView(gameId).map(view -> {
+                    responseCache.put(gameId, view.eventSequence(), view.stateJson());
+                    return view.stateJson();
+                }))
+                .orElseGet(() -> stateProjector.render(getById(gameId)));
+    }
+
+    /**
+     * Reads in the game's command lane so the state is never observed mid-command.
+     */
     public GameStateResponse getById(UUID gameId) {
         log.debug("Fetching game: {}", gameId);
 
-        GameSession game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new GameNotFoundException(gameId));
+        return commandExecutor.execute(gameId, () -> {
+            GameSession game = gameRepository.findById(gameId)
+                    .orElseThrow(() -> new GameNotFoundException(gameId));
 
-        return dtoMapper.toGameStateResponse(game);
+            return dtoMapper.toGameStateResponse(game);
+        });
     }
 
-    @Transactional(readOnly = true)
-    public AvailableGamesResponse getAvailableGames() {
-        log.debug("Fetching available games");
-
-        List<GameSession> waitingGames = gameRepository.findByStatus(GameStatus.WAITING);
+    /**
+     * One page of the lobby, newest games first, served from the in-memory lobby index.
+     */
+    public AvailableGamesResponse getAvailableGames(Boolean vsNpc, Instant createdAfter, String cursor, int limit) {
+        checkPageSize(limit);
+        log.debug("Fetching available games (vsNpc={}, createdAfter={}, limit={})", vsNpc, createdAfter, limit);
 
-        List<AvailableGamesResponse.GameSummary> summaries = waitingGames.stream()
-                .map(dtoMapper::toGameSummary)
-                .toList();
+        // One extra row tells whether there is a next page
+        List<AvailableGamesResponse.GameSummary> summaries = new ArrayList<>(lobbyIndex.findWaitingGames(
+                new WaitingGamesQuery(vsNpc, createdAfter, PageCursor.decode(cursor), limit + 1)));
+        String nextCursor = trimToPage(summaries, limit,
+                last -> new PageCursor(last.getCreatedAt(), last.getGameId()));
 
         return AvailableGamesResponse.builder()
                 .games(summaries)
                 .totalCount(summaries.size())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * One page of a player's games, newest first, from summary columns only.
+     * Without a status the player's active games are listed. Resident games reach the
+     * database write-behind, so their turn fields can trail the live game by one flush.
+     */
+    public PlayerGamesResponse getGameSummariesByPlayer(UUID playerId, GameStatus status, String cursor, int limit) {
+        checkPageSize(limit);
+        log.debug("Fetching game summaries for player {} (status={}, limit={})", playerId, status, limit);
+
+        Set<GameStatus> statuses = status != null ? EnumSet.of(status) : ACTIVE_STATUSES;
+        List<PlayerGamesResponse.PlayerGameSummary> summaries = new ArrayList<>(summaryRepository.findPlayerGames(
+                new PlayerGamesQuery(playerId, statuses, PageCursor.decode(cursor), limit + 1)));
+        String nextCursor = trimToPage(summaries, limit,
+                last -> new PageCursor(last.getCreatedAt(), last.getGameId()));
+
+        return PlayerGamesResponse.builder()
+                .games(summaries)
+                .totalCount(summaries.size())
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -57,4 +126,22 @@ public class GetGameUseCase {
                 .map(dtoMapper::toGameStateResponse)
                 .toList();
     }
+
+    private static void checkPageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidActionException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Cut a page fetched with one extra row down to {@code limit}, returning the next page's
+     * cursor, or null when there is no next page.
+     */
+    private static <T> String trimToPage(List<T> rows, int limit, Function<T, PageCursor> positionOf) {
+        if (rows.size() <= limit) {
+            return null;
+        }
+        rows.subList(limit, rows.size()).clear();
+        return positionOf.apply(rows.get(limit - 1)).encode();
+    }
 }
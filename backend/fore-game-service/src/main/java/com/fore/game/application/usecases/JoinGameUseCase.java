@@ -2,11 +2,15 @@ package com.fore.game.application.usecases;
 
 import com.fore.game.api.websocket.GameEventPublisher;
 import com.fore.game.api.websocket.dto.GameUpdateMessage.UpdateType;
+import com.fore.game.application.concurrency.GameCommandExecutor;
+import com.fore.game.application.concurrency.GameConflictRetry;
 import com.fore.game.application.dto.GameStateResponse;
 import com.fore.game.application.dto.GameStateDtoMapper;
 import com.fore.game.application.dto.JoinGameRequest;
 import com.fore.game.application.ports.outbound.GameEventRepository;
 import com.fore.game.application.ports.outbound.GameRepository;
+import com.fore.game.application.readmodel.GameStateProjector;
+import com.fore.game.application.readmodel.LobbyIndex;
 import com.fore.game.domain.events.GameEvent;
 import com.fore.game.domain.exceptions.GameNotFoundException;
 import com.fore.game.domain.exceptions.InvalidGameStateException;
@@ -15,7 +19,7 @@ import com.fore.game.domain.model.enums.GameStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.UUID;
@@ -28,10 +32,19 @@ public class JoinGameUseCase {
     private final GameRepository gameRepository;
     private final GameEventRepository eventRepository;
     private final GameStateDtoMapper dtoMapper;
+    private final GameStateProjector stateProjector;
+    private final LobbyIndex lobbyIndex;
     private final GameEventPublisher eventPublisher;
+    private final GameCommandExecutor commandExecutor;
+    private final GameConflictRetry conflictRetry;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
     public GameStateResponse execute(UUID gameId, JoinGameRequest request) {
+        return commandExecutor.execute(gameId, () -> conflictRetry.execute(gameId,
+                () -> transactionTemplate.execute(status -> executeInLane(gameId, request))));
+    }
+
+    private GameStateResponse executeInLane(UUID gameId, JoinGameRequest request) {
         log.info("Player {} joining game {}", request.getPlayerId(), gameId);
 
         GameSession game = gameRepository.findById(gameId)
@@ -50,12 +63,16 @@ public class JoinGameUseCase {
         GameSession savedGame = gameRepository.save(game);
         
         // Persist events
-        eventRepository.appendEvents(savedGame.getGameId(), events);
+        eventRepository.appendEvents(savedGame, events);
 
         log.info("Player {} joined game {}. Game status: {}", 
                 request.getPlayerId(), gameId, savedGame.getStatus());
 
         GameStateResponse response = dtoMapper.toGameStateResponse(savedGame);
+        stateProjector.project(savedGame, response);
+        if (savedGame.getStatus() != GameStatus.WAITING) {
+            lobbyIndex.gameClosed(gameId);
+        }
 
         // Publish WebSocket events
         eventPublisher.publishGameState(
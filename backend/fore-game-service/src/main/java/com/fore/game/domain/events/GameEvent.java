@@ -1,5 +1,7 @@
 package com.fore.game.domain.events;
 
+import com.fore.common.ids.TimeOrderedIds;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
@@ -9,8 +11,10 @@ import java.util.UUID;
 @Getter
 @SuperBuilder
 public abstract class GameEvent {
-    private final UUID eventId = UUID.randomUUID();
+    @Builder.Default
+    private final UUID eventId = TimeOrderedIds.next();
     private final UUID gameId;
+    @Builder.Default
     private final Instant occurredAt = Instant.now();
 
     public abstract String getEventType();
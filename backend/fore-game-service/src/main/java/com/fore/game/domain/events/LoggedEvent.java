@@ -0,0 +1,8 @@
+package com.fore.game.domain.events;
+
+/**
+ * An event as read back from a game's event log, with the sequence number it was logged at.
+ * Sequence numbers increase but need not be contiguous.
+ */
+public record LoggedEvent(long sequenceNum, GameEvent event) {
+}
@@ -0,0 +1,13 @@
+package com.fore.game.domain.exceptions;
+
+import java.util.UUID;
+
+/**
+ * Another writer saved the game since it was loaded.
+ */
+public class GameConcurrencyException extends GameException {
+
+    public GameConcurrencyException(UUID gameId) {
+        super("CONCURRENT_MODIFICATION", "Game was modified concurrently: " + gameId, true);
+    }
+}
@@ -2,6 +2,7 @@ package com.fore.game.domain.model;
 
 import com.fore.game.domain.model.enums.CourseGroup;
 import com.fore.game.domain.model.enums.TileType;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.*;
@@ -17,15 +18,35 @@ public class Board {
     public static final int TOTAL_TILES = 24;
     public static final int START_POSITION = 0;
 
+    private final String templateId; // null for boards not built from a BoardTemplate
     private final List<Tile> tiles;
     private final Map<UUID, Property> propertiesById;
     private final Map<Integer, Tile> tilesByPosition;
 
+    // Group index and per-owner counts (indexed by CourseGroup ordinal), kept current by Property
+    private final Map<CourseGroup, List<Property>> propertiesByGroup;
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, int[]> groupCountsByOwner = new HashMap<>();
+
+    // Dense property ordinals for PlayerState ownership masks
+    private final PropertyIndex propertyIndex = new PropertyIndex();
+    @Getter(AccessLevel.NONE)
+    private final Property[] propertiesByOrdinal = new Property[PropertyIndex.CAPACITY];
+
+    // Any property's owner, improvement or mortgage changed since the session last cleared it
+    @Getter(AccessLevel.NONE)
+    private boolean propertiesChanged;
+
     public Board(List<Tile> tiles) {
+        this(null, tiles);
+    }
+
+    public Board(String templateId, List<Tile> tiles) {
         if (tiles.size() != TOTAL_TILES) {
             throw new IllegalArgumentException("Board must have exactly " + TOTAL_TILES + " tiles");
         }
 
+        this.templateId = templateId;
         this.tiles = List.copyOf(tiles);
         this.tilesByPosition = tiles.stream()
                 .collect(Collectors.toUnmodifiableMap(Tile::getPosition, t -> t));
@@ -34,6 +55,23 @@ public class Board {
                 .filter(Tile::isProperty)
                 .map(t -> t.getProperty().orElseThrow())
                 .collect(Collectors.toUnmodifiableMap(Property::getPropertyId, p -> p));
+
+        Map<CourseGroup, List<Property>> byGroup = new EnumMap<>(CourseGroup.class);
+        for (CourseGroup group : CourseGroup.values()) {
+            byGroup.put(group, new ArrayList<>());
+        }
+        for (Tile tile : this.tiles) {
+            tile.getProperty().ifPresent(property -> {
+                byGroup.get(property.getCourseGroup()).add(property);
+                propertiesByOrdinal[propertyIndex.intern(property.getPropertyId())] = property;
+                property.attachTo(this);
+                if (property.isOwned()) {
+                    adjustGroupCount(property.getOwnerId(), property.getCourseGroup(), 1);
+                }
+            });
+        }
+        byGroup.replaceAll((group, properties) -> List.copyOf(properties));
+        this.propertiesByGroup = Collections.unmodifiableMap(byGroup);
     }
 
     public Tile getTileAt(int position) {
@@ -52,6 +90,17 @@ public class Board {
         return property;
     }
 
+    /**
+     * Property for an ordinal from this board's {@link PropertyIndex}.
+     */
+    public Property getPropertyByOrdinal(int ordinal) {
+        Property property = ordinal >= 0 && ordinal < propertiesByOrdinal.length ? propertiesByOrdinal[ordinal] : null;
+        if (property == null) {
+            throw new IllegalArgumentException("Property not found: " + propertyIndex.idOf(ordinal));
+        }
+        return property;
+    }
+
     public Optional<Property> getPropertyAt(int position) {
         return getTileAt(position).getProperty();
     }
@@ -61,9 +110,7 @@ public class Board {
     }
 
     public List<Property> getPropertiesInGroup(CourseGroup group) {
-        return propertiesById.values().stream()
-                .filter(p -> p.getCourseGroup() == group)
-                .toList();
+        return propertiesByGroup.get(group);
     }
 
     public List<Property> getPropertiesOwnedBy(UUID playerId) {
@@ -73,14 +120,18 @@ public class Board {
     }
 
     public boolean ownsCompleteGroup(UUID playerId, CourseGroup group) {
-        List<Property> groupProperties = getPropertiesInGroup(group);
-        return groupProperties.stream().allMatch(p -> p.isOwnedBy(playerId));
+        // A group with no properties on this board counts as complete
+        return countPropertiesInGroupOwnedBy(playerId, group) == propertiesByGroup.get(group).size();
     }
 
     public Set<CourseGroup> getCompleteGroupsOwnedBy(UUID playerId) {
-        return Arrays.stream(CourseGroup.values())
-                .filter(group -> ownsCompleteGroup(playerId, group))
-                .collect(Collectors.toSet());
+        Set<CourseGroup> groups = EnumSet.noneOf(CourseGroup.class);
+        for (CourseGroup group : CourseGroup.values()) {
+            if (ownsCompleteGroup(playerId, group)) {
+                groups.add(group);
+            }
+        }
+        return groups;
     }
 
     public int calculateNewPosition(int currentPosition, int diceTotal) {
@@ -96,8 +147,39 @@ public class Board {
      * Count properties owned by player in a specific group
      */
     public int countPropertiesInGroupOwnedBy(UUID playerId, CourseGroup group) {
-        return (int) getPropertiesInGroup(group).stream()
-                .filter(p -> p.isOwnedBy(playerId))
-                .count();
+        int[] counts = groupCountsByOwner.get(playerId);
+        return counts != null ? counts[group.ordinal()] : 0;
+    }
+
+    boolean isPropertiesChanged() {
+        return propertiesChanged;
+    }
+
+    void clearPropertiesChanged() {
+        propertiesChanged = false;
+    }
+
+    /**
+     * Called by a property on this board whenever its improvement or mortgage changes.
+     */
+    void onPropertyStateChanged() {
+        propertiesChanged = true;
+    }
+
+    /**
+     * Called by a property on this board whenever its owner changes.
+     */
+    void onOwnerChanged(Property property, UUID previousOwnerId, UUID newOwnerId) {
+        propertiesChanged = true;
+        if (previousOwnerId != null) {
+            adjustGroupCount(previousOwnerId, property.getCourseGroup(), -1);
+        }
+        if (newOwnerId != null) {
+            adjustGroupCount(newOwnerId, property.getCourseGroup(), 1);
+        }
+    }
+
+    private void adjustGroupCount(UUID ownerId, CourseGroup group, int delta) {
+        groupCountsByOwner.computeIfAbsent(ownerId, id -> new int[CourseGroup.values().length])[group.ordinal()] += delta;
     }
 }
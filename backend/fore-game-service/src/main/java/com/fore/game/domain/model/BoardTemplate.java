@@ -0,0 +1,50 @@
+package com.fore.game.domain.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An immutable, versioned board layout. Every board created from a template has the same
+ * tile and property ids, so a saved game only needs the template id and the mutable
+ * property state to be rebuilt.
+ */
+@Getter
+public final class BoardTemplate {
+
+    private final String id;
+    private final List<TileDefinition> tiles;
+
+    // Tiles without a property have no per-game state, so every board shares one instance
+    @Getter(AccessLevel.NONE)
+    private final Tile[] sharedTiles;
+
+    public BoardTemplate(String id, List<TileDefinition> tiles) {
+        this.id = id;
+        this.tiles = List.copyOf(tiles);
+        this.sharedTiles = new Tile[tiles.size()];
+        for (int i = 0; i < sharedTiles.length; i++) {
+            TileDefinition tile = this.tiles.get(i);
+            sharedTiles[i] = tile.property() == null ? new Tile(tile) : null;
+        }
+    }
+
+    public Board createBoard() {
+        List<Tile> boardTiles = new ArrayList<>(tiles.size());
+        for (int i = 0; i < sharedTiles.length; i++) {
+            boardTiles.add(sharedTiles[i] != null ? sharedTiles[i] : new Tile(tiles.get(i)));
+        }
+        return new Board(id, boardTiles);
+    }
+
+    /**
+     * Stable id for a tile or property of a template, derived from the template id and position.
+     */
+    static UUID stableId(String templateId, String kind, int position) {
+        return UUID.nameUUIDFromBytes((templateId + "/" + kind + "/" + position).getBytes(StandardCharsets.UTF_8));
+    }
+}
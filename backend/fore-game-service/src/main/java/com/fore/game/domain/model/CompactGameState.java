@@ -0,0 +1,852 @@
+package com.fore.game.domain.model;
+
+import com.fore.common.ids.TimeOrderedIds;
+import com.fore.common.types.Money;
+import com.fore.game.domain.model.enums.CourseGroup;
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.game.domain.model.enums.GameStatus;
+import com.fore.game.domain.model.enums.ImprovementLevel;
+import com.fore.game.domain.model.enums.TileType;
+import com.fore.game.domain.model.enums.TurnPhase;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Primitive-array mirror of a {@link GameSession} for simulation and NPC search.
+ *
+ * Property state is indexed by tile position and player state by seat (join order),
+ * so the movement, rent, bankruptcy and trade rules run without allocating.
+ * Commands follow {@code GameSession} exactly, including its error messages,
+ * but record no domain events. Trades name properties by a bit mask of tile positions.
+ *
+ * Not thread-safe; use {@link #copy()} to branch a search.
+ */
+public final class CompactGameState {
+
+    public static final byte NO_OWNER = -1;
+    public static final int NO_SEAT = -1;
+
+    private static final int SAND_TRAP_POSITION = 8; // Same as GameSession.sendToSandTrap
+    private static final long PASSING_SALARY_CENTS = GameConstants.PASSING_SALARY.toCents();
+    private static final long WATER_HAZARD_PENALTY_CENTS = GameConstants.WATER_HAZARD_PENALTY.toCents();
+
+    private final Layout layout;
+    private final Seats seats;
+    private final DiceSource diceSource;
+
+    // Per-tile property state
+    private final byte[] owner;
+    private final byte[] improvementLevel;
+    private final byte[] mortgaged;
+
+    // Per-seat player state
+    private final int[] position;
+    private final long[] cash;
+    private final int[] turnsInSandTrap;
+    private final int[] consecutiveDoubles;
+    private final byte[] bankrupt;
+
+    private GameStatus status;
+    private int currentSeat;
+    private TurnPhase turnPhase;
+    private int turnNumber;
+    private int winnerSeat;
+
+    // Pending trade, valid while tradePending is set
+    private boolean tradePending;
+    private UUID tradeOfferId;
+    private int tradeOfferingSeat;
+    private int tradeReceivingSeat;
+    private long tradeOfferedTiles;
+    private long tradeOfferedCents;
+    private long tradeRequestedTiles;
+    private long tradeRequestedCents;
+
+    private CompactGameState(Layout layout, Seats seats, DiceSource diceSource) {
+        int tileCount = layout.tileTypes.length;
+        int seatCount = seats.playerIds.length;
+        this.layout = layout;
+        this.seats = seats;
+        this.diceSource = diceSource;
+        this.owner = new byte[tileCount];
+        this.improvementLevel = new byte[tileCount];
+        this.mortgaged = new byte[tileCount];
+        this.position = new int[seatCount];
+        this.cash = new long[seatCount];
+        this.turnsInSandTrap = new int[seatCount];
+        this.consecutiveDoubles = new int[seatCount];
+        this.bankrupt = new byte[seatCount];
+    }
+
+    private CompactGameState(CompactGameState source) {
+        this.layout = source.layout;
+        this.seats = source.seats;
+        this.diceSource = source.diceSource;
+        this.owner = source.owner.clone();
+        this.improvementLevel = source.improvementLevel.clone();
+        this.mortgaged = source.mortgaged.clone();
+        this.position = source.position.clone();
+        this.cash = source.cash.clone();
+        this.turnsInSandTrap = source.turnsInSandTrap.clone();
+        this.consecutiveDoubles = source.consecutiveDoubles.clone();
+        this.bankrupt = source.bankrupt.clone();
+        this.status = source.status;
+        this.currentSeat = source.currentSeat;
+        this.turnPhase = source.turnPhase;
+        this.turnNumber = source.turnNumber;
+        this.winnerSeat = source.winnerSeat;
+        this.tradePending = source.tradePending;
+        this.tradeOfferId = source.tradeOfferId;
+        this.tradeOfferingSeat = source.tradeOfferingSeat;
+        this.tradeReceivingSeat = source.tradeReceivingSeat;
+        this.tradeOfferedTiles = source.tradeOfferedTiles;
+        this.tradeOfferedCents = source.tradeOfferedCents;
+        this.tradeRequestedTiles = source.tradeRequestedTiles;
+        this.tradeRequestedCents = source.tradeRequestedCents;
+    }
+
+    // ==================== Conversion ====================
+
+    /**
+     * Capture the current state of a session. Ownership is read from the board.
+     * The compact state shares the session's dice source.
+     */
+    public static CompactGameState from(GameSession session) {
+        return from(session, session.getDiceSource());
+    }
+
+    /**
+     * Capture the current state of a session, rolling from separate dice.
+     */
+    public static CompactGameState from(GameSession session, DiceSource diceSource) {
+        Layout layout = new Layout(session.getBoard());
+        Seats seats = new Seats(session);
+        CompactGameState state = new CompactGameState(layout, seats, diceSource);
+
+        for (Tile tile : session.getBoard().getTiles()) {
+            int pos = tile.getPosition();
+            state.owner[pos] = NO_OWNER;
+            if (tile.isProperty()) {
+                Property property = tile.getProperty().orElseThrow();
+                state.owner[pos] = property.isOwned() ? (byte) seats.seatOf(property.getOwnerId()) : NO_OWNER;
+                state.improvementLevel[pos] = (byte) property.getImprovementLevel().getLevel();
+                state.mortgaged[pos] = property.isMortgaged() ? (byte) 1 : 0;
+            }
+        }
+
+        int seat = 0;
+        for (PlayerState player : session.getPlayers().values()) {
+            state.position[seat] = player.getPosition();
+            state.cash[seat] = player.getCurrency().toCents();
+            state.turnsInSandTrap[seat] = player.getTurnsInSandTrap();
+            state.consecutiveDoubles[seat] = player.getConsecutiveDoubles();
+            state.bankrupt[seat] = player.isBankrupt() ? (byte) 1 : 0;
+            seat++;
+        }
+
+        state.status = session.getStatus();
+        state.currentSeat = session.getCurrentPlayerId() != null ? seats.seatOf(session.getCurrentPlayerId()) : NO_SEAT;
+        state.turnPhase = session.getTurnPhase();
+        state.turnNumber = session.getTurnNumber();
+        state.winnerSeat = session.getWinnerId() != null ? seats.seatOf(session.getWinnerId()) : NO_SEAT;
+
+        TradeOffer trade = session.getPendingTrade();
+        if (trade != null && trade.isPending()) {
+            state.tradePending = true;
+            state.tradeOfferId = trade.getOfferId();
+            state.tradeOfferingSeat = seats.seatOf(trade.getOfferingPlayerId());
+            state.tradeReceivingSeat = seats.seatOf(trade.getReceivingPlayerId());
+            state.tradeOfferedTiles = layout.tileMask(trade.getOfferedPropertyIds());
+            state.tradeOfferedCents = cents(trade.getOfferedCurrency());
+            state.tradeRequestedTiles = layout.tileMask(trade.getRequestedPropertyIds());
+            state.tradeRequestedCents = cents(trade.getRequestedCurrency());
+        }
+        return state;
+    }
+
+    /**
+     * Build a new session with the same ids and state. The new session shares this state's dice source.
+     */
+    public GameSession toGameSession() {
+        List<Tile> tiles = new ArrayList<>(layout.tileTypes.length);
+        for (Tile tile : layout.tiles) {
+            tiles.add(copyTile(tile));
+        }
+        Board board = new Board(layout.templateId, tiles);
+
+        Map<UUID, PlayerState> players = new LinkedHashMap<>();
+        for (int seat = 0; seat < seats.playerIds.length; seat++) {
+            PlayerState player = PlayerState.builder()
+                    .playerId(seats.playerIds[seat])
+                    .displayName(seats.displayNames[seat])
+                    .npc(seats.npc[seat])
+                    .npcDifficulty(seats.npcDifficulties[seat])
+                    .startingCurrency(Money.ofCents(cash[seat]))
+                    .build();
+            player.moveTo(position[seat]);
+            player.setTurnsInSandTrap(turnsInSandTrap[seat]);
+            player.setConsecutiveDoubles(consecutiveDoubles[seat]);
+            if (bankrupt[seat] != 0) {
+                player.declareBankrupt();
+            }
+            players.put(player.getPlayerId(), player);
+        }
+        for (int pos = 0; pos < owner.length; pos++) {
+            if (owner[pos] != NO_OWNER) {
+                players.get(seats.playerIds[owner[pos]]).addProperty(layout.propertyIds[pos]);
+            }
+        }
+
+        GameSession session = GameSession.reconstitute(
+                seats.gameId,
+                status,
+                currentSeat != NO_SEAT ? seats.playerIds[currentSeat] : null,
+                turnPhase,
+                turnNumber,
+                winnerSeat != NO_SEAT ? seats.playerIds[winnerSeat] : null,
+                board,
+                players,
+                seats.createdAt,
+                seats.updatedAt,
+                diceSource
+        );
+
+        if (tradePending) {
+            session.restorePendingTrade(TradeOffer.builder()
+                    .offerId(tradeOfferId != null ? tradeOfferId : TimeOrderedIds.next())
+                    .offeringPlayerId(seats.playerIds[tradeOfferingSeat])
+                    .receivingPlayerId(seats.playerIds[tradeReceivingSeat])
+                    .offeredPropertyIds(layout.propertyIds(tradeOfferedTiles))
+                    .offeredCurrency(Money.ofCents(tradeOfferedCents))
+                    .requestedPropertyIds(layout.propertyIds(tradeRequestedTiles))
+                    .requestedCurrency(Money.ofCents(tradeRequestedCents))
+                    .status(TradeOffer.TradeStatus.PENDING)
+                    .build());
+        }
+        return session;
+    }
+
+    private Tile copyTile(Tile tile) {
+        if (!tile.isProperty()) {
+            // No per-game state: share the tile
+            return tile;
+        }
+        int pos = tile.getPosition();
+        Tile copy = new Tile(tile.getDefinition());
+        copy.requireProperty().restore(
+                owner[pos] != NO_OWNER ? seats.playerIds[owner[pos]] : null,
+                ImprovementLevel.ofLevel(improvementLevel[pos]),
+                mortgaged[pos] != 0);
+        return copy;
+    }
+
+    /**
+     * Independent copy sharing the immutable board layout and the dice source.
+     */
+    public CompactGameState copy() {
+        return new CompactGameState(this);
+    }
+
+    // ==================== Commands ====================
+
+    public DiceRoll rollDice(int seat) {
+        validatePlayerTurn(seat);
+        validatePhase(TurnPhase.ROLL);
+
+        if (turnsInSandTrap[seat] > 0) {
+            return handleSandTrapRoll(seat);
+        }
+
+        DiceRoll roll = diceSource.roll();
+        processMovement(seat, roll);
+        return roll;
+    }
+
+    public void purchaseProperty(int seat, int tile) {
+        validatePlayerTurn(seat);
+        validatePhase(TurnPhase.ACTION);
+        validatePropertyTile(tile);
+
+        if (owner[tile] != NO_OWNER) {
+            throw new IllegalStateException("Property is already owned");
+        }
+        if (position[seat] != tile) {
+            throw new IllegalStateException("Player must be on the property tile to purchase");
+        }
+        long price = layout.purchaseCents[tile];
+        if (cash[seat] < price) {
+            throw new IllegalStateException("Insufficient funds to purchase property");
+        }
+
+        cash[seat] -= price;
+        owner[tile] = (byte) seat;
+    }
+
+    public void improveProperty(int seat, int tile) {
+        validatePlayerTurn(seat);
+        validatePhase(TurnPhase.ACTION);
+        validatePropertyTile(tile);
+
+        if (owner[tile] != seat) {
+            throw new IllegalStateException("Player does not own this property");
+        }
+        if (!canBeImproved(tile)) {
+            throw new IllegalStateException("Property cannot be improved");
+        }
+        if (!ownsCompleteGroup(seat, layout.groupOf[tile])) {
+            throw new IllegalStateException("Must own complete course group to improve");
+        }
+        long cost = layout.improvementCents[tile];
+        if (cash[seat] < cost) {
+            throw new IllegalStateException("Insufficient funds for improvement");
+        }
+
+        cash[seat] -= cost;
+        improvementLevel[tile]++;
+    }
+
+    /**
+     * Propose a trade; property sets are bit masks of tile positions.
+     */
+    public void proposeTrade(int seat, int receivingSeat,
+                             long offeredTiles, long offeredCents,
+                             long requestedTiles, long requestedCents) {
+        validatePlayerTurn(seat);
+        validatePhase(TurnPhase.ACTION);
+
+        if (receivingSeat < 0 || receivingSeat >= position.length) {
+            throw new IllegalStateException("Trade recipient not in game");
+        }
+        if (tradePending) {
+            throw new IllegalStateException("There is already a pending trade");
+        }
+        if (!ownsAll(seat, offeredTiles)) {
+            throw new IllegalStateException("Cannot offer property you don't own");
+        }
+        if (!ownsAll(receivingSeat, requestedTiles)) {
+            throw new IllegalStateException("Cannot request property opponent doesn't own");
+        }
+
+        tradePending = true;
+        tradeOfferId = null;
+        tradeOfferingSeat = seat;
+        tradeReceivingSeat = receivingSeat;
+        tradeOfferedTiles = offeredTiles;
+        tradeOfferedCents = offeredCents;
+        tradeRequestedTiles = requestedTiles;
+        tradeRequestedCents = requestedCents;
+        turnPhase = TurnPhase.TRADE;
+    }
+
+    public void respondToTrade(int seat, boolean accept) {
+        validatePhase(TurnPhase.TRADE);
+
+        if (!tradePending) {
+            throw new IllegalStateException("No pending trade to respond to");
+        }
+        if (tradeReceivingSeat != seat) {
+            throw new IllegalStateException("Only the trade recipient can respond");
+        }
+
+        if (accept) {
+            executeTrade();
+        }
+        tradePending = false;
+        turnPhase = TurnPhase.ACTION;
+    }
+
+    public void endTurn(int seat) {
+        validatePlayerTurn(seat);
+
+        if (turnPhase != TurnPhase.ACTION) {
+            throw new IllegalStateException("Can only end turn from ACTION phase, current phase: " + turnPhase);
+        }
+
+        tradePending = false;
+        consecutiveDoubles[seat] = 0;
+
+        advanceToNextPlayer();
+        checkGameEnd();
+    }
+
+    // ==================== Rules ====================
+
+    private DiceRoll handleSandTrapRoll(int seat) {
+        DiceRoll roll = diceSource.roll();
+
+        if (roll.isDoubles()) {
+            turnsInSandTrap[seat] = 0;
+            processMovement(seat, roll);
+        } else {
+            turnsInSandTrap[seat]--;
+            if (turnsInSandTrap[seat] == 0) {
+                processMovement(seat, roll);
+            } else {
+                turnPhase = TurnPhase.ACTION;
+            }
+        }
+        return roll;
+    }
+
+    private void processMovement(int seat, DiceRoll roll) {
+        if (roll.isDoubles()) {
+            consecutiveDoubles[seat]++;
+            if (consecutiveDoubles[seat] >= GameConstants.DOUBLES_FOR_SAND_TRAP) {
+                sendToSandTrap(seat);
+                return;
+            }
+        } else {
+            consecutiveDoubles[seat] = 0;
+        }
+
+        int oldPosition = position[seat];
+        int newPosition = (oldPosition + roll.getTotal()) % layout.tileTypes.length;
+        position[seat] = newPosition;
+
+        // Board.passedStart wrap test; landing exactly on start pays nothing
+        boolean passedStart = newPosition < oldPosition && newPosition != 0;
+        if (passedStart) {
+            cash[seat] += PASSING_SALARY_CENTS;
+        }
+
+        handleLandedTile(seat, newPosition);
+
+        if (roll.isDoubles() && turnsInSandTrap[seat] == 0 && status == GameStatus.IN_PROGRESS) {
+            turnPhase = TurnPhase.ROLL;
+        }
+    }
+
+    private void handleLandedTile(int seat, int tile) {
+        switch (layout.tileTypes[tile]) {
+            case PROPERTY -> handlePropertyTile(seat, tile);
+            case SAND_TRAP -> sendToSandTrap(seat);
+            case WATER_HAZARD -> {
+                if (cash[seat] >= WATER_HAZARD_PENALTY_CENTS) {
+                    cash[seat] -= WATER_HAZARD_PENALTY_CENTS;
+                }
+                turnPhase = TurnPhase.ACTION;
+            }
+            case PRO_SHOP, CLUBHOUSE_HQ, MEMBERS_LOUNGE -> turnPhase = TurnPhase.ACTION;
+        }
+    }
+
+    private void handlePropertyTile(int seat, int tile) {
+        int ownerSeat = owner[tile];
+        if (ownerSeat != NO_OWNER && ownerSeat != seat && mortgaged[tile] == 0) {
+            long rent = rentCents(tile);
+            if (cash[seat] >= rent) {
+                cash[seat] -= rent;
+                cash[ownerSeat] += rent;
+            } else {
+                handleBankruptcy(seat, ownerSeat);
+            }
+        }
+        turnPhase = TurnPhase.ACTION;
+    }
+
+    private void handleBankruptcy(int bankruptSeat, int creditorSeat) {
+        bankrupt[bankruptSeat] = 1;
+
+        for (int tile = 0; tile < owner.length; tile++) {
+            if (owner[tile] == bankruptSeat) {
+                owner[tile] = (byte) creditorSeat;
+            }
+        }
+
+        cash[creditorSeat] += cash[bankruptSeat];
+        cash[bankruptSeat] = 0;
+    }
+
+    private void sendToSandTrap(int seat) {
+        position[seat] = SAND_TRAP_POSITION;
+        turnsInSandTrap[seat] = GameConstants.MAX_TURNS_IN_SAND_TRAP;
+        consecutiveDoubles[seat] = 0;
+        turnPhase = TurnPhase.ACTION;
+    }
+
+    private void executeTrade() {
+        int offering = tradeOfferingSeat;
+        int receiving = tradeReceivingSeat;
+
+        transferTiles(tradeOfferedTiles, receiving);
+        transferTiles(tradeRequestedTiles, offering);
+
+        if (tradeOfferedCents > 0) {
+            subtractCash(offering, tradeOfferedCents);
+            cash[receiving] += tradeOfferedCents;
+        }
+        if (tradeRequestedCents > 0) {
+            subtractCash(receiving, tradeRequestedCents);
+            cash[offering] += tradeRequestedCents;
+        }
+    }
+
+    private void transferTiles(long tiles, int newOwner) {
+        for (long remaining = tiles; remaining != 0; remaining &= remaining - 1) {
+            owner[Long.numberOfTrailingZeros(remaining)] = (byte) newOwner;
+        }
+    }
+
+    private void subtractCash(int seat, long cents) {
+        cash[seat] -= cents;
+        if (cash[seat] < 0) {
+            throw new IllegalStateException("Player " + seats.displayNames[seat] + " cannot have negative currency");
+        }
+    }
+
+    private void advanceToNextPlayer() {
+        // Next solvent seat after the current one, wrapping; first solvent seat if the current player is bankrupt
+        int seatCount = position.length;
+        int next = NO_SEAT;
+        if (bankrupt[currentSeat] == 0) {
+            for (int step = 1; step <= seatCount; step++) {
+                int candidate = (currentSeat + step) % seatCount;
+                if (bankrupt[candidate] == 0) {
+                    next = candidate;
+                    break;
+                }
+            }
+        } else {
+            for (int candidate = 0; candidate < seatCount; candidate++) {
+                if (bankrupt[candidate] == 0) {
+                    next = candidate;
+                    break;
+                }
+            }
+        }
+
+        currentSeat = next;
+        turnPhase = TurnPhase.ROLL;
+        turnNumber++;
+    }
+
+    private void checkGameEnd() {
+        int active = 0;
+        int lastActive = NO_SEAT;
+        for (int seat = 0; seat < bankrupt.length; seat++) {
+            if (bankrupt[seat] == 0) {
+                active++;
+                lastActive = seat;
+            }
+        }
+
+        if (active == 1) {
+            winnerSeat = lastActive;
+            status = GameStatus.COMPLETED;
+        }
+    }
+
+    // ==================== Validation ====================
+
+    private void validatePlayerTurn(int seat) {
+        if (status != GameStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Game is not in progress");
+        }
+        if (currentSeat != seat) {
+            throw new IllegalStateException("It is not your turn");
+        }
+    }
+
+    private void validatePhase(TurnPhase expectedPhase) {
+        if (turnPhase != expectedPhase) {
+            throw new IllegalStateException(
+                    "Invalid turn phase. Expected " + expectedPhase + " but was " + turnPhase);
+        }
+    }
+
+    private void validatePropertyTile(int tile) {
+        if (tile < 0 || tile >= owner.length || layout.tileTypes[tile] != TileType.PROPERTY) {
+            throw new IllegalArgumentException("No property at tile: " + tile);
+        }
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Rent due on a tile, in cents, with the same doubling rule as {@link Property#calculateRent}.
+     */
+    public long rentCents(int tile) {
+        if (mortgaged[tile] != 0) {
+            return 0;
+        }
+        long rent = switch (improvementLevel[tile]) {
+            case 0 -> layout.baseRentCents[tile];
+            case 1 -> layout.clubhouseRentCents[tile];
+            default -> layout.resortRentCents[tile];
+        };
+        if (improvementLevel[tile] == 0 && ownsCompleteGroup(owner[tile], layout.groupOf[tile])) {
+            rent *= 2;
+        }
+        return rent;
+    }
+
+    public boolean ownsCompleteGroup(int seat, int group) {
+        for (int tile : layout.groupTiles[group]) {
+            if (owner[tile] != seat) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean canBeImproved(int tile) {
+        return mortgaged[tile] == 0 && improvementLevel[tile] < ImprovementLevel.RESORT.getLevel();
+    }
+
+    private boolean ownsAll(int seat, long tiles) {
+        for (long remaining = tiles; remaining != 0; remaining &= remaining - 1) {
+            int tile = Long.numberOfTrailingZeros(remaining);
+            if (tile >= owner.length || owner[tile] != seat) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getSeatCount() {
+        return position.length;
+    }
+
+    public int getTileCount() {
+        return owner.length;
+    }
+
+    public int seatOf(UUID playerId) {
+        return seats.seatOf(playerId);
+    }
+
+    public UUID getPlayerId(int seat) {
+        return seats.playerIds[seat];
+    }
+
+    public int tileOf(UUID propertyId) {
+        return layout.tileOf(propertyId);
+    }
+
+    public TileType getTileType(int tile) {
+        return layout.tileTypes[tile];
+    }
+
+    public boolean isProperty(int tile) {
+        return layout.tileTypes[tile] == TileType.PROPERTY;
+    }
+
+    public int getCourseGroup(int tile) {
+        return layout.groupOf[tile];
+    }
+
+    public long getPurchaseCents(int tile) {
+        return layout.purchaseCents[tile];
+    }
+
+    public long getImprovementCents(int tile) {
+        return layout.improvementCents[tile];
+    }
+
+    public int getOwner(int tile) {
+        return owner[tile];
+    }
+
+    public int getImprovementLevel(int tile) {
+        return improvementLevel[tile];
+    }
+
+    public boolean isMortgaged(int tile) {
+        return mortgaged[tile] != 0;
+    }
+
+    public int getPosition(int seat) {
+        return position[seat];
+    }
+
+    public long getCash(int seat) {
+        return cash[seat];
+    }
+
+    public int getTurnsInSandTrap(int seat) {
+        return turnsInSandTrap[seat];
+    }
+
+    public int getConsecutiveDoubles(int seat) {
+        return consecutiveDoubles[seat];
+    }
+
+    public boolean isBankrupt(int seat) {
+        return bankrupt[seat] != 0;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    public TurnPhase getTurnPhase() {
+        return turnPhase;
+    }
+
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    public boolean isTradePending() {
+        return tradePending;
+    }
+
+    public int getTradeReceivingSeat() {
+        return tradePending ? tradeReceivingSeat : NO_SEAT;
+    }
+
+    private static long cents(Money amount) {
+        return amount != null ? amount.toCents() : 0;
+    }
+
+    // ==================== Shared Layout ====================
+
+    /**
+     * Immutable per-board data, shared by every copy of a compact state.
+     */
+    private static final class Layout {
+
+        private final String templateId;
+        private final List<Tile> tiles;
+        private final TileType[] tileTypes;
+        private final UUID[] propertyIds;
+        private final byte[] groupOf;
+        private final int[][] groupTiles;
+        private final long[] purchaseCents;
+        private final long[] baseRentCents;
+        private final long[] clubhouseRentCents;
+        private final long[] resortRentCents;
+        private final long[] improvementCents;
+
+        private Layout(Board board) {
+            int tileCount = board.getTiles().size();
+            if (tileCount > Long.SIZE) {
+                throw new IllegalArgumentException("Compact state supports at most " + Long.SIZE + " tiles");
+            }
+            this.templateId = board.getTemplateId();
+            this.tiles = board.getTiles();
+            this.tileTypes = new TileType[tileCount];
+            this.propertyIds = new UUID[tileCount];
+            this.groupOf = new byte[tileCount];
+            this.purchaseCents = new long[tileCount];
+            this.baseRentCents = new long[tileCount];
+            this.clubhouseRentCents = new long[tileCount];
+            this.resortRentCents = new long[tileCount];
+            this.improvementCents = new long[tileCount];
+
+            int[] groupSizes = new int[CourseGroup.values().length];
+            for (Tile tile : tiles) {
+                int pos = tile.getPosition();
+                tileTypes[pos] = tile.getType();
+                groupOf[pos] = -1;
+                if (tile.isProperty()) {
+                    Property property = tile.getProperty().orElseThrow();
+                    propertyIds[pos] = property.getPropertyId();
+                    groupOf[pos] = (byte) property.getCourseGroup().ordinal();
+                    purchaseCents[pos] = property.getPurchasePrice().toCents();
+                    baseRentCents[pos] = property.getBaseRent().toCents();
+                    clubhouseRentCents[pos] = property.getRentWithClubhouse().toCents();
+                    resortRentCents[pos] = property.getRentWithResort().toCents();
+                    improvementCents[pos] = property.getImprovementCost().toCents();
+                    groupSizes[groupOf[pos]]++;
+                }
+            }
+
+            this.groupTiles = new int[groupSizes.length][];
+            for (int group = 0; group < groupSizes.length; group++) {
+                groupTiles[group] = new int[groupSizes[group]];
+            }
+            int[] filled = new int[groupSizes.length];
+            for (int pos = 0; pos < tileCount; pos++) {
+                if (groupOf[pos] >= 0) {
+                    groupTiles[groupOf[pos]][filled[groupOf[pos]]++] = pos;
+                }
+            }
+        }
+
+        private int tileOf(UUID propertyId) {
+            for (int pos = 0; pos < propertyIds.length; pos++) {
+                if (propertyId.equals(propertyIds[pos])) {
+                    return pos;
+                }
+            }
+            throw new IllegalArgumentException("Property not found: " + propertyId);
+        }
+
+        private long tileMask(Set<UUID> propertyIds) {
+            long mask = 0;
+            if (propertyIds != null) {
+                for (UUID propertyId : propertyIds) {
+                    mask |= 1L << tileOf(propertyId);
+                }
+            }
+            return mask;
+        }
+
+        private Set<UUID> propertyIds(long tiles) {
+            Set<UUID> ids = new HashSet<>();
+            for (long remaining = tiles; remaining != 0; remaining &= remaining - 1) {
+                ids.add(propertyIds[Long.numberOfTrailingZeros(remaining)]);
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * Immutable identity of the session and its seats, kept only for converting back.
+     */
+    private static final class Seats {
+
+        private final UUID gameId;
+        private final Instant createdAt;
+        private final Instant updatedAt;
+        private final UUID[] playerIds;
+        private final String[] displayNames;
+        private final boolean[] npc;
+        private final Difficulty[] npcDifficulties;
+
+        private Seats(GameSession session) {
+            int seatCount = session.getPlayers().size();
+            this.gameId = session.getGameId();
+            this.createdAt = session.getCreatedAt();
+            this.updatedAt = session.getUpdatedAt();
+            this.playerIds = new UUID[seatCount];
+            this.displayNames = new String[seatCount];
+            this.npc = new boolean[seatCount];
+            this.npcDifficulties = new Difficulty[seatCount];
+
+            int seat = 0;
+            for (PlayerState player : session.getPlayers().values()) {
+                playerIds[seat] = player.getPlayerId();
+                displayNames[seat] = player.getDisplayName();
+                npc[seat] = player.isNpc();
+                npcDifficulties[seat] = player.getNpcDifficulty();
+                seat++;
+            }
+        }
+
+        private int seatOf(UUID playerId) {
+            for (int seat = 0; seat < playerIds.length; seat++) {
+                if (playerIds[seat].equals(playerId)) {
+                    return seat;
+                }
+            }
+            throw new IllegalArgumentException("Player not found: " + playerId);
+        }
+    }
+}
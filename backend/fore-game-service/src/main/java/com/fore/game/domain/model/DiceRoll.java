@@ -12,6 +12,17 @@ import java.util.concurrent.ThreadLocalRandom;
 @EqualsAndHashCode
 public final class DiceRoll {
 
+    // Immutable, so the 36 possible rolls are shared instead of allocated per roll
+    private static final DiceRoll[] CACHE = new DiceRoll[36];
+
+    static {
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = 1; die2 <= 6; die2++) {
+                CACHE[(die1 - 1) * 6 + (die2 - 1)] = new DiceRoll(die1, die2);
+            }
+        }
+    }
+
     private final int die1;
     private final int die2;
 
@@ -25,11 +36,14 @@ public final class DiceRoll {
 
     public static DiceRoll roll() {
         ThreadLocalRandom random = ThreadLocalRandom.current();
-        return new DiceRoll(random.nextInt(1, 7), random.nextInt(1, 7));
+        return of(random.nextInt(1, 7), random.nextInt(1, 7));
     }
 
     public static DiceRoll of(int die1, int die2) {
-        return new DiceRoll(die1, die2);
+        if (die1 < 1 || die1 > 6 || die2 < 1 || die2 > 6) {
+            throw new IllegalArgumentException("Dice values must be between 1 and 6");
+        }
+        return CACHE[(die1 - 1) * 6 + (die2 - 1)];
     }
 
     public int getTotal() {
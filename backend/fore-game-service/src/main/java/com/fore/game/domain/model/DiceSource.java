@@ -0,0 +1,14 @@
+package com.fore.game.domain.model;
+
+/**
+ * Source of dice rolls for a game session.
+ * Each session owns its own source, so rolls can be seeded, replayed or scripted
+ * without any shared random state.
+ */
+public interface DiceSource {
+
+    /**
+     * Produce the next roll of two six-sided dice.
+     */
+    DiceRoll roll();
+}
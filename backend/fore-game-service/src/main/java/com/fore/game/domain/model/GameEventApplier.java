@@ -0,0 +1,163 @@
+package com.fore.game.domain.model;
+
+import com.fore.game.domain.events.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Rolls a game session forward through its event log.
+ * <p>
+ * Every command emits a batch of events led by the one naming the command (a roll, purchase,
+ * trade or end of turn); the rest are its consequences. The applier re-runs the command behind
+ * each leading event on the session and checks the events it emits against the logged ones, so
+ * a replayed session goes through exactly the rules the live one did. Dice come from the
+ * session's own seeded source, which a checkpoint restores with its roll count; a roll that
+ * differs from the log means the log and the checkpoint disagree, and replay stops.
+ * <p>
+ * The session must already hold the state before the first applied event, normally a checkpoint.
+ * States only exist between commands: a replay stopped part way through a batch has applied the
+ * whole command.
+ */
+public final class GameEventApplier {
+
+    private final GameSession session;
+    private final ReplayClock clock = new ReplayClock();
+
+    // Events the current command emitted that the log has not matched yet
+    private final Deque<GameEvent> expected = new ArrayDeque<>();
+    private long sequence;
+
+    public GameEventApplier(GameSession session) {
+        this.session = session;
+        this.sequence = session.getEventSequence();
+        session.useClock(clock);
+        session.drainEvents();
+    }
+
+    /**
+     * Replay a tail of the log onto a checkpoint and return the session.
+     */
+    public static GameSession replay(GameSession checkpoint, List<? extends GameEvent> events) {
+        GameEventApplier applier = new GameEventApplier(checkpoint);
+        events.forEach(applier::apply);
+        return applier.finish();
+    }
+
+    /**
+     * Apply the next event of the log, at the sequence number it was logged at.
+     */
+    public void apply(LoggedEvent logged) {
+        apply(logged.event(), logged.sequenceNum());
+    }
+
+    /**
+     * Apply the next event of a log known to have no gaps, numbering it after the last one.
+     */
+    public void apply(GameEvent event) {
+        apply(event, sequence + 1);
+    }
+
+    private void apply(GameEvent event, long sequenceNum) {
+        if (expected.isEmpty()) {
+            clock.now = event.getOccurredAt();
+            runCommand(event);
+            expected.addAll(session.drainEvents());
+            if (expected.isEmpty()) {
+                // Creation events are part of the initial state
+                sequence = sequenceNum;
+                return;
+            }
+        }
+
+        GameEvent replayed = expected.pollFirst();
+        if (!replayed.getEventType().equals(event.getEventType())) {
+            throw diverged(event, "replay emitted " + replayed.getEventType());
+        }
+        if (event instanceof DiceRolledEvent logged
+                && !((DiceRolledEvent) replayed).getRoll().equals(logged.getRoll())) {
+            throw diverged(event, "replay rolled " + ((DiceRolledEvent) replayed).getRoll());
+        }
+        sequence = sequenceNum;
+    }
+
+    /**
+     * Whether the last applied event ended its command, i.e. the session is between commands.
+     */
+    public boolean isAtCommandBoundary() {
+        return expected.isEmpty();
+    }
+
+    /**
+     * Sequence number of the last applied event.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Finish the replay: the session goes back to the system clock and records where it stopped.
+     */
+    public GameSession finish() {
+        // A command's events are logged in one insert, so the rest of its batch follows without gaps
+        sequence += expected.size();
+        expected.clear();
+        session.useClock(Clock.systemUTC());
+        session.recordEventSequence(sequence);
+        return session;
+    }
+
+    private void runCommand(GameEvent event) {
+        try {
+            switch (event) {
+                case PlayerJoinedEvent e -> session.joinGame(e.getPlayerId(), e.getPlayerName());
+                case DiceRolledEvent e -> session.rollDice(e.getPlayerId());
+                case PropertyPurchasedEvent e -> session.purchaseProperty(e.getPlayerId(), e.getPropertyId());
+                case PropertyImprovedEvent e -> session.improveProperty(e.getPlayerId(), e.getPropertyId());
+                case TradeProposedEvent e -> session.proposeTrade(e.getOffer().getOfferingPlayerId(), e.getOffer());
+                case TradeAcceptedEvent e -> session.respondToTrade(e.getOffer().getReceivingPlayerId(), true);
+                case TradeRejectedEvent e -> session.respondToTrade(e.getOffer().getReceivingPlayerId(), false);
+                case TurnEndedEvent e -> session.endTurn(e.getPlayerId());
+                // The creation batch is part of the checkpoint
+                case GameCreatedEvent created -> { }
+                case GameStartedEvent started -> { }
+                default -> throw new IllegalStateException("it does not start a command");
+            }
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            throw diverged(event, e.getMessage());
+        }
+    }
+
+    private IllegalStateException diverged(GameEvent event, String reason) {
+        return new IllegalStateException("Event log diverges from replay of game " + session.getGameId()
+                + " at sequence " + (sequence + 1) + " (" + event.getEventType() + "): " + reason);
+    }
+
+    /**
+     * Stamps replayed commands with the time they were originally logged.
+     */
+    private static final class ReplayClock extends Clock {
+
+        private Instant now = Instant.EPOCH;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return Clock.fixed(now, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
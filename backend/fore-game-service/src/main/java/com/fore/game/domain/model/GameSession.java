@@ -1,11 +1,14 @@
 package com.fore.game.domain.model;
 
+import com.fore.common.ids.TimeOrderedIds;
 import com.fore.common.types.Money;
 import com.fore.game.domain.events.*;
 import com.fore.game.domain.model.enums.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.*;
 
@@ -17,6 +20,11 @@ import java.util.*;
 @Getter
 public class GameSession {
 
+    /**
+     * {@link #getEventSequence} of a reconstituted game until the event log has been consulted.
+     */
+    public static final long UNKNOWN_EVENT_SEQUENCE = -1;
+
     private final UUID gameId;
     private GameStatus status;
     private UUID currentPlayerId;
@@ -28,26 +36,62 @@ public class GameSession {
     private final Map<UUID, PlayerState> players;
     private TradeOffer pendingTrade;
 
+    // Per-session dice, so rolls can be seeded, persisted and replayed
+    private final DiceSource diceSource;
+
+    // Players in seat order; advancing the turn walks this ring instead of building lists
+    @Getter(AccessLevel.NONE)
+    private PlayerState[] turnOrder = new PlayerState[0];
+    @Getter(AccessLevel.NONE)
+    private int currentSeat = -1;
+
     private Instant createdAt;
     private Instant updatedAt;
     private Instant lastActivityAt;
 
-    // Event accumulator for domain events
-    private final List<GameEvent> pendingEvents = new ArrayList<>();
+    // Persisted row version for optimistic concurrency; null until first saved
+    private Long version;
+    @Getter(AccessLevel.NONE)
+    private int persistedPlayerCount;
+    // Pending trade when changes were last cleared; offers are immutable, so compared by reference
+    @Getter(AccessLevel.NONE)
+    private TradeOffer savedTrade;
+    @Getter(AccessLevel.NONE)
+    private boolean diceChanged;
+
+    // Read once at the start of each command and shared by its events and timestamps
+    private Clock clock = Clock.systemUTC();
+    @Getter(AccessLevel.NONE)
+    private Instant commandTime;
+
+    // Event accumulator for domain events, double-buffered so draining does not copy
+    private List<GameEvent> pendingEvents = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private List<GameEvent> drainedEvents = new ArrayList<>();
+    private boolean recordingEvents = true;
+
+    // Sequence number of the last event appended to the event log for this game
+    private long eventSequence = UNKNOWN_EVENT_SEQUENCE;
+    // Events handed out by drainEvents since the sequence was last recorded
+    @Getter(AccessLevel.NONE)
+    private int unloggedEvents;
 
     /**
      * Private constructor - use factory methods.
      */
-    private GameSession(UUID gameId, Board board) {
+    private GameSession(UUID gameId, Board board, DiceSource diceSource) {
         this.gameId = gameId;
         this.board = board;
+        this.diceSource = diceSource;
         this.players = new LinkedHashMap<>(); // Preserve insertion order
         this.status = GameStatus.WAITING;
         this.turnPhase = TurnPhase.ROLL;
         this.turnNumber = 0;
-        this.createdAt = Instant.now();
-        this.updatedAt = Instant.now();
-        this.lastActivityAt = Instant.now();
+        this.commandTime = clock.instant();
+        this.createdAt = commandTime;
+        this.updatedAt = commandTime;
+        this.lastActivityAt = commandTime;
+        this.eventSequence = 0; // Nothing logged yet
     }
 
     /**
@@ -63,7 +107,8 @@ public class GameSession {
             Board board,
             Map<UUID, PlayerState> players,
             Instant createdAt,
-            Instant updatedAt) {
+            Instant updatedAt,
+            DiceSource diceSource) {
         this.gameId = gameId;
         this.status = status;
         this.currentPlayerId = currentPlayerId;
@@ -72,17 +117,31 @@ public class GameSession {
         this.winnerId = winnerId;
         this.board = board;
         this.players = new LinkedHashMap<>(players);
+        this.players.values().forEach(player -> player.bindTo(board.getPropertyIndex()));
+        this.turnOrder = this.players.values().toArray(new PlayerState[0]);
+        this.currentSeat = seatOf(currentPlayerId);
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.lastActivityAt = updatedAt;
+        this.diceSource = diceSource;
+        this.commandTime = updatedAt;
     }
 
     // ==================== Factory Methods ====================
 
     public static GameSession create(UUID creatorId, String creatorName, boolean vsNpc, Difficulty npcDifficulty) {
-        UUID gameId = UUID.randomUUID();
+        return create(creatorId, creatorName, vsNpc, npcDifficulty, SeededDiceSource.withRandomSeed());
+    }
+
+    public static GameSession create(
+            UUID creatorId,
+            String creatorName,
+            boolean vsNpc,
+            Difficulty npcDifficulty,
+            DiceSource diceSource) {
+        UUID gameId = TimeOrderedIds.next();
         Board board = BoardFactory.createStandardBoard();
-        GameSession session = new GameSession(gameId, board);
+        GameSession session = new GameSession(gameId, board, diceSource);
 
         // Add creator as first player
         PlayerState creator = PlayerState.builder()
@@ -91,11 +150,11 @@ public class GameSession {
                 .npc(false)
                 .startingCurrency(GameConstants.STARTING_CURRENCY)
                 .build();
-        session.players.put(creatorId, creator);
+        session.seat(creator);
 
         // If vs NPC, add NPC player immediately
         if (vsNpc) {
-            UUID npcId = UUID.randomUUID();
+            UUID npcId = TimeOrderedIds.next();
             Difficulty difficulty = npcDifficulty != null ? npcDifficulty : Difficulty.MEDIUM;
             PlayerState npc = PlayerState.builder()
                     .playerId(npcId)
@@ -104,12 +163,13 @@ public class GameSession {
                     .npcDifficulty(difficulty)
                     .startingCurrency(GameConstants.STARTING_CURRENCY)
                     .build();
-            session.players.put(npcId, npc);
+            session.seat(npc);
             session.startGame(creatorId);
         }
 
         session.addEvent(GameCreatedEvent.builder()
                 .gameId(gameId)
+                .occurredAt(session.commandTime)
                 .creatorId(creatorId)
                 .vsNpc(vsNpc)
                 .build());
@@ -129,6 +189,23 @@ public class GameSession {
             Instant createdAt,
             Instant updatedAt) {
 
+        return reconstitute(gameId, status, currentPlayerId, turnPhase, turnNumber, winnerId,
+                board, players, createdAt, updatedAt, SeededDiceSource.withRandomSeed());
+    }
+
+    public static GameSession reconstitute(
+            UUID gameId,
+            GameStatus status,
+            UUID currentPlayerId,
+            TurnPhase turnPhase,
+            int turnNumber,
+            UUID winnerId,
+            Board board,
+            Map<UUID, PlayerState> players,
+            Instant createdAt,
+            Instant updatedAt,
+            DiceSource diceSource) {
+
         return new GameSession(
                 gameId,
                 status,
@@ -139,13 +216,116 @@ public class GameSession {
                 board,
                 players,
                 createdAt,
-                updatedAt
+                updatedAt,
+                diceSource
         );
     }
 
+    /**
+     * Replace the clock used for timestamps, e.g. a fixed clock in simulations and tests.
+     */
+    public void useClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Turn domain event recording on or off. Simulations that never read events
+     * switch it off so commands allocate no event objects.
+     */
+    public void setRecordingEvents(boolean recordingEvents) {
+        this.recordingEvents = recordingEvents;
+    }
+
+    /**
+     * Record the row version the persistence layer last wrote or read.
+     * Every player seated so far counts as persisted from here on.
+     */
+    public void markPersisted(long version) {
+        this.version = version;
+        this.persistedPlayerCount = turnOrder.length;
+    }
+
+    /**
+     * Players seated since the last {@link #markPersisted}, in seat order.
+     * Seats are only ever added, so this is empty unless someone joined.
+     */
+    public List<PlayerState> getPlayersJoinedSinceLastSave() {
+        if (persistedPlayerCount == turnOrder.length) {
+            return List.of();
+        }
+        return List.of(Arrays.copyOfRange(turnOrder, persistedPlayerCount, turnOrder.length));
+    }
+
+    /**
+     * Record the sequence number of the last event in this game's event log.
+     */
+    public void recordEventSequence(long eventSequence) {
+        this.eventSequence = eventSequence;
+        this.unloggedEvents = 0;
+    }
+
+    /**
+     * Sequence number of the last event behind the current state: the last logged one plus the
+     * events drained since, which the command is about to append. A snapshot saved before the
+     * append records this, so it can later be matched against the log.
+     */
+    public long getStateEventSequence() {
+        return eventSequence == UNKNOWN_EVENT_SEQUENCE ? UNKNOWN_EVENT_SEQUENCE : eventSequence + unloggedEvents;
+    }
+
+    // ==================== Change Tracking ====================
+
+    /**
+     * Seats whose player state changed since {@link #clearChanges}, as a bit mask over turn order.
+     */
+    public long getChangedSeats() {
+        long seats = 0;
+        for (int seat = 0; seat < turnOrder.length; seat++) {
+            if (turnOrder[seat].isChanged()) {
+                seats |= 1L << seat;
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * Whether any property's owner, improvement or mortgage changed since {@link #clearChanges}.
+     */
+    public boolean isBoardChanged() {
+        return board.isPropertiesChanged();
+    }
+
+    public boolean isTradeChanged() {
+        return pendingTrade != savedTrade;
+    }
+
+    public boolean isDiceChanged() {
+        return diceChanged;
+    }
+
+    /**
+     * The stored snapshot now matches this session: start tracking changes from here.
+     */
+    public void clearChanges() {
+        for (PlayerState player : turnOrder) {
+            player.clearChanged();
+        }
+        board.clearPropertiesChanged();
+        savedTrade = pendingTrade;
+        diceChanged = false;
+    }
+
+    /**
+     * Restore an in-flight trade after reconstitution.
+     */
+    public void restorePendingTrade(TradeOffer trade) {
+        this.pendingTrade = trade;
+    }
+
     // ==================== Commands ====================
 
     public void joinGame(UUID playerId, String playerName) {
+        beginCommand();
         validateStatus(GameStatus.WAITING);
 
         if (players.size() >= GameConstants.MAX_PLAYERS) {
@@ -161,13 +341,16 @@ public class GameSession {
                 .npc(false)
                 .startingCurrency(GameConstants.STARTING_CURRENCY)
                 .build();
-        players.put(playerId, player);
+        seat(player);
 
-        addEvent(PlayerJoinedEvent.builder()
-                .gameId(gameId)
-                .playerId(playerId)
-                .playerName(playerName)
-                .build());
+        if (recordingEvents) {
+            addEvent(PlayerJoinedEvent.builder()
+                    .gameId(gameId)
+                    .occurredAt(commandTime)
+                    .playerId(playerId)
+                    .playerName(playerName)
+                    .build());
+        }
 
         // Auto-start when we have enough players
         if (players.size() == GameConstants.MAX_PLAYERS) {
@@ -177,6 +360,7 @@ public class GameSession {
     }
 
     public DiceRoll rollDice(UUID playerId) {
+        beginCommand();
         validatePlayerTurn(playerId);
         validatePhase(TurnPhase.ROLL);
 
@@ -187,13 +371,15 @@ public class GameSession {
             return handleSandTrapRoll(player);
         }
 
-        DiceRoll roll = DiceRoll.roll();
+        DiceRoll roll = diceSource.roll();
+        diceChanged = true;
         processMovement(player, roll);
 
         return roll;
     }
 
     public void purchaseProperty(UUID playerId, UUID propertyId) {
+        beginCommand();
         validatePlayerTurn(playerId);
         validatePhase(TurnPhase.ACTION);
 
@@ -216,18 +402,22 @@ public class GameSession {
         property.purchase(playerId);
         player.addProperty(propertyId);
 
-        addEvent(PropertyPurchasedEvent.builder()
-                .gameId(gameId)
-                .playerId(playerId)
-                .propertyId(propertyId)
-                .propertyName(property.getName())
-                .price(property.getPurchasePrice())
-                .build());
+        if (recordingEvents) {
+            addEvent(PropertyPurchasedEvent.builder()
+                    .gameId(gameId)
+                    .occurredAt(commandTime)
+                    .playerId(playerId)
+                    .propertyId(propertyId)
+                    .propertyName(property.getName())
+                    .price(property.getPurchasePrice())
+                    .build());
+        }
 
         touch();
     }
 
     public void improveProperty(UUID playerId, UUID propertyId) {
+        beginCommand();
         validatePlayerTurn(playerId);
         validatePhase(TurnPhase.ACTION);
 
@@ -253,20 +443,24 @@ public class GameSession {
         ImprovementLevel previousLevel = property.getImprovementLevel();
         property.improve();
 
-        addEvent(PropertyImprovedEvent.builder()
-                .gameId(gameId)
-                .playerId(playerId)
-                .propertyId(propertyId)
-                .propertyName(property.getName())
-                .previousLevel(previousLevel)
-                .newLevel(property.getImprovementLevel())
-                .cost(property.getImprovementCost())
-                .build());
+        if (recordingEvents) {
+            addEvent(PropertyImprovedEvent.builder()
+                    .gameId(gameId)
+                    .occurredAt(commandTime)
+                    .playerId(playerId)
+                    .propertyId(propertyId)
+                    .propertyName(property.getName())
+                    .previousLevel(previousLevel)
+                    .newLevel(property.getImprovementLevel())
+                    .cost(property.getImprovementCost())
+                    .build());
+        }
 
         touch();
     }
 
     public void proposeTrade(UUID playerId, TradeOffer offer) {
+        beginCommand();
         validatePlayerTurn(playerId);
         validatePhase(TurnPhase.ACTION);
 
@@ -282,32 +476,32 @@ public class GameSession {
 
         // Validate offering player owns offered properties
         PlayerState offeringPlayer = getPlayer(playerId);
-        for (UUID propId : offer.getOfferedPropertyIds()) {
-            if (!offeringPlayer.ownsProperty(propId)) {
-                throw new IllegalStateException("Cannot offer property you don't own");
-            }
+        if (!offeringPlayer.ownsAllProperties(offer.getOfferedPropertyIds())) {
+            throw new IllegalStateException("Cannot offer property you don't own");
         }
 
         // Validate receiving player owns requested properties
         PlayerState receivingPlayer = getPlayer(offer.getReceivingPlayerId());
-        for (UUID propId : offer.getRequestedPropertyIds()) {
-            if (!receivingPlayer.ownsProperty(propId)) {
-                throw new IllegalStateException("Cannot request property opponent doesn't own");
-            }
+        if (!receivingPlayer.ownsAllProperties(offer.getRequestedPropertyIds())) {
+            throw new IllegalStateException("Cannot request property opponent doesn't own");
         }
 
         this.pendingTrade = offer;
         this.turnPhase = TurnPhase.TRADE;
 
-        addEvent(TradeProposedEvent.builder()
-                .gameId(gameId)
-                .offer(offer)
-                .build());
+        if (recordingEvents) {
+            addEvent(TradeProposedEvent.builder()
+                    .gameId(gameId)
+                    .occurredAt(commandTime)
+                    .offer(offer)
+                    .build());
+        }
 
         touch();
     }
 
     public void respondToTrade(UUID playerId, boolean accept) {
+        beginCommand();
         validatePhase(TurnPhase.TRADE);
 
         if (pendingTrade == null || !pendingTrade.isPending()) {
@@ -321,17 +515,23 @@ public class GameSession {
             executeTrade(pendingTrade);
             pendingTrade = pendingTrade.accept();
 
-            addEvent(TradeAcceptedEvent.builder()
-                    .gameId(gameId)
-                    .offer(pendingTrade)
-                    .build());
+            if (recordingEvents) {
+                addEvent(TradeAcceptedEvent.builder()
+                        .gameId(gameId)
+                        .occurredAt(commandTime)
+                        .offer(pendingTrade)
+                        .build());
+            }
         } else {
             pendingTrade = pendingTrade.reject();
 
-            addEvent(TradeRejectedEvent.builder()
-                    .gameId(gameId)
-                    .offer(pendingTrade)
-                    .build());
+            if (recordingEvents) {
+                addEvent(TradeRejectedEvent.builder()
+                        .gameId(gameId)
+                        .occurredAt(commandTime)
+                        .offer(pendingTrade)
+                        .build());
+            }
         }
 
         this.turnPhase = TurnPhase.ACTION;
@@ -339,6 +539,7 @@ public class GameSession {
     }
 
     public void endTurn(UUID playerId) {
+        beginCommand();
         validatePlayerTurn(playerId);
         
         // Can only end turn from ACTION phase
@@ -354,11 +555,14 @@ public class GameSession {
         PlayerState currentPlayer = getPlayer(playerId);
         currentPlayer.resetConsecutiveDoubles();
 
-        addEvent(TurnEndedEvent.builder()
-                .gameId(gameId)
-                .playerId(playerId)
-                .turnNumber(turnNumber)
-                .build());
+        if (recordingEvents) {
+            addEvent(TurnEndedEvent.builder()
+                    .gameId(gameId)
+                    .occurredAt(commandTime)
+                    .playerId(playerId)
+                    .turnNumber(turnNumber)
+                    .build());
+        }
 
         // Switch to next player
         advanceToNextPlayer();
@@ -368,37 +572,64 @@ public class GameSession {
             return;
         }
 
-        addEvent(TurnStartedEvent.builder()
-                .gameId(gameId)
-                .playerId(currentPlayerId)
-                .turnNumber(turnNumber)
-                .build());
+        if (recordingEvents) {
+            addEvent(TurnStartedEvent.builder()
+                    .gameId(gameId)
+                    .occurredAt(commandTime)
+                    .playerId(currentPlayerId)
+                    .turnNumber(turnNumber)
+                    .build());
+        }
 
         touch();
     }
 
     // ==================== Private Helpers ====================
 
+    private void seat(PlayerState player) {
+        player.bindTo(board.getPropertyIndex());
+        players.put(player.getPlayerId(), player);
+        turnOrder = Arrays.copyOf(turnOrder, turnOrder.length + 1);
+        turnOrder[turnOrder.length - 1] = player;
+    }
+
+    private int seatOf(UUID playerId) {
+        for (int seat = 0; seat < turnOrder.length; seat++) {
+            if (turnOrder[seat].getPlayerId().equals(playerId)) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
     private void startGame(UUID firstPlayerId) {
         this.status = GameStatus.IN_PROGRESS;
         this.currentPlayerId = firstPlayerId;
+        this.currentSeat = seatOf(firstPlayerId);
         this.turnPhase = TurnPhase.ROLL;
         this.turnNumber = 1;
 
-        addEvent(GameStartedEvent.builder()
-                .gameId(gameId)
-                .firstPlayerId(firstPlayerId)
-                .build());
+        if (recordingEvents) {
+            addEvent(GameStartedEvent.builder()
+                    .gameId(gameId)
+                    .occurredAt(commandTime)
+                    .firstPlayerId(firstPlayerId)
+                    .build());
+        }
     }
 
     private DiceRoll handleSandTrapRoll(PlayerState player) {
-        DiceRoll roll = DiceRoll.roll();
+        DiceRoll roll = diceSource.roll();
+        diceChanged = true;
 
-        addEvent(DiceRolledEvent.builder()
-                .gameId(gameId)
-                .playerId(player.getPlayerId())
-                .roll(roll)
-                .build());
+        if (recordingEvents) {
+            addEvent(DiceRolledEvent.builder()
+                    .gameId(gameId)
+                    .occurredAt(commandTime)
+                    .playerId(player.getPlayerId())
+                    .roll(roll)
+                    .build());
+        }
 
         if (roll.isDoubles()) {
             // Escape with doubles!
@@ -419,11 +650,14 @@ public class GameSession {
     }
 
     private void processMovement(PlayerState player, DiceRoll roll) {
-        addEvent(DiceRolledEvent.builder()
-                .gameId(gameId)
-                .playerId(player.getPlayerId())
-                .roll(roll)
-                .build());
+        if (recordingEvents) {
+            addEvent(DiceRolledEvent.builder()
+                    .gameId(gameId)
+                    .occurredAt(commandTime)
+                    .playerId(player.getPlayerId())
+                    .roll(roll)
+                    .build());
+        }
 
         // Track doubles
         if (roll.isDoubles()) {
@@ -445,21 +679,27 @@ public class GameSession {
         boolean passedStart = board.passedStart(oldPosition, newPosition) && newPosition != 0;
         if (passedStart) {
             player.addCurrency(GameConstants.PASSING_SALARY);
-            addEvent(SalaryCollectedEvent.builder()
+            if (recordingEvents) {
+                addEvent(SalaryCollectedEvent.builder()
+                        .gameId(gameId)
+                        .occurredAt(commandTime)
+                        .playerId(player.getPlayerId())
+                        .amount(GameConstants.PASSING_SALARY)
+                        .build());
+            }
+        }
+
+        if (recordingEvents) {
+            addEvent(PlayerMovedEvent.builder()
                     .gameId(gameId)
+                    .occurredAt(commandTime)
                     .playerId(player.getPlayerId())
-                    .amount(GameConstants.PASSING_SALARY)
+                    .fromPosition(oldPosition)
+                    .toPosition(newPosition)
+                    .passedStart(passedStart)
                     .build());
         }
 
-        addEvent(PlayerMovedEvent.builder()
-                .gameId(gameId)
-                .playerId(player.getPlayerId())
-                .fromPosition(oldPosition)
-                .toPosition(newPosition)
-                .passedStart(passedStart)
-                .build());
-
         // Handle tile effect
         handleLandedTile(player, board.getTileAt(newPosition));
 
@@ -483,11 +723,11 @@ public class GameSession {
     }
 
     private void handlePropertyTile(PlayerState player, Tile tile) {
-        Property property = tile.getProperty().orElseThrow();
+        Property property = tile.requireProperty();
 
         if (property.isOwned() && !property.isOwnedBy(player.getPlayerId())) {
             // Must pay rent
-            Money rent = property.calculateRent(
+            long rent = property.calculateRentCents(
                     board.ownsCompleteGroup(property.getOwnerId(), property.getCourseGroup())
             );
 
@@ -499,20 +739,23 @@ public class GameSession {
         this.turnPhase = TurnPhase.ACTION;
     }
 
-    private void processRentPayment(PlayerState payer, UUID receiverId, Property property, Money rent) {
+    private void processRentPayment(PlayerState payer, UUID receiverId, Property property, long rent) {
         PlayerState receiver = getPlayer(receiverId);
 
-        if (payer.canAfford(rent)) {
-            payer.subtractCurrency(rent);
-            receiver.addCurrency(rent);
-
-            addEvent(RentPaidEvent.builder()
-                    .gameId(gameId)
-                    .payerId(payer.getPlayerId())
-                    .receiverId(receiverId)
-                    .propertyId(property.getPropertyId())
-                    .amount(rent)
-                    .build());
+        if (payer.canAffordCents(rent)) {
+            payer.subtractCents(rent);
+            receiver.addCents(rent);
+
+            if (recordingEvents) {
+                addEvent(RentPaidEvent.builder()
+                        .gameId(gameId)
+                        .occurredAt(commandTime)
+                        .payerId(payer.getPlayerId())
+                        .receiverId(receiverId)
+                        .propertyId(property.getPropertyId())
+                        .amount(Money.ofCents(rent))
+                        .build());
+            }
         } else {
             // Bankruptcy
             handleBankruptcy(payer, receiver);
@@ -523,23 +766,21 @@ public class GameSession {
         bankruptPlayer.declareBankrupt();
 
         // Transfer all assets to creditor
-        for (UUID propertyId : new HashSet<>(bankruptPlayer.getOwnedPropertyIds())) {
-            Property property = board.getProperty(propertyId);
-            property.transferTo(creditor.getPlayerId());
-            bankruptPlayer.removeProperty(propertyId);
-            creditor.addProperty(propertyId);
-        }
+        transferProperties(bankruptPlayer, creditor, bankruptPlayer.getOwnedPropertyMask());
 
         // Transfer remaining currency
-        creditor.addCurrency(bankruptPlayer.getCurrency());
+        creditor.addCents(bankruptPlayer.getCurrencyCents());
         // Set bankrupt player currency to zero
         bankruptPlayer.setCurrency(Money.zero());
 
-        addEvent(PlayerBankruptEvent.builder()
-                .gameId(gameId)
-                .playerId(bankruptPlayer.getPlayerId())
-                .creditorId(creditor.getPlayerId())
-                .build());
+        if (recordingEvents) {
+            addEvent(PlayerBankruptEvent.builder()
+                    .gameId(gameId)
+                    .occurredAt(commandTime)
+                    .playerId(bankruptPlayer.getPlayerId())
+                    .creditorId(creditor.getPlayerId())
+                    .build());
+        }
     }
 
     private void sendToSandTrap(PlayerState player) {
@@ -548,10 +789,13 @@ public class GameSession {
         player.enterSandTrap();
         player.resetConsecutiveDoubles();
 
-        addEvent(PlayerSentToSandTrapEvent.builder()
-                .gameId(gameId)
-                .playerId(player.getPlayerId())
-                .build());
+        if (recordingEvents) {
+            addEvent(PlayerSentToSandTrapEvent.builder()
+                    .gameId(gameId)
+                    .occurredAt(commandTime)
+                    .playerId(player.getPlayerId())
+                    .build());
+        }
 
         this.turnPhase = TurnPhase.ACTION;
     }
@@ -560,12 +804,15 @@ public class GameSession {
         if (player.canAfford(GameConstants.WATER_HAZARD_PENALTY)) {
             player.subtractCurrency(GameConstants.WATER_HAZARD_PENALTY);
 
-            addEvent(PenaltyPaidEvent.builder()
-                    .gameId(gameId)
-                    .playerId(player.getPlayerId())
-                    .amount(GameConstants.WATER_HAZARD_PENALTY)
-                    .reason("Water Hazard")
-                    .build());
+            if (recordingEvents) {
+                addEvent(PenaltyPaidEvent.builder()
+                        .gameId(gameId)
+                        .occurredAt(commandTime)
+                        .playerId(player.getPlayerId())
+                        .amount(GameConstants.WATER_HAZARD_PENALTY)
+                        .reason("Water Hazard")
+                        .build());
+            }
         }
         // If can't afford, nothing happens (for MVP simplicity)
         this.turnPhase = TurnPhase.ACTION;
@@ -581,21 +828,9 @@ public class GameSession {
         PlayerState offering = getPlayer(offer.getOfferingPlayerId());
         PlayerState receiving = getPlayer(offer.getReceivingPlayerId());
 
-        // Transfer properties from offering to receiving
-        for (UUID propId : offer.getOfferedPropertyIds()) {
-            Property property = board.getProperty(propId);
-            property.transferTo(receiving.getPlayerId());
-            offering.removeProperty(propId);
-            receiving.addProperty(propId);
-        }
-
-        // Transfer properties from receiving to offering
-        for (UUID propId : offer.getRequestedPropertyIds()) {
-            Property property = board.getProperty(propId);
-            property.transferTo(offering.getPlayerId());
-            receiving.removeProperty(propId);
-            offering.addProperty(propId);
-        }
+        PropertyIndex index = board.getPropertyIndex();
+        transferProperties(offering, receiving, index.maskOf(offer.getOfferedPropertyIds()));
+        transferProperties(receiving, offering, index.maskOf(offer.getRequestedPropertyIds()));
 
         // Transfer currency
         if (offer.getOfferedCurrency().isPositive()) {
@@ -608,34 +843,61 @@ public class GameSession {
         }
     }
 
-    private void advanceToNextPlayer() {
-        List<UUID> playerIds = players.keySet().stream()
-                .filter(id -> !players.get(id).isBankrupt())
-                .toList();
+    private void transferProperties(PlayerState from, PlayerState to, long mask) {
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            board.getPropertyByOrdinal(Long.numberOfTrailingZeros(remaining)).transferTo(to.getPlayerId());
+        }
+        from.removeProperties(mask);
+        to.addProperties(mask);
+    }
 
-        int currentIndex = playerIds.indexOf(currentPlayerId);
-        int nextIndex = (currentIndex + 1) % playerIds.size();
+    private void advanceToNextPlayer() {
+        // Next solvent seat after the current one; the first solvent seat if the current player went bankrupt
+        int next = -1;
+        if (currentSeat >= 0 && !turnOrder[currentSeat].isBankrupt()) {
+            for (int step = 1; step <= turnOrder.length && next < 0; step++) {
+                int candidate = (currentSeat + step) % turnOrder.length;
+                if (!turnOrder[candidate].isBankrupt()) {
+                    next = candidate;
+                }
+            }
+        } else {
+            for (int candidate = 0; candidate < turnOrder.length && next < 0; candidate++) {
+                if (!turnOrder[candidate].isBankrupt()) {
+                    next = candidate;
+                }
+            }
+        }
 
-        this.currentPlayerId = playerIds.get(nextIndex);
+        this.currentSeat = next;
+        this.currentPlayerId = turnOrder[next].getPlayerId();
         this.turnPhase = TurnPhase.ROLL;
         this.turnNumber++;
     }
 
     private boolean checkGameEnd() {
-        List<PlayerState> activePlayers = players.values().stream()
-                .filter(p -> !p.isBankrupt())
-                .toList();
+        PlayerState lastStanding = null;
+        int activeCount = 0;
+        for (PlayerState player : turnOrder) {
+            if (!player.isBankrupt()) {
+                lastStanding = player;
+                activeCount++;
+            }
+        }
 
-        if (activePlayers.size() == 1) {
+        if (activeCount == 1) {
             // One player left standing
-            this.winnerId = activePlayers.get(0).getPlayerId();
+            this.winnerId = lastStanding.getPlayerId();
             this.status = GameStatus.COMPLETED;
 
-            addEvent(GameEndedEvent.builder()
-                    .gameId(gameId)
-                    .winnerId(winnerId)
-                    .reason("Opponent bankrupt")
-                    .build());
+            if (recordingEvents) {
+                addEvent(GameEndedEvent.builder()
+                        .gameId(gameId)
+                        .occurredAt(commandTime)
+                        .winnerId(winnerId)
+                        .reason("Opponent bankrupt")
+                        .build());
+            }
             return true;
         }
 
@@ -678,10 +940,7 @@ public class GameSession {
     }
 
     public PlayerState getCurrentPlayer() {
-        if (currentPlayerId == null) {
-            return null;
-        }
-        return getPlayer(currentPlayerId);
+        return currentSeat >= 0 ? turnOrder[currentSeat] : null;
     }
 
     public Optional<PlayerState> getNpcPlayer() {
@@ -707,9 +966,13 @@ public class GameSession {
     }
 
     public List<PlayerState> getActivePlayers() {
-        return players.values().stream()
-                .filter(p -> !p.isBankrupt())
-                .toList();
+        List<PlayerState> active = new ArrayList<>(turnOrder.length);
+        for (PlayerState player : turnOrder) {
+            if (!player.isBankrupt()) {
+                active.add(player);
+            }
+        }
+        return Collections.unmodifiableList(active);
     }
 
     // ==================== Event Management ====================
@@ -718,14 +981,26 @@ public class GameSession {
         pendingEvents.add(event);
     }
 
+    /**
+     * Hand over the events recorded since the last drain.
+     * The returned list is reused as a buffer: it stays valid only until the next call
+     * to {@code drainEvents}, so copy it if it must outlive that.
+     */
     public List<GameEvent> drainEvents() {
-        List<GameEvent> events = new ArrayList<>(pendingEvents);
+        List<GameEvent> events = pendingEvents;
+        pendingEvents = drainedEvents;
         pendingEvents.clear();
+        drainedEvents = events;
+        unloggedEvents += events.size();
         return events;
     }
 
+    private void beginCommand() {
+        this.commandTime = clock.instant();
+    }
+
     private void touch() {
-        this.updatedAt = Instant.now();
-        this.lastActivityAt = Instant.now();
+        this.updatedAt = commandTime;
+        this.lastActivityAt = commandTime;
     }
 }
@@ -2,6 +2,7 @@ package com.fore.game.domain.model;
 
 import com.fore.common.types.Money;
 import com.fore.game.domain.model.enums.Difficulty;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 
@@ -21,20 +22,28 @@ public class PlayerState {
 
     // Mutable game state
     private int position;
-    private Money currency;
-    private final Set<UUID> ownedPropertyIds;
+    private long currencyCents; // Money is built only at the edges, see getCurrency()
+    private long ownedPropertyMask; // Bits are ordinals in propertyIndex
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private PropertyIndex propertyIndex;
     private boolean bankrupt;
     private int turnsInSandTrap;
     private int consecutiveDoubles;
 
+    // Set by every mutator, cleared by the session once its stored snapshot matches
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean changed;
+
     private PlayerState(Builder builder) {
         this.playerId = builder.playerId;
         this.displayName = builder.displayName;
         this.npc = builder.npc;
         this.npcDifficulty = builder.npc ? (builder.npcDifficulty != null ? builder.npcDifficulty : Difficulty.MEDIUM) : null;
         this.position = 0;
-        this.currency = builder.startingCurrency;
-        this.ownedPropertyIds = new HashSet<>();
+        this.currencyCents = builder.startingCurrency.toCents();
+        this.propertyIndex = new PropertyIndex(); // Replaced by the board's index once seated in a game
         this.bankrupt = false;
         this.turnsInSandTrap = 0;
         this.consecutiveDoubles = 0;
@@ -82,63 +91,141 @@ public class PlayerState {
     }
 
     public void moveTo(int newPosition) {
+        changed = true;
         this.position = newPosition;
     }
 
+    public Money getCurrency() {
+        return Money.ofCents(currencyCents);
+    }
+
     public void setCurrency(Money amount) {
-        this.currency = amount;
+        changed = true;
+        this.currencyCents = amount.toCents();
     }
 
     public void addCurrency(Money amount) {
-        this.currency = this.currency.add(amount);
+        addCents(amount.toCents());
     }
 
     public void subtractCurrency(Money amount) {
-        this.currency = this.currency.subtract(amount);
-        if (this.currency.isNegative()) {
+        subtractCents(amount.toCents());
+    }
+
+    public boolean canAfford(Money amount) {
+        return canAffordCents(amount.toCents());
+    }
+
+    public void addCents(long cents) {
+        changed = true;
+        this.currencyCents += cents;
+    }
+
+    public void subtractCents(long cents) {
+        changed = true;
+        this.currencyCents -= cents;
+        if (this.currencyCents < 0) {
             throw new IllegalStateException("Player " + displayName + " cannot have negative currency");
         }
     }
 
-    public boolean canAfford(Money amount) {
-        return this.currency.isGreaterThanOrEqual(amount);
+    public boolean canAffordCents(long cents) {
+        return this.currencyCents >= cents;
     }
 
     public void addProperty(UUID propertyId) {
-        this.ownedPropertyIds.add(propertyId);
+        changed = true;
+        this.ownedPropertyMask |= 1L << propertyIndex.intern(propertyId);
     }
 
     public void removeProperty(UUID propertyId) {
-        this.ownedPropertyIds.remove(propertyId);
+        changed = true;
+        int ordinal = propertyIndex.ordinalOf(propertyId);
+        if (ordinal != PropertyIndex.UNKNOWN) {
+            this.ownedPropertyMask &= ~(1L << ordinal);
+        }
     }
 
     public boolean ownsProperty(UUID propertyId) {
-        return ownedPropertyIds.contains(propertyId);
+        int ordinal = propertyIndex.ordinalOf(propertyId);
+        return ordinal != PropertyIndex.UNKNOWN && (ownedPropertyMask & (1L << ordinal)) != 0;
+    }
+
+    public boolean ownsAllProperties(Collection<UUID> propertyIds) {
+        for (UUID propertyId : propertyIds) {
+            if (!ownsProperty(propertyId)) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Snapshot of owned property ids, for the API and persistence edges.
+     */
     public Set<UUID> getOwnedPropertyIds() {
-        return Collections.unmodifiableSet(ownedPropertyIds);
+        return propertyIndex.idsOf(ownedPropertyMask);
     }
 
     public int getPropertyCount() {
-        return ownedPropertyIds.size();
+        return Long.bitCount(ownedPropertyMask);
+    }
+
+    // Masks are only meaningful against the same index, so bulk updates stay inside the domain package
+
+    void addProperties(long mask) {
+        changed = true;
+        this.ownedPropertyMask |= mask;
+    }
+
+    void removeProperties(long mask) {
+        changed = true;
+        this.ownedPropertyMask &= ~mask;
+    }
+
+    /**
+     * Re-key ownership onto a board's index so masks can be compared across players.
+     */
+    void bindTo(PropertyIndex boardIndex) {
+        if (boardIndex == propertyIndex) {
+            return;
+        }
+        long rebound = 0;
+        for (long remaining = ownedPropertyMask; remaining != 0; remaining &= remaining - 1) {
+            UUID propertyId = propertyIndex.idOf(Long.numberOfTrailingZeros(remaining));
+            rebound |= 1L << boardIndex.intern(propertyId);
+        }
+        this.propertyIndex = boardIndex;
+        this.ownedPropertyMask = rebound;
+    }
+
+    boolean isChanged() {
+        return changed;
+    }
+
+    void clearChanged() {
+        changed = false;
     }
 
     public void declareBankrupt() {
+        changed = true;
         this.bankrupt = true;
     }
 
     public void enterSandTrap() {
+        changed = true;
         this.turnsInSandTrap = 3; // Must wait 3 turns or pay to escape
     }
 
     public void decrementSandTrapTurns() {
+        changed = true;
         if (turnsInSandTrap > 0) {
             turnsInSandTrap--;
         }
     }
 
     public void escapeSandTrap() {
+        changed = true;
         this.turnsInSandTrap = 0;
     }
 
@@ -147,18 +234,22 @@ public class PlayerState {
     }
 
     public void setTurnsInSandTrap(int turns) {
+        changed = true;
         this.turnsInSandTrap = turns;
     }
 
     public void incrementConsecutiveDoubles() {
+        changed = true;
         this.consecutiveDoubles++;
     }
 
     public void resetConsecutiveDoubles() {
+        changed = true;
         this.consecutiveDoubles = 0;
     }
 
     public void setConsecutiveDoubles(int count) {
+        changed = true;
         this.consecutiveDoubles = count;
     }
 
@@ -171,8 +262,12 @@ public class PlayerState {
      */
     public Money calculateNetWorth(Board board) {
         Money propertyValue = Money.zero();
-        for (UUID propertyId : ownedPropertyIds) {
-            Property property = board.getProperty(propertyId);
+        boolean bound = propertyIndex == board.getPropertyIndex();
+        for (long remaining = ownedPropertyMask; remaining != 0; remaining &= remaining - 1) {
+            int ordinal = Long.numberOfTrailingZeros(remaining);
+            Property property = bound
+                    ? board.getPropertyByOrdinal(ordinal)
+                    : board.getProperty(propertyIndex.idOf(ordinal));
             propertyValue = propertyValue.add(property.getPurchasePrice());
 
             // Add improvement value
@@ -183,7 +278,7 @@ public class PlayerState {
                 );
             }
         }
-        return currency.add(propertyValue);
+        return getCurrency().add(propertyValue);
     }
 
     public boolean isHuman() {
@@ -3,6 +3,7 @@ package com.fore.game.domain.model;
 import com.fore.common.types.Money;
 import com.fore.game.domain.model.enums.CourseGroup;
 import com.fore.game.domain.model.enums.ImprovementLevel;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -11,29 +12,33 @@ import java.util.UUID;
 
 /**
  * Represents a purchasable property on the board.
- * Mutable within the context of a game session.
+ * Static data lives in a {@link PropertyDefinition} shared by every board built from the
+ * same template; this object holds only the state that is mutable within a game session.
  */
 @Getter
 @ToString
 public class Property {
 
-    private final UUID propertyId;
-    private final String name;
-    private final CourseGroup courseGroup;
-    private final int tilePosition;
-
-    // Pricing
-    private final Money purchasePrice;
-    private final Money baseRent;
-    private final Money rentWithClubhouse;
-    private final Money rentWithResort;
-    private final Money improvementCost;
+    private final PropertyDefinition definition;
 
     // Mutable state
     private UUID ownerId;
     private ImprovementLevel improvementLevel;
     private boolean mortgaged;
 
+    // Board whose group counts track this property's owner
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private Board board;
+
+    public Property(PropertyDefinition definition) {
+        this.definition = definition;
+        this.ownerId = null;
+        this.improvementLevel = ImprovementLevel.NONE;
+        this.mortgaged = false;
+        stateChanged();
+    }
+
     @Builder
     public Property(
             UUID propertyId,
@@ -45,18 +50,52 @@ public class Property {
             Money rentWithClubhouse,
             Money rentWithResort,
             Money improvementCost) {
-        this.propertyId = propertyId != null ? propertyId : UUID.randomUUID();
-        this.name = name;
-        this.courseGroup = courseGroup;
-        this.tilePosition = tilePosition;
-        this.purchasePrice = purchasePrice;
-        this.baseRent = baseRent;
-        this.rentWithClubhouse = rentWithClubhouse;
-        this.rentWithResort = rentWithResort;
-        this.improvementCost = improvementCost;
-        this.ownerId = null;
-        this.improvementLevel = ImprovementLevel.NONE;
-        this.mortgaged = false;
+        this(new PropertyDefinition(
+                propertyId != null ? propertyId : UUID.randomUUID(),
+                name,
+                courseGroup,
+                tilePosition,
+                purchasePrice,
+                baseRent,
+                rentWithClubhouse,
+                rentWithResort,
+                improvementCost));
+    }
+
+    public UUID getPropertyId() {
+        return definition.propertyId();
+    }
+
+    public String getName() {
+        return definition.name();
+    }
+
+    public CourseGroup getCourseGroup() {
+        return definition.courseGroup();
+    }
+
+    public int getTilePosition() {
+        return definition.tilePosition();
+    }
+
+    public Money getPurchasePrice() {
+        return definition.purchasePrice();
+    }
+
+    public Money getBaseRent() {
+        return definition.baseRent();
+    }
+
+    public Money getRentWithClubhouse() {
+        return definition.rentWithClubhouse();
+    }
+
+    public Money getRentWithResort() {
+        return definition.rentWithResort();
+    }
+
+    public Money getImprovementCost() {
+        return definition.improvementCost();
     }
 
     public boolean isOwned() {
@@ -69,29 +108,73 @@ public class Property {
 
     public void purchase(UUID newOwnerId) {
         if (isOwned()) {
-            throw new IllegalStateException("Property " + name + " is already owned");
+            throw new IllegalStateException("Property " + getName() + " is already owned");
         }
-        this.ownerId = newOwnerId;
+        changeOwner(newOwnerId);
     }
 
     public void transferTo(UUID newOwnerId) {
+        changeOwner(newOwnerId);
+    }
+
+    /**
+     * Set saved state directly when rebuilding a game, without replaying purchases and improvements.
+     * Only valid on a property that has not been played yet.
+     */
+    public void restore(UUID ownerId, ImprovementLevel improvementLevel, boolean mortgaged) {
+        if (isOwned() || this.improvementLevel != ImprovementLevel.NONE || this.mortgaged) {
+            throw new IllegalStateException("Property " + getName() + " already has state");
+        }
+        if (mortgaged && improvementLevel != ImprovementLevel.NONE) {
+            throw new IllegalStateException("Mortgaged property " + getName() + " cannot be improved");
+        }
+        this.improvementLevel = improvementLevel;
+        this.mortgaged = mortgaged;
+        stateChanged();
+        if (ownerId != null) {
+            changeOwner(ownerId);
+        }
+    }
+
+    void attachTo(Board board) {
+        this.board = board;
+    }
+
+    private void changeOwner(UUID newOwnerId) {
+        UUID previousOwnerId = this.ownerId;
         this.ownerId = newOwnerId;
+        if (board != null) {
+            board.onOwnerChanged(this, previousOwnerId, newOwnerId);
+        }
+    }
+
+    private void stateChanged() {
+        if (board != null) {
+            board.onPropertyStateChanged();
+        }
     }
 
     public Money calculateRent(boolean ownerHasCompleteGroup) {
+        return Money.ofCents(calculateRentCents(ownerHasCompleteGroup));
+    }
+
+    /**
+     * Same as {@link #calculateRent} without allocating a Money.
+     */
+    public long calculateRentCents(boolean ownerHasCompleteGroup) {
         if (mortgaged) {
-            return Money.zero();
+            return 0;
         }
 
-        Money rent = switch (improvementLevel) {
-            case NONE -> baseRent;
-            case CLUBHOUSE -> rentWithClubhouse;
-            case RESORT -> rentWithResort;
+        long rent = switch (improvementLevel) {
+            case NONE -> definition.baseRent().toCents();
+            case CLUBHOUSE -> definition.rentWithClubhouse().toCents();
+            case RESORT -> definition.rentWithResort().toCents();
         };
 
         // Double rent if owner has complete group and no improvements
         if (ownerHasCompleteGroup && improvementLevel == ImprovementLevel.NONE) {
-            rent = rent.multiply(2);
+            rent *= 2;
         }
 
         return rent;
@@ -99,26 +182,28 @@ public class Property {
 
     public void improve() {
         if (!improvementLevel.canUpgrade()) {
-            throw new IllegalStateException("Property " + name + " is already at maximum improvement");
+            throw new IllegalStateException("Property " + getName() + " is already at maximum improvement");
         }
         if (mortgaged) {
-            throw new IllegalStateException("Cannot improve mortgaged property " + name);
+            throw new IllegalStateException("Cannot improve mortgaged property " + getName());
         }
         this.improvementLevel = improvementLevel.nextLevel();
+        stateChanged();
     }
 
     public void mortgage() {
         if (mortgaged) {
-            throw new IllegalStateException("Property " + name + " is already mortgaged");
+            throw new IllegalStateException("Property " + getName() + " is already mortgaged");
         }
         if (improvementLevel != ImprovementLevel.NONE) {
-            throw new IllegalStateException("Must sell improvements before mortgaging " + name);
+            throw new IllegalStateException("Must sell improvements before mortgaging " + getName());
         }
         this.mortgaged = true;
+        stateChanged();
     }
 
     public Money getMortgageValue() {
-        return purchasePrice.multiply(0.5);
+        return definition.purchasePrice().multiply(0.5);
     }
 
     public Money getUnmortgageCost() {
@@ -127,9 +212,10 @@ public class Property {
 
     public void unmortgage() {
         if (!mortgaged) {
-            throw new IllegalStateException("Property " + name + " is not mortgaged");
+            throw new IllegalStateException("Property " + getName() + " is not mortgaged");
         }
         this.mortgaged = false;
+        stateChanged();
     }
 
     public boolean canBeImproved() {
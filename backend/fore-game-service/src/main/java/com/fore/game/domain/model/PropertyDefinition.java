@@ -0,0 +1,22 @@
+package com.fore.game.domain.model;
+
+import com.fore.common.types.Money;
+import com.fore.game.domain.model.enums.CourseGroup;
+
+import java.util.UUID;
+
+/**
+ * Static description of a property: identity, group and prices.
+ * Shared by every board built from the same template.
+ */
+public record PropertyDefinition(
+        UUID propertyId,
+        String name,
+        CourseGroup courseGroup,
+        int tilePosition,
+        Money purchasePrice,
+        Money baseRent,
+        Money rentWithClubhouse,
+        Money rentWithResort,
+        Money improvementCost) {
+}
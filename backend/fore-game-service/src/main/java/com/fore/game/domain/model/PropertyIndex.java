@@ -0,0 +1,81 @@
+package com.fore.game.domain.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Interns property UUIDs to dense ordinals so ownership can be held as a {@code long} bit mask.
+ * A board interns its own properties first, in tile order; ids seen later are appended.
+ */
+public final class PropertyIndex {
+
+    public static final int CAPACITY = Long.SIZE;
+    public static final int UNKNOWN = -1;
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final UUID[] ids = new UUID[CAPACITY];
+    private int size;
+
+    /**
+     * Ordinal for an id, assigning the next free one if it has not been seen.
+     */
+    public int intern(UUID propertyId) {
+        Integer ordinal = ordinals.get(propertyId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        if (size == CAPACITY) {
+            throw new IllegalStateException("Property index is limited to " + CAPACITY + " properties");
+        }
+        ids[size] = propertyId;
+        ordinals.put(propertyId, size);
+        return size++;
+    }
+
+    /**
+     * Ordinal for an id, or {@link #UNKNOWN} if it has never been interned.
+     */
+    public int ordinalOf(UUID propertyId) {
+        Integer ordinal = ordinals.get(propertyId);
+        return ordinal != null ? ordinal : UNKNOWN;
+    }
+
+    public UUID idOf(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IllegalArgumentException("Unknown property ordinal: " + ordinal);
+        }
+        return ids[ordinal];
+    }
+
+    /**
+     * Mask of already-interned ids.
+     */
+    public long maskOf(Collection<UUID> propertyIds) {
+        long mask = 0;
+        for (UUID propertyId : propertyIds) {
+            int ordinal = ordinalOf(propertyId);
+            if (ordinal == UNKNOWN) {
+                throw new IllegalArgumentException("Property not found: " + propertyId);
+            }
+            mask |= 1L << ordinal;
+        }
+        return mask;
+    }
+
+    public Set<UUID> idsOf(long mask) {
+        Set<UUID> result = new HashSet<>(Long.bitCount(mask) * 2);
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            result.add(ids[Long.numberOfTrailingZeros(remaining)]);
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    public int size() {
+        return size;
+    }
+}
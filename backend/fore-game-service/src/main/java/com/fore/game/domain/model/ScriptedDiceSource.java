@@ -0,0 +1,49 @@
+package com.fore.game.domain.model;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Dice that replay a fixed sequence of rolls, for tests, replays and load scripts.
+ */
+public final class ScriptedDiceSource implements DiceSource {
+
+    private final Deque<DiceRoll> rolls;
+
+    private ScriptedDiceSource(Deque<DiceRoll> rolls) {
+        this.rolls = rolls;
+    }
+
+    public static ScriptedDiceSource of(DiceRoll... rolls) {
+        return new ScriptedDiceSource(new ArrayDeque<>(Arrays.asList(rolls)));
+    }
+
+    /**
+     * Draw {@code count} rolls up front from another source.
+     */
+    public static ScriptedDiceSource pregenerate(DiceSource source, int count) {
+        Deque<DiceRoll> rolls = new ArrayDeque<>(count);
+        for (int i = 0; i < count; i++) {
+            rolls.add(source.roll());
+        }
+        return new ScriptedDiceSource(rolls);
+    }
+
+    public void append(DiceRoll roll) {
+        rolls.addLast(roll);
+    }
+
+    public int remaining() {
+        return rolls.size();
+    }
+
+    @Override
+    public DiceRoll roll() {
+        DiceRoll roll = rolls.pollFirst();
+        if (roll == null) {
+            throw new IllegalStateException("Scripted dice exhausted");
+        }
+        return roll;
+    }
+}
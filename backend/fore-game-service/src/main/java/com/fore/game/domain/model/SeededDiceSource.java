@@ -0,0 +1,67 @@
+package com.fore.game.domain.model;
+
+import lombok.Getter;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reproducible dice backed by a seeded {@link SplittableRandom}.
+ * The full state is the seed plus the number of rolls drawn so far,
+ * which is what gets persisted with the game.
+ */
+@Getter
+public final class SeededDiceSource implements DiceSource {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private long rollCount;
+
+    private final SplittableRandom random;
+
+    private SeededDiceSource(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public static SeededDiceSource withSeed(long seed) {
+        return new SeededDiceSource(seed);
+    }
+
+    public static SeededDiceSource withRandomSeed() {
+        return new SeededDiceSource(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Restore a source to the position it had after {@code rollCount} rolls.
+     */
+    public static SeededDiceSource restore(long seed, long rollCount) {
+        SeededDiceSource source = new SeededDiceSource(seed);
+        for (long i = 0; i < rollCount; i++) {
+            source.roll();
+        }
+        return source;
+    }
+
+    /**
+     * Derive the seed of an independent stream from a master seed.
+     * Lets parallel workers seed game {@code streamIndex} without coordinating.
+     */
+    public static SeededDiceSource forStream(long masterSeed, long streamIndex) {
+        return new SeededDiceSource(mix64(masterSeed + streamIndex * GOLDEN_GAMMA));
+    }
+
+    @Override
+    public DiceRoll roll() {
+        rollCount++;
+        return DiceRoll.of(random.nextInt(1, 7), random.nextInt(1, 7));
+    }
+
+    // SplitMix64 finalizer, the same mixing SplittableRandom applies to its own seeds
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,6 +1,7 @@
 package com.fore.game.domain.model;
 
 import com.fore.game.domain.model.enums.TileType;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -10,54 +11,82 @@ import java.util.UUID;
 
 /**
  * Represents a single tile on the game board.
+ * Static data lives in a shared {@link TileDefinition}; only the property is per game.
  */
 @Getter
 @ToString
 public class Tile {
 
-    private final UUID tileId;
-    private final int position;
-    private final TileType type;
-    private final String name;
+    private final TileDefinition definition;
+    @Getter(AccessLevel.NONE)
     private final Property property; // Only present if type == PROPERTY
 
+    public Tile(TileDefinition definition) {
+        this(definition, definition.property() != null ? new Property(definition.property()) : null);
+    }
+
+    private Tile(TileDefinition definition, Property property) {
+        this.definition = definition;
+        this.property = property;
+    }
+
     @Builder
     public Tile(UUID tileId, int position, TileType type, String name, Property property) {
-        this.tileId = tileId != null ? tileId : UUID.randomUUID();
-        this.position = position;
-        this.type = type;
-        this.name = name;
+        this(new TileDefinition(
+                tileId != null ? tileId : UUID.randomUUID(),
+                position,
+                type,
+                name,
+                property != null ? property.getDefinition() : null), property);
+    }
 
-        if (type == TileType.PROPERTY && property == null) {
-            throw new IllegalArgumentException("Property tile must have a property");
-        }
-        if (type != TileType.PROPERTY && property != null) {
-            throw new IllegalArgumentException("Non-property tile cannot have a property");
-        }
-        this.property = property;
+    public UUID getTileId() {
+        return definition.tileId();
+    }
+
+    public int getPosition() {
+        return definition.position();
+    }
+
+    public TileType getType() {
+        return definition.type();
+    }
+
+    public String getName() {
+        return definition.name();
     }
 
     public Optional<Property> getProperty() {
         return Optional.ofNullable(property);
     }
 
+    /**
+     * The property on a property tile, without the Optional wrapper.
+     */
+    public Property requireProperty() {
+        if (property == null) {
+            throw new IllegalStateException("Tile " + getPosition() + " is not a property tile");
+        }
+        return property;
+    }
+
     public boolean isProperty() {
-        return type == TileType.PROPERTY;
+        return definition.type() == TileType.PROPERTY;
     }
 
     public boolean isStartTile() {
-        return type == TileType.CLUBHOUSE_HQ;
+        return definition.type() == TileType.CLUBHOUSE_HQ;
     }
 
     public boolean isSafeTile() {
-        return type == TileType.MEMBERS_LOUNGE || type == TileType.CLUBHOUSE_HQ;
+        return definition.type() == TileType.MEMBERS_LOUNGE || definition.type() == TileType.CLUBHOUSE_HQ;
     }
 
     public boolean requiresPayment() {
-        return type == TileType.WATER_HAZARD;
+        return definition.type() == TileType.WATER_HAZARD;
     }
 
     public boolean causesTurnLoss() {
-        return type == TileType.SAND_TRAP;
+        return definition.type() == TileType.SAND_TRAP;
     }
 }
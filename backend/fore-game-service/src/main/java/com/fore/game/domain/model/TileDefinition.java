@@ -0,0 +1,25 @@
+package com.fore.game.domain.model;
+
+import com.fore.game.domain.model.enums.TileType;
+
+import java.util.UUID;
+
+/**
+ * Static description of a tile, shared by every board built from the same template.
+ */
+public record TileDefinition(
+        UUID tileId,
+        int position,
+        TileType type,
+        String name,
+        PropertyDefinition property) { // null for non-property tiles
+
+    public TileDefinition {
+        if (type == TileType.PROPERTY && property == null) {
+            throw new IllegalArgumentException("Property tile must have a property");
+        }
+        if (type != TileType.PROPERTY && property != null) {
+            throw new IllegalArgumentException("Non-property tile cannot have a property");
+        }
+    }
+}
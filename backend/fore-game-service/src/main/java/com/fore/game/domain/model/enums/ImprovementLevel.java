@@ -10,9 +10,18 @@ public enum ImprovementLevel {
     CLUBHOUSE(1, "Clubhouse"),
     RESORT(2, "Resort");
 
+    private static final ImprovementLevel[] BY_LEVEL = values();
+
     private final int level;
     private final String displayName;
 
+    public static ImprovementLevel ofLevel(int level) {
+        if (level < 0 || level >= BY_LEVEL.length) {
+            throw new IllegalArgumentException("Unknown improvement level: " + level);
+        }
+        return BY_LEVEL[level];
+    }
+
     public boolean canUpgrade() {
         return this != RESORT;
     }
@@ -1,58 +1,216 @@
 package com.fore.game.infrastructure.persistence;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fore.game.application.ports.outbound.GameEventRepository;
 import com.fore.game.domain.events.GameEvent;
-import com.fore.game.infrastructure.persistence.entity.GameEventEntity;
+import com.fore.game.domain.events.LoggedEvent;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.infrastructure.persistence.entity.GameCheckpointEntity;
 import com.fore.game.infrastructure.persistence.mapper.GameEventMapper;
+import com.fore.game.infrastructure.persistence.mapper.GameSessionMapper;
+import com.fore.game.infrastructure.persistence.repository.JpaGameCheckpointRepository;
 import com.fore.game.infrastructure.persistence.repository.JpaGameEventRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class GameEventRepositoryAdapter implements GameEventRepository {
 
+    private static final String INSERT_PREFIX = """
+            INSERT INTO game_events (event_id, game_id, sequence_num, event_type, actor_id, event_payload, created_at)
+            VALUES\s""";
+    private static final String ROW_VALUES = "(?, ?, ?, ?, ?, CAST(? AS jsonb), ?)";
+    private static final int COLUMNS = 7;
+    private static final String INSERT_CHECKPOINT = """
+            INSERT INTO game_checkpoints (game_id, sequence_num, status, current_player_id, turn_phase,
+                                          turn_number, winner_id, game_state_snapshot, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?)""";
+
     private final JpaGameEventRepository jpaRepository;
+    private final JpaGameCheckpointRepository checkpointRepository;
     private final GameEventMapper mapper;
+    private final GameSessionMapper sessionMapper;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final int checkpointInterval;
+
+    public GameEventRepositoryAdapter(
+            JpaGameEventRepository jpaRepository,
+            JpaGameCheckpointRepository checkpointRepository,
+            GameEventMapper mapper,
+            GameSessionMapper sessionMapper,
+            ObjectMapper objectMapper,
+            JdbcTemplate jdbcTemplate,
+            EntityManager entityManager,
+            @Value("${fore.event-log.checkpoint-interval:100}") int checkpointInterval) {
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive: " + checkpointInterval);
+        }
+        this.jpaRepository = jpaRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.mapper = mapper;
+        this.sessionMapper = sessionMapper;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.checkpointInterval = checkpointInterval;
+    }
 
+    /**
+     * Inserts all events as one multi-row statement. Sequence numbers continue from the
+     * game's known high-water mark; the log is only queried the first time a reloaded
+     * game appends. The game is checkpointed after its first batch and whenever the batch
+     * crosses a multiple of the checkpoint interval. The game's high-water mark moves with
+     * the insert and is forgotten again if the transaction rolls back.
+     */
     @Override
     @Transactional
-    public void appendEvents(UUID gameId, List<GameEvent> events) {
+    public void appendEvents(GameSession game, List<GameEvent> events) {
         if (events.isEmpty()) {
             return;
         }
 
+        UUID gameId = game.getGameId();
         log.debug("Appending {} events for game {}", events.size(), gameId);
 
-        long nextSeq = getNextSequenceNumber(gameId);
+        long lastSequence = game.getEventSequence();
+        if (lastSequence == GameSession.UNKNOWN_EVENT_SEQUENCE) {
+            lastSequence = getNextSequenceNumber(gameId) - 1;
+        }
+        long firstSequence = lastSequence + 1;
 
-        List<GameEventEntity> entities = events.stream()
-                .map(event -> mapper.toEntity(event, nextSeq + events.indexOf(event)))
-                .toList();
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + events.size() * (ROW_VALUES.length() + 2))
+                .append(INSERT_PREFIX);
+        for (int i = 0; i < events.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(ROW_VALUES);
+        }
+        jdbcTemplate.update(sql.toString(), ps -> {
+            for (int i = 0; i < events.size(); i++) {
+                bindRow(ps, i * COLUMNS, events.get(i), gameId, firstSequence + i);
+            }
+        });
+
+        long newLastSequence = lastSequence + events.size();
+        game.recordEventSequence(newLastSequence);
+        forgetSequenceOnRollback(game);
+
+        if (lastSequence == 0 || newLastSequence / checkpointInterval > lastSequence / checkpointInterval) {
+            insertCheckpoint(game, newLastSequence);
+        }
+    }
+
+    private static void forgetSequenceOnRollback(GameSession game) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    // The rows are gone, so continuing from here would leave a gap
+                    game.recordEventSequence(GameSession.UNKNOWN_EVENT_SEQUENCE);
+                }
+            }
+        });
+    }
 
-        jpaRepository.saveAll(entities);
+    private void insertCheckpoint(GameSession game, long sequenceNum) {
+        GameCheckpointEntity checkpoint = sessionMapper.toCheckpoint(game, sequenceNum);
+        String snapshotJson;
+        try {
+            snapshotJson = objectMapper.writeValueAsString(checkpoint.getGameStateSnapshot());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize checkpoint for game " + game.getGameId(), e);
+        }
+        jdbcTemplate.update(INSERT_CHECKPOINT, ps -> {
+            ps.setObject(1, checkpoint.getGameId());
+            ps.setLong(2, checkpoint.getSequenceNum());
+            ps.setString(3, checkpoint.getStatus());
+            setUuid(ps, 4, checkpoint.getCurrentPlayerId());
+            ps.setString(5, checkpoint.getTurnPhase());
+            ps.setInt(6, checkpoint.getTurnNumber());
+            setUuid(ps, 7, checkpoint.getWinnerId());
+            ps.setString(8, snapshotJson);
+            ps.setTimestamp(9, Timestamp.from(checkpoint.getCreatedAt()));
+            ps.setTimestamp(10, Timestamp.from(checkpoint.getUpdatedAt()));
+        });
+        log.debug("Checkpointed game {} at sequence {}", game.getGameId(), sequenceNum);
+    }
+
+    private void bindRow(PreparedStatement ps, int offset, GameEvent event, UUID gameId, long sequenceNum)
+            throws SQLException {
+        ps.setObject(offset + 1, event.getEventId());
+        ps.setObject(offset + 2, gameId);
+        ps.setLong(offset + 3, sequenceNum);
+        ps.setString(offset + 4, event.getEventType());
+        setUuid(ps, offset + 5, mapper.extractActorId(event));
+        ps.setString(offset + 6, mapper.toPayloadJson(event));
+        ps.setTimestamp(offset + 7, Timestamp.from(event.getOccurredAt()));
+    }
+
+    private static void setUuid(PreparedStatement ps, int index, UUID value) throws SQLException {
+        if (value != null) {
+            ps.setObject(index, value);
+        } else {
+            ps.setNull(index, Types.OTHER);
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<GameEvent> findByGameId(UUID gameId) {
-        // For now, return raw event data as we don't need full reconstruction
-        // This would be enhanced if we need full event replay
         log.debug("Finding events for game {}", gameId);
-        return List.of(); // Simplified - events stored but not fully reconstructed
+        return jpaRepository.findByGameIdOrderBySequenceNumAsc(gameId).stream()
+                .map(mapper::toDomain)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<GameEvent> findByGameIdAfterSequence(UUID gameId, long afterSequenceNum) {
         log.debug("Finding events for game {} after sequence {}", gameId, afterSequenceNum);
-        return List.of(); // Simplified for MVP
+        return jpaRepository.findByGameIdAndSequenceNumGreaterThanOrderBySequenceNumAsc(gameId, afterSequenceNum)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Stream<LoggedEvent> streamByGameIdAfterSequence(UUID gameId, long afterSequenceNum) {
+        log.debug("Streaming events for game {} after sequence {}", gameId, afterSequenceNum);
+        return jpaRepository.streamByGameIdAndSequenceNumGreaterThanOrderBySequenceNumAsc(gameId, afterSequenceNum)
+                .map(entity -> {
+                    // Read once, so keep the persistence context from growing with the log
+                    entityManager.detach(entity);
+                    return new LoggedEvent(entity.getSequenceNum(), mapper.toDomain(entity));
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<GameSession> findCheckpoint(UUID gameId, long atOrBeforeSequence) {
+        return checkpointRepository
+                .findFirstByGameIdAndSequenceNumLessThanEqualOrderBySequenceNumDesc(gameId, atOrBeforeSequence)
+                .or(() -> checkpointRepository.findFirstByGameIdOrderBySequenceNumAsc(gameId))
+                .map(sessionMapper::toDomain);
     }
 
     @Override
@@ -1,38 +1,282 @@
 package com.fore.game.infrastructure.persistence;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fore.game.application.ports.outbound.GameRepository;
+import com.fore.game.domain.exceptions.GameConcurrencyException;
 import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.PlayerState;
 import com.fore.game.domain.model.enums.GameStatus;
 import com.fore.game.infrastructure.persistence.entity.GameSessionEntity;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot;
+import com.fore.game.infrastructure.persistence.mapper.BinarySnapshotCodec;
 import com.fore.game.infrastructure.persistence.mapper.GameSessionMapper;
 import com.fore.game.infrastructure.persistence.repository.JpaGameSessionRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class GameRepositoryAdapter implements GameRepository {
 
     private final JpaGameSessionRepository jpaRepository;
     private final GameSessionMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final BinarySnapshotCodec snapshotCodec;
+    private final SnapshotFormat snapshotFormat;
 
+    public GameRepositoryAdapter(
+            JpaGameSessionRepository jpaRepository,
+            GameSessionMapper mapper,
+            ObjectMapper objectMapper,
+            EntityManager entityManager,
+            BinarySnapshotCodec snapshotCodec,
+            @Value("${fore.game-store.snapshot-format:json}") String snapshotFormat) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.snapshotCodec = snapshotCodec;
+        this.snapshotFormat = SnapshotFormat.valueOf(snapshotFormat.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * A new game is inserted with its participants. An existing one is written as a
+     * single conditional UPDATE, plus an INSERT for each player who joined since the
+     * last save; nothing is read back and the same instance is returned. When only some
+     * players, the property states, the trade or the dice changed, only those parts of
+     * the JSONB snapshot are replaced.
+     */
     @Override
     @Transactional
     public GameSession save(GameSession gameSession) {
+        return save(gameSession, SnapshotChanges.NONE);
+    }
+
+    /**
+     * Same as {@link #save(GameSession)}, also rewriting {@code unwritten}: parts an earlier
+     * snapshot of this game changed that never reached the row.
+     */
+    @Transactional
+    public GameSession save(GameSession gameSession, SnapshotChanges unwritten) {
         log.debug("Saving game session: {}", gameSession.getGameId());
-        
-        GameSessionEntity entity = mapper.toEntity(gameSession);
-        GameSessionEntity saved = jpaRepository.save(entity);
-        
-        log.debug("Saved game session: {} with status {}", saved.getGameId(), saved.getStatus());
-        return mapper.toDomain(saved);
+
+        if (gameSession.getVersion() == null) {
+            GameSessionEntity saved = jpaRepository.saveAndFlush(encodeSnapshot(mapper.toEntity(gameSession)));
+            gameSession.markPersisted(saved.getVersion());
+        } else {
+            List<PlayerState> joined = gameSession.getPlayersJoinedSinceLastSave();
+            SnapshotChanges changes = SnapshotChanges.of(gameSession).and(unwritten);
+            // A new seat has no stable part to patch
+            long version = joined.isEmpty() && canUpdateChangedParts(gameSession.getBoard().getTemplateId(), changes)
+                    ? updateChangedParts(gameSession, changes)
+                    : update(mapper.toStateEntity(gameSession));
+            joined.forEach(player -> entityManager.persist(mapper.toParticipant(gameSession, player)));
+            gameSession.markPersisted(version);
+        }
+        gameSession.clearChanges();
+
+        log.debug("Saved game session: {} with status {}", gameSession.getGameId(), gameSession.getStatus());
+        return gameSession;
+    }
+
+    /**
+     * Persist already-mapped game rows in a single transaction, patching only the changed
+     * parts of each snapshot where possible. Returns the new version per game.
+     */
+    @Transactional
+    public Map<UUID, Long> saveEntities(Collection<PendingWrite> writes) {
+        log.debug("Saving {} game sessions", writes.size());
+        Map<UUID, Long> versions = new HashMap<>(writes.size() * 2);
+        for (PendingWrite write : writes) {
+            GameSessionEntity entity = write.entity();
+            long version = canUpdateChangedParts(entity.getGameStateSnapshot().getBoardTemplateId(), write.changes())
+                    ? updateChangedParts(entity, write.changes())
+                    : update(entity);
+            versions.put(entity.getGameId(), version);
+        }
+        return versions;
+    }
+
+    /**
+     * Conditional update against the entity's version, so a stale write fails here
+     * as GameConcurrencyException rather than overwriting.
+     */
+    private long update(GameSessionEntity entity) {
+        long expectedVersion = entity.getVersion();
+        boolean binary = snapshotFormat == SnapshotFormat.BINARY;
+        int updated = jpaRepository.updateIfVersion(
+                entity.getGameId(),
+                expectedVersion,
+                entity.getStatus(),
+                toText(entity.getCurrentPlayerId()),
+                entity.getTurnPhase(),
+                entity.getTurnNumber(),
+                toText(entity.getWinnerId()),
+                binary ? null : toJson(entity.getGameStateSnapshot()),
+                binary ? snapshotCodec.encode(entity.getGameStateSnapshot()) : null,
+                toText(entity.getEventSequence()),
+                entity.getUpdatedAt(),
+                entity.getLastActivityAt());
+        if (updated == 0) {
+            log.debug("Version conflict saving game {} at version {}", entity.getGameId(), expectedVersion);
+            throw new GameConcurrencyException(entity.getGameId());
+        }
+        return expectedVersion + 1;
+    }
+
+    private boolean canUpdateChangedParts(String boardTemplateId, SnapshotChanges changes) {
+        // A full-board snapshot has no stable parts to patch; a binary one cannot be patched
+        return snapshotFormat == SnapshotFormat.JSON
+                && !changes.whole()
+                && boardTemplateId != null;
+    }
+
+    /**
+     * Same conditional update as {@link #update}, but the snapshot is patched with jsonb_set
+     * for the parts that changed. Players are indexed by seat, which is their position in the
+     * snapshot's players array.
+     */
+    private long updateChangedParts(GameSession game, SnapshotChanges changes) {
+        Map<String, String> parts = new LinkedHashMap<>();
+        StringBuilder snapshot = new StringBuilder("game_state_snapshot");
+
+        List<PlayerState> players = List.copyOf(game.getPlayers().values());
+        for (long remaining = changes.seats(); remaining != 0; remaining &= remaining - 1) {
+            int seat = Long.numberOfTrailingZeros(remaining);
+            patch(snapshot, parts, "{players," + seat + "}", mapper.buildPlayerSnapshot(players.get(seat)));
+        }
+        if (changes.board()) {
+            patch(snapshot, parts, "{properties}", mapper.buildPropertyStateSnapshots(game.getBoard()));
+        }
+        if (changes.trade()) {
+            patch(snapshot, parts, "{pendingTrade}", mapper.buildTradeSnapshot(game.getPendingTrade()));
+        }
+        if (changes.dice()) {
+            patch(snapshot, parts, "{dice}", mapper.buildDiceSnapshot(game.getDiceSource()));
+        }
+        return updatePatched(mapper.toRowEntity(game), snapshot, parts, () -> mapper.toStateEntity(game));
+    }
+
+    /**
+     * The same patch taken from an already-mapped snapshot, for queued writes.
+     */
+    private long updateChangedParts(GameSessionEntity entity, SnapshotChanges changes) {
+        Map<String, String> parts = new LinkedHashMap<>();
+        StringBuilder snapshot = new StringBuilder("game_state_snapshot");
+
+        GameStateSnapshot state = entity.getGameStateSnapshot();
+        for (long remaining = changes.seats(); remaining != 0; remaining &= remaining - 1) {
+            int seat = Long.numberOfTrailingZeros(remaining);
+            patch(snapshot, parts, "{players," + seat + "}", state.getPlayers().get(seat));
+        }
+        if (changes.board()) {
+            patch(snapshot, parts, "{properties}", state.getProperties());
+        }
+        if (changes.trade()) {
+            patch(snapshot, parts, "{pendingTrade}", state.getPendingTrade());
+        }
+        if (changes.dice()) {
+            patch(snapshot, parts, "{dice}", state.getDice());
+        }
+        return updatePatched(entity, snapshot, parts, () -> entity);
+    }
+
+    private long updatePatched(GameSessionEntity row, StringBuilder snapshot, Map<String, String> parts,
+                               Supplier<GameSessionEntity> fullRow) {
+        long expectedVersion = row.getVersion();
+        Query query = entityManager.createNativeQuery("""
+                UPDATE game_sessions
+                SET status = :status,
+                    current_player_id = CAST(:currentPlayerId AS uuid),
+                    turn_phase = :turnPhase,
+                    turn_number = :turnNumber,
+                    winner_id = CAST(:winnerId AS uuid),
+                    game_state_snapshot = %s,
+                    event_sequence = CAST(:eventSequence AS bigint),
+                    updated_at = :updatedAt,
+                    last_activity_at = :lastActivityAt,
+                    version = version + 1
+                WHERE game_id = :gameId AND version = :expectedVersion
+                  AND game_state_snapshot IS NOT NULL
+                """.formatted(snapshot))
+                .setParameter("status", row.getStatus())
+                .setParameter("currentPlayerId", toText(row.getCurrentPlayerId()))
+                .setParameter("turnPhase", row.getTurnPhase())
+                .setParameter("turnNumber", row.getTurnNumber())
+                .setParameter("winnerId", toText(row.getWinnerId()))
+                .setParameter("eventSequence", toText(row.getEventSequence()))
+                .setParameter("updatedAt", row.getUpdatedAt())
+                .setParameter("lastActivityAt", row.getLastActivityAt())
+                .setParameter("gameId", row.getGameId())
+                .setParameter("expectedVersion", expectedVersion);
+        parts.forEach(query::setParameter);
+
+        // Like the repository's @Modifying update: flush pending writes, then drop now-stale entities
+        entityManager.flush();
+        int updated = query.executeUpdate();
+        entityManager.clear();
+        if (updated == 1) {
+            return expectedVersion + 1;
+        }
+        // A version conflict, or a row whose snapshot is stored in binary: the full update tells them apart
+        return update(fullRow.get());
+    }
+
+    private void patch(StringBuilder snapshot, Map<String, String> parts, String path, Object value) {
+        String parameter = "part" + parts.size();
+        parts.put(parameter, toJson(value));
+        snapshot.insert(0, "jsonb_set(")
+                .append(", '").append(path).append("', CAST(:").append(parameter).append(" AS jsonb))");
+    }
+
+    private GameSessionEntity encodeSnapshot(GameSessionEntity entity) {
+        if (snapshotFormat == SnapshotFormat.BINARY) {
+            entity.setGameStateBinary(snapshotCodec.encode(entity.getGameStateSnapshot()));
+            entity.setGameStateSnapshot(null);
+        }
+        return entity;
+    }
+
+    /**
+     * Rows may hold either form, whatever the configured write format.
+     */
+    private GameSession toDomain(GameSessionEntity entity) {
+        byte[] binary = entity.getGameStateBinary();
+        return binary != null
+                ? mapper.toDomain(entity, snapshotCodec.decode(binary))
+                : mapper.toDomain(entity);
+    }
+
+    private String toJson(Object snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize game state snapshot", e);
+        }
+    }
+
+    private static String toText(UUID id) {
+        return id != null ? id.toString() : null;
+    }
+
+    private static String toText(Long number) {
+        return number != null ? number.toString() : null;
     }
 
     @Override
@@ -40,14 +284,14 @@ public class GameRepositoryAdapter implements GameRepository {
     public Optional<GameSession> findById(UUID gameId) {
         log.debug("Finding game session: {}", gameId);
         return jpaRepository.findById(gameId)
-                .map(mapper::toDomain);
+                .map(this::toDomain);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<GameSession> findByStatus(GameStatus status) {
         return jpaRepository.findByStatus(status.name()).stream()
-                .map(mapper::toDomain)
+                .map(this::toDomain)
                 .toList();
     }
 
@@ -55,7 +299,7 @@ public class GameRepositoryAdapter implements GameRepository {
     @Transactional(readOnly = true)
     public List<GameSession> findByPlayerId(UUID playerId) {
         return jpaRepository.findByPlayerId(playerId).stream()
-                .map(mapper::toDomain)
+                .map(this::toDomain)
                 .toList();
     }
 
@@ -63,7 +307,7 @@ public class GameRepositoryAdapter implements GameRepository {
     @Transactional(readOnly = true)
     public List<GameSession> findActiveGamesByPlayerId(UUID playerId) {
         return jpaRepository.findActiveGamesByPlayerId(playerId).stream()
-                .map(mapper::toDomain)
+                .map(this::toDomain)
                 .toList();
     }
 
@@ -0,0 +1,45 @@
+package com.fore.game.infrastructure.persistence;
+
+import com.fore.game.application.ports.outbound.GameStateViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class GameStateViewRepositoryAdapter implements GameStateViewRepository {
+
+    private static final String UPSERT = """
+            INSERT INTO game_state_views (game_id, event_sequence, state_json, updated_at)
+            VALUES (?, ?, ?, NOW())
+            ON CONFLICT (game_id) DO UPDATE
+                SET event_sequence = EXCLUDED.event_sequence,
+                    state_json = EXCLUDED.state_json,
+                    updated_at = EXCLUDED.updated_at
+                WHERE game_state_views.event_sequence < EXCLUDED.event_sequence""";
+    private static final String SELECT_VIEW =
+            "SELECT event_sequence, state_json FROM game_state_views WHERE game_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Joins the caller's transaction, so the view commits or rolls back with the command.
+     */
+    @Override
+    public void save(UUID gameId, long eventSequence, byte[] stateJson) {
+        jdbcTemplate.update(UPSERT, gameId, eventSequence, stateJson);
+    }
+
+    @Override
+    public Optional<StateView> findView(UUID gameId) {
+        List<StateView> rows = jdbcTemplate.query(SELECT_VIEW,
+                (rs, rowNum) -> new StateView(rs.getLong(1), rs.getBytes(2)), gameId);
+        return rows.stream().findFirst();
+    }
+}
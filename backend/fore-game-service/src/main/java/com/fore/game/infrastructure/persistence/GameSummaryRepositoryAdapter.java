@@ -0,0 +1,120 @@
+package com.fore.game.infrastructure.persistence;
+
+import com.fore.game.application.dto.AvailableGamesResponse.GameSummary;
+import com.fore.game.application.dto.PageCursor;
+import com.fore.game.application.dto.PlayerGamesResponse.PlayerGameSummary;
+import com.fore.game.application.ports.outbound.GameSummaryRepository;
+import com.fore.game.domain.model.GameConstants;
+import com.fore.game.domain.model.enums.GameStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Summary queries over game_sessions and game_participants; the snapshot columns are never read.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class GameSummaryRepositoryAdapter implements GameSummaryRepository {
+
+    // Walks idx_game_sessions_waiting (partial on status = 'WAITING') in index order
+    private static final String SELECT_WAITING = """
+            SELECT g.game_id, g.status, g.created_at,
+                   (SELECT COUNT(*) FROM game_participants p WHERE p.game_id = g.game_id) AS player_count,
+                   (SELECT p.display_name FROM game_participants p
+                     WHERE p.game_id = g.game_id AND NOT p.is_npc
+                     ORDER BY p.joined_at LIMIT 1) AS creator_name,
+                   EXISTS (SELECT 1 FROM game_participants p WHERE p.game_id = g.game_id AND p.is_npc) AS vs_npc
+            FROM game_sessions g
+            WHERE g.status = 'WAITING'""";
+    private static final String NPC_PARTICIPANT =
+            "(SELECT 1 FROM game_participants p WHERE p.game_id = g.game_id AND p.is_npc)";
+    private static final String CREATED_AFTER = " AND g.created_at > ?";
+    private static final String AFTER_CURSOR = " AND (g.created_at, g.game_id) < (?, ?)";
+    private static final String PAGE = " ORDER BY g.created_at DESC, g.game_id DESC LIMIT ?";
+
+    // Index-only scan of idx_game_participants_player_game, then one primary key lookup per game
+    private static final String SELECT_PLAYER_GAMES = """
+            SELECT g.game_id, g.status, g.turn_phase, g.turn_number, g.current_player_id, g.winner_id,
+                   g.created_at, g.last_activity_at,
+                   o.display_name AS opponent_name, COALESCE(o.is_npc, FALSE) AS vs_npc
+            FROM game_participants me
+            JOIN game_sessions g ON g.game_id = me.game_id
+            LEFT JOIN game_participants o ON o.game_id = me.game_id AND o.player_id <> me.player_id
+            WHERE me.player_id = ?""";
+
+    private static final RowMapper<GameSummary> SUMMARY = (rs, rowNum) -> GameSummary.builder()
+            .gameId(rs.getObject("game_id", UUID.class))
+            .status(rs.getString("status"))
+            .creatorName(rs.getString("creator_name") != null ? rs.getString("creator_name") : "Unknown")
+            .playerCount(rs.getInt("player_count"))
+            .maxPlayers(GameConstants.MAX_PLAYERS)
+            .vsNpc(rs.getBoolean("vs_npc"))
+            .createdAt(rs.getTimestamp("created_at").toInstant())
+            .build();
+
+    private static final RowMapper<PlayerGameSummary> PLAYER_GAME = (rs, rowNum) -> PlayerGameSummary.builder()
+            .gameId(rs.getObject("game_id", UUID.class))
+            .status(rs.getString("status"))
+            .turnPhase(rs.getString("turn_phase"))
+            .turnNumber(rs.getInt("turn_number"))
+            .currentPlayerId(rs.getObject("current_player_id", UUID.class))
+            .winnerId(rs.getObject("winner_id", UUID.class))
+            .opponentName(rs.getString("opponent_name"))
+            .vsNpc(rs.getBoolean("vs_npc"))
+            .createdAt(rs.getTimestamp("created_at").toInstant())
+            .lastActivityAt(rs.getTimestamp("last_activity_at").toInstant())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<GameSummary> findWaitingGames(WaitingGamesQuery query) {
+        StringBuilder sql = new StringBuilder(SELECT_WAITING);
+        List<Object> args = new ArrayList<>(5);
+        if (query.vsNpc() != null) {
+            sql.append(query.vsNpc() ? " AND EXISTS " : " AND NOT EXISTS ").append(NPC_PARTICIPANT);
+        }
+        if (query.createdAfter() != null) {
+            sql.append(CREATED_AFTER);
+            args.add(Timestamp.from(query.createdAfter()));
+        }
+        appendPage(sql, args, query.after(), query.limit());
+
+        return jdbcTemplate.query(sql.toString(), SUMMARY, args.toArray());
+    }
+
+    @Override
+    public List<PlayerGameSummary> findPlayerGames(PlayerGamesQuery query) {
+        StringBuilder sql = new StringBuilder(SELECT_PLAYER_GAMES);
+        List<Object> args = new ArrayList<>(query.statuses().size() + 4);
+        args.add(query.playerId());
+        sql.append(" AND g.status IN (");
+        for (GameStatus status : query.statuses()) {
+            sql.append(args.size() > 1 ? ", ?" : "?");
+            args.add(status.name());
+        }
+        sql.append(')');
+        appendPage(sql, args, query.after(), query.limit());
+
+        return jdbcTemplate.query(sql.toString(), PLAYER_GAME, args.toArray());
+    }
+
+    private static void appendPage(StringBuilder sql, List<Object> args, PageCursor after, int limit) {
+        if (after != null) {
+            sql.append(AFTER_CURSOR);
+            args.add(Timestamp.from(after.createdAt()));
+            args.add(after.gameId());
+        }
+        sql.append(PAGE);
+        args.add(limit);
+    }
+}
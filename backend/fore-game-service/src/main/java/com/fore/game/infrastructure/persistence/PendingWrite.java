@@ -0,0 +1,17 @@
+package com.fore.game.infrastructure.persistence;
+
+import com.fore.game.infrastructure.persistence.entity.GameSessionEntity;
+
+/**
+ * A game row waiting to be written, with the snapshot parts that changed since the row was last
+ * written. The entity's version is the one the row is expected to be at.
+ */
+public record PendingWrite(GameSessionEntity entity, SnapshotChanges changes) {
+
+    /**
+     * This write replaced by a newer one before it was written: the newer row, covering both changes.
+     */
+    public PendingWrite followedBy(PendingWrite newer) {
+        return new PendingWrite(newer.entity, changes.and(newer.changes));
+    }
+}
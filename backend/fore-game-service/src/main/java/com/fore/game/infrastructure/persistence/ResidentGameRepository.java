@@ -0,0 +1,496 @@
+package com.fore.game.infrastructure.persistence;
+
+import com.fore.game.application.concurrency.GameCommandExecutor;
+import com.fore.game.application.ports.outbound.GameEventRepository;
+import com.fore.game.application.ports.outbound.GameRepository;
+import com.fore.game.application.usecases.ReplayGameUseCase;
+import com.fore.game.domain.exceptions.GameConcurrencyException;
+import com.fore.game.domain.exceptions.GameNotFoundException;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.enums.GameStatus;
+import com.fore.game.infrastructure.persistence.entity.GameSessionEntity;
+import com.fore.game.infrastructure.persistence.mapper.GameSessionMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps IN_PROGRESS games resident in memory and persists them write-behind.
+ *
+ * <ul>
+ *   <li>Reads of resident games are served from memory; other reads go to the database.</li>
+ *   <li>Saves of resident games capture an entity snapshot and the parts of it the command
+ *       changed, and queue them. Repeated saves of one game between flushes coalesce to the
+ *       latest snapshot, covering every part changed since the last write, so the flush can
+ *       patch just those parts.</li>
+ *   <li>Status changes (a game starting, finishing or being abandoned) are written through
+ *       so lobby and history queries see them immediately.</li>
+ *   <li>A background flush writes queued snapshots in batches every flush interval,
+ *       and once more on shutdown.</li>
+ *   <li>Games idle for longer than the idle timeout are evicted once flushed.</li>
+ *   <li>A game another writer changed in the meantime loses its queued snapshot. Its events
+ *       are already committed, so the game is rebuilt from the event log in its command lane
+ *       and written over the row. A game that cannot be rebuilt (one created before
+ *       checkpoints) is logged as an error and reloaded from the row on next access.</li>
+ *   <li>Rows record the last logged event their snapshot reflects. A game loaded from a row the
+ *       log has moved past, because the process stopped before its queued snapshot was written,
+ *       is rebuilt from the log the same way and queued over the row. If it cannot be rebuilt,
+ *       the row is used and its events are numbered after the log's last one.</li>
+ *   <li>Inside a transaction, a save is only queued once the transaction commits. If it rolls
+ *       back, the resident copy it touched is discarded, along with whatever the failed command
+ *       half-applied to it, and replaced by the last committed state: the queued snapshot if one
+ *       is waiting, otherwise the database row on next access.</li>
+ * </ul>
+ *
+ * Callers share the resident GameSession instance, so commands for one game must run
+ * through GameCommandExecutor.
+ * <p>
+ * Publishes {@code fore.game.store.rebuilds} tagged {@code result=rebuilt|failed} for games
+ * rebuilt from the log after a write-behind conflict or because their row was behind it.
+ */
+@Slf4j
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "fore.game-store.resident", name = "enabled", havingValue = "true")
+public class ResidentGameRepository implements GameRepository {
+
+    private final GameRepositoryAdapter database;
+    private final GameSessionMapper mapper;
+    private final ReplayGameUseCase replay;
+    private final GameEventRepository eventRepository;
+    private final GameCommandExecutor commandExecutor;
+    private final Duration idleTimeout;
+    private final int maxBatchSize;
+
+    private final Map<UUID, GameSession> resident = new ConcurrentHashMap<>();
+    private final Map<UUID, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+    // Serializes database writes so an older queued snapshot never lands after a newer write-through
+    private final Object writeLock = new Object();
+    private final ScheduledExecutorService flusher;
+    private final Counter flushConflicts;
+    private final Counter rebuilt;
+    private final Counter rebuildFailures;
+
+    public ResidentGameRepository(
+            GameRepositoryAdapter database,
+            GameSessionMapper mapper,
+            ReplayGameUseCase replay,
+            GameEventRepository eventRepository,
+            GameCommandExecutor commandExecutor,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${fore.game-store.resident.flush-interval:PT0.25S}") Duration flushInterval,
+            @Value("${fore.game-store.resident.idle-timeout:PT10M}") Duration idleTimeout,
+            @Value("${fore.game-store.resident.max-batch-size:100}") int maxBatchSize) {
+        this.database = database;
+        this.mapper = mapper;
+        this.replay = replay;
+        this.eventRepository = eventRepository;
+        this.commandExecutor = commandExecutor;
+        this.idleTimeout = idleTimeout;
+        this.maxBatchSize = maxBatchSize;
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.flushConflicts = Counter.builder("fore.game.save.conflicts")
+                .description("Game saves rejected because another writer changed the game first")
+                .tag("source", "write-behind")
+                .register(registry);
+        this.rebuilt = Counter.builder("fore.game.store.rebuilds")
+                .description("Games rebuilt from the event log because their row was behind it")
+                .tag("result", "rebuilt")
+                .register(registry);
+        this.rebuildFailures = Counter.builder("fore.game.store.rebuilds")
+                .description("Games rebuilt from the event log because their row was behind it")
+                .tag("result", "failed")
+                .register(registry);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-store-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushAndEvict, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public GameSession save(GameSession gameSession) {
+        UUID gameId = gameSession.getGameId();
+        TransactionWrites transaction = enlist(gameId);
+
+        if (gameSession.getStatus() == GameStatus.IN_PROGRESS && resident.containsKey(gameId)) {
+            resident.put(gameId, gameSession);
+            // Players only join while WAITING, which is written through, so the row alone is enough
+            PendingWrite write = new PendingWrite(mapper.toStateEntity(gameSession), SnapshotChanges.of(gameSession));
+            gameSession.clearChanges();
+            if (transaction != null) {
+                transaction.staged.merge(gameId, write, PendingWrite::followedBy);
+            } else {
+                pendingWrites.merge(gameId, write, PendingWrite::followedBy);
+            }
+            return gameSession;
+        }
+
+        // Status change or first sight of this game: write through
+        synchronized (writeLock) {
+            PendingWrite displaced = pendingWrites.remove(gameId);
+            SnapshotChanges unwritten = displaced != null ? displaced.changes() : SnapshotChanges.NONE;
+            if (transaction != null) {
+                PendingWrite staged = transaction.staged.remove(gameId);
+                if (staged != null) {
+                    unwritten = unwritten.and(staged.changes());
+                }
+                if (displaced != null) {
+                    // Still unwritten, so the row is at the version the resident copy last recorded
+                    displaced.entity().setVersion(gameSession.getVersion());
+                    transaction.displaced.putIfAbsent(gameId, displaced);
+                }
+            }
+            try {
+                database.save(gameSession, unwritten);
+            } catch (GameConcurrencyException e) {
+                // Another writer won; drop our copy so a retry reloads the current state
+                resident.remove(gameId);
+                throw e;
+            }
+        }
+        if (gameSession.getStatus() == GameStatus.IN_PROGRESS) {
+            resident.put(gameId, gameSession);
+        } else {
+            resident.remove(gameId);
+        }
+        return gameSession;
+    }
+
+    @Override
+    public Optional<GameSession> findById(UUID gameId) {
+        GameSession game = resident.get(gameId);
+        if (game != null) {
+            enlist(gameId);
+            return Optional.of(game);
+        }
+
+        Optional<GameSession> loaded = database.findById(gameId)
+                .map(g -> g.getStatus() == GameStatus.IN_PROGRESS ? catchUpWithLog(g) : g);
+        loaded.filter(g -> g.getStatus() == GameStatus.IN_PROGRESS)
+                .ifPresent(g -> {
+                    resident.putIfAbsent(gameId, g);
+                    enlist(gameId);
+                });
+        return loaded.map(g -> resident.getOrDefault(gameId, g));
+    }
+
+    @Override
+    public List<GameSession> findByStatus(GameStatus status) {
+        return preferResident(database.findByStatus(status));
+    }
+
+    @Override
+    public List<GameSession> findByPlayerId(UUID playerId) {
+        return preferResident(database.findByPlayerId(playerId));
+    }
+
+    @Override
+    public List<GameSession> findActiveGamesByPlayerId(UUID playerId) {
+        return preferResident(database.findActiveGamesByPlayerId(playerId));
+    }
+
+    @Override
+    public void deleteById(UUID gameId) {
+        resident.remove(gameId);
+        synchronized (writeLock) {
+            pendingWrites.remove(gameId);
+            database.deleteById(gameId);
+        }
+    }
+
+    @Override
+    public boolean existsById(UUID gameId) {
+        return resident.containsKey(gameId) || database.existsById(gameId);
+    }
+
+    @Override
+    public long countByStatus(GameStatus status) {
+        // Status changes are written through, so the database count is current
+        return database.countByStatus(status);
+    }
+
+    public int getResidentCount() {
+        return resident.size();
+    }
+
+    public int getPendingWriteCount() {
+        return pendingWrites.size();
+    }
+
+    /**
+     * Write every queued snapshot now.
+     */
+    public void flush() {
+        List<UUID> gameIds = new ArrayList<>(pendingWrites.keySet());
+        for (int from = 0; from < gameIds.size(); from += maxBatchSize) {
+            flushBatch(gameIds.subList(from, Math.min(from + maxBatchSize, gameIds.size())));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        log.info("Flushed resident games on shutdown ({} still pending)", pendingWrites.size());
+    }
+
+    void flushAndEvict() {
+        try {
+            flush();
+            evictIdle(Instant.now());
+        } catch (RuntimeException e) {
+            // Keep the scheduled task alive; failed snapshots were re-queued
+            log.error("Resident game flush failed", e);
+        }
+    }
+
+    void evictIdle(Instant now) {
+        Instant cutoff = now.minus(idleTimeout);
+        resident.values().removeIf(game ->
+                game.getLastActivityAt().isBefore(cutoff) && !pendingWrites.containsKey(game.getGameId()));
+    }
+
+    private void flushBatch(List<UUID> gameIds) {
+        List<UUID> conflicted = new ArrayList<>();
+        synchronized (writeLock) {
+            List<PendingWrite> batch = new ArrayList<>(gameIds.size());
+            for (UUID gameId : gameIds) {
+                PendingWrite write = pendingWrites.remove(gameId);
+                if (write != null) {
+                    // This store is the only local writer, so the last version it wrote is the expected one
+                    GameSession live = resident.get(gameId);
+                    if (live != null && live.getVersion() != null) {
+                        write.entity().setVersion(live.getVersion());
+                    }
+                    batch.add(write);
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                recordVersions(database.saveEntities(batch));
+            } catch (GameConcurrencyException e) {
+                // Isolate the conflicting game(s) so the rest of the batch still lands
+                batch.stream()
+                        .filter(write -> !flushSingle(write))
+                        .forEach(write -> conflicted.add(write.entity().getGameId()));
+            } catch (RuntimeException e) {
+                batch.forEach(this::requeue);
+                throw e;
+            }
+        }
+        // Outside the lock: the rebuild waits for the game's lane, whose command may be writing through
+        conflicted.forEach(this::rebuildFromLog);
+    }
+
+    /**
+     * Write one snapshot. Returns false if another writer changed the game first.
+     */
+    private boolean flushSingle(PendingWrite write) {
+        GameSessionEntity entity = write.entity();
+        try {
+            recordVersions(database.saveEntities(List.of(write)));
+        } catch (GameConcurrencyException e) {
+            // The events behind this snapshot are committed, so the row is now behind the log
+            flushConflicts.increment();
+            resident.remove(entity.getGameId());
+            log.error("Game {} was modified by another writer; its queued snapshot was not written",
+                    entity.getGameId());
+            return false;
+        } catch (RuntimeException e) {
+            requeue(write);
+            log.error("Failed to flush game {}", entity.getGameId(), e);
+        }
+        return true;
+    }
+
+    /**
+     * Put back a write that failed. A newer snapshot queued meanwhile wins, but still has to cover
+     * the parts the failed one changed.
+     */
+    private void requeue(PendingWrite failed) {
+        pendingWrites.merge(failed.entity().getGameId(), failed, (newer, ignored) -> failed.followedBy(newer));
+    }
+
+    /**
+     * Replace a game's row with the game rebuilt from its event log, in the game's command lane
+     * so no command runs against a copy in between.
+     */
+    private void rebuildFromLog(UUID gameId) {
+        try {
+            commandExecutor.execute(gameId, () -> {
+                GameSession game = replay.rebuild(gameId);
+                long rowVersion = database.findById(gameId)
+                        .map(GameSession::getVersion)
+                        .orElseThrow(() -> new GameNotFoundException(gameId));
+                game.markPersisted(rowVersion);
+                synchronized (writeLock) {
+                    pendingWrites.remove(gameId);
+                    PendingWrite whole = new PendingWrite(mapper.toStateEntity(game), SnapshotChanges.WHOLE);
+                    recordVersion(game, database.saveEntities(List.of(whole)).get(gameId));
+                }
+                return game;
+            });
+            rebuilt.increment();
+            log.warn("Rebuilt game {} from its event log after a write-behind conflict", gameId);
+        } catch (RuntimeException e) {
+            rebuildFailures.increment();
+            resident.remove(gameId);
+            log.error("Game {} could not be rebuilt from its event log; its row may be behind the log",
+                    gameId, e);
+        }
+    }
+
+    /**
+     * A stored game whose row is behind the committed log, rebuilt from the log with the rebuild
+     * queued over the row. Only IN_PROGRESS rows are written behind, so only they can lag.
+     */
+    private GameSession catchUpWithLog(GameSession stored) {
+        UUID gameId = stored.getGameId();
+        long storedSequence = stored.getEventSequence();
+        if (storedSequence == GameSession.UNKNOWN_EVENT_SEQUENCE) {
+            return stored; // Saved before rows recorded their sequence
+        }
+        long loggedSequence = eventRepository.getNextSequenceNumber(gameId) - 1;
+        if (loggedSequence <= storedSequence) {
+            return stored;
+        }
+
+        try {
+            GameSession game = replay.rebuild(gameId);
+            game.markPersisted(stored.getVersion());
+            game.clearChanges();
+            pendingWrites.putIfAbsent(gameId, new PendingWrite(mapper.toStateEntity(game), SnapshotChanges.WHOLE));
+            rebuilt.increment();
+            log.warn("Game {} was stored as of event {} but logged up to {}; rebuilt it from the log",
+                    gameId, storedSequence, loggedSequence);
+            return game;
+        } catch (RuntimeException e) {
+            rebuildFailures.increment();
+            log.error("Game {} is stored as of event {} but logged up to {} and could not be rebuilt; "
+                    + "continuing from the row", gameId, storedSequence, loggedSequence, e);
+            // Number new events after the log's, as for a row that never recorded its sequence
+            stored.recordEventSequence(GameSession.UNKNOWN_EVENT_SEQUENCE);
+            return stored;
+        }
+    }
+
+    private void recordVersion(GameSession game, long version) {
+        game.markPersisted(version);
+        game.clearChanges();
+        if (game.getStatus() == GameStatus.IN_PROGRESS) {
+            resident.put(game.getGameId(), game);
+        } else {
+            resident.remove(game.getGameId());
+        }
+    }
+
+    /**
+     * Track the game in the current transaction, if there is one, so its outcome decides
+     * what happens to the resident copy. Returns the transaction's writes, or null outside one.
+     */
+    private TransactionWrites enlist(UUID gameId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        TransactionWrites transaction = (TransactionWrites) TransactionSynchronizationManager.getResource(this);
+        if (transaction == null) {
+            transaction = new TransactionWrites();
+            TransactionSynchronizationManager.bindResource(this, transaction);
+            TransactionSynchronizationManager.registerSynchronization(transaction);
+        }
+        transaction.touched.add(gameId);
+        return transaction;
+    }
+
+    /**
+     * Replace a resident copy a failed transaction may have changed with the last committed state.
+     * {@code displaced} is the queued snapshot the transaction's write-through had taken over, if any.
+     */
+    private void discard(UUID gameId, PendingWrite displaced) {
+        synchronized (writeLock) {
+            GameSession live = resident.remove(gameId);
+            PendingWrite committed = pendingWrites.get(gameId);
+            if (displaced != null) {
+                pendingWrites.put(gameId, displaced);
+                committed = displaced;
+            } else if (committed != null && live != null && live.getVersion() != null) {
+                // Nothing was written through, so the live version is still the row's
+                committed.entity().setVersion(live.getVersion());
+            }
+            if (committed != null) {
+                // The row is behind the queued snapshot, so it is what the next command must see
+                resident.put(gameId, mapper.toDomain(committed.entity()));
+            }
+        }
+    }
+
+    private void recordVersions(Map<UUID, Long> versions) {
+        versions.forEach((gameId, version) -> {
+            GameSession live = resident.get(gameId);
+            if (live != null) {
+                live.markPersisted(version);
+            }
+        });
+    }
+
+    private List<GameSession> preferResident(List<GameSession> loaded) {
+        return loaded.stream()
+                .map(game -> resident.getOrDefault(game.getGameId(), game))
+                .toList();
+    }
+
+    /**
+     * Saves and games one transaction touched. Queued when it commits; discarded when it does not.
+     */
+    private final class TransactionWrites implements TransactionSynchronization {
+
+        private final Set<UUID> touched = new HashSet<>();
+        private final Map<UUID, PendingWrite> staged = new HashMap<>();
+        private final Map<UUID, PendingWrite> displaced = new HashMap<>();
+
+        @Override
+        public void afterCommit() {
+            staged.forEach((gameId, write) -> pendingWrites.merge(gameId, write, PendingWrite::followedBy));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(ResidentGameRepository.this);
+            if (status != STATUS_COMMITTED) {
+                touched.forEach(gameId -> discard(gameId, displaced.get(gameId)));
+            }
+        }
+    }
+}
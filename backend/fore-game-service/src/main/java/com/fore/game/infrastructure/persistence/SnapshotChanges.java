@@ -0,0 +1,31 @@
+package com.fore.game.infrastructure.persistence;
+
+import com.fore.game.domain.model.GameSession;
+
+/**
+ * Parts of a game's stored snapshot that changed since its row was last written, so an update
+ * only needs to rewrite those. {@code whole} asks for the entire snapshot to be rewritten.
+ *
+ * @param seats seats whose player changed, as a bit mask over turn order
+ */
+public record SnapshotChanges(boolean whole, long seats, boolean board, boolean trade, boolean dice) {
+
+    public static final SnapshotChanges NONE = new SnapshotChanges(false, 0, false, false, false);
+    public static final SnapshotChanges WHOLE = new SnapshotChanges(true, 0, false, false, false);
+
+    /**
+     * What the session reports as changed since it last cleared its changes.
+     */
+    public static SnapshotChanges of(GameSession game) {
+        return new SnapshotChanges(false, game.getChangedSeats(), game.isBoardChanged(),
+                game.isTradeChanged(), game.isDiceChanged());
+    }
+
+    /**
+     * Changes of both, e.g. of a snapshot that was never written and the one replacing it.
+     */
+    public SnapshotChanges and(SnapshotChanges other) {
+        return new SnapshotChanges(whole || other.whole, seats | other.seats, board || other.board,
+                trade || other.trade, dice || other.dice);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fore.game.infrastructure.persistence;
+
+/**
+ * How game_sessions stores the game state snapshot on write. Both forms are always readable.
+ */
+public enum SnapshotFormat {
+    /** JSONB in game_state_snapshot. */
+    JSON,
+    /** BinarySnapshotCodec bytes in game_state_binary. */
+    BINARY
+}
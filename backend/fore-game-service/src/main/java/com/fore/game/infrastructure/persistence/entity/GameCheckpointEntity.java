@@ -0,0 +1,57 @@
+package com.fore.game.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The game row as it stood right after the event at {@code sequenceNum} was logged.
+ * Written by the event log adapter, never updated.
+ */
+@Entity
+@Table(name = "game_checkpoints")
+@IdClass(GameCheckpointId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameCheckpointEntity {
+
+    @Id
+    @Column(name = "game_id")
+    private UUID gameId;
+
+    @Id
+    @Column(name = "sequence_num")
+    private long sequenceNum;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "current_player_id")
+    private UUID currentPlayerId;
+
+    @Column(name = "turn_phase", nullable = false, length = 20)
+    private String turnPhase;
+
+    @Column(name = "turn_number", nullable = false)
+    private int turnNumber;
+
+    @Column(name = "winner_id")
+    private UUID winnerId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "game_state_snapshot", columnDefinition = "jsonb", nullable = false)
+    private GameStateSnapshot gameStateSnapshot;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,14 @@
+package com.fore.game.infrastructure.persistence.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameCheckpointId implements Serializable {
+    private UUID gameId;
+    private long sequenceNum;
+}
@@ -30,6 +30,9 @@ public class GameParticipantEntity {
     @Column(name = "npc_difficulty", length = 20)
     private String npcDifficulty;
 
+    @Column(name = "display_name", length = 50)
+    private String displayName;
+
     @Column(name = "joined_at", nullable = false)
     private Instant joinedAt;
 
@@ -41,11 +41,25 @@ public class GameSessionEntity {
     /**
      * JSONB column storing the complete game state snapshot.
      * This includes board state, player states, property ownership, etc.
+     * Null when the snapshot is stored in binary form instead.
      */
     @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "game_state_snapshot", columnDefinition = "jsonb", nullable = false)
+    @Column(name = "game_state_snapshot", columnDefinition = "jsonb")
     private GameStateSnapshot gameStateSnapshot;
 
+    /**
+     * The same snapshot encoded by BinarySnapshotCodec, when the binary format is configured.
+     */
+    @Column(name = "game_state_binary", columnDefinition = "bytea")
+    private byte[] gameStateBinary;
+
+    /**
+     * Sequence number of the last logged event this row's state reflects.
+     * Null for rows saved before it was recorded.
+     */
+    @Column(name = "event_sequence")
+    private Long eventSequence;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
@@ -55,6 +69,13 @@ public class GameSessionEntity {
     @Column(name = "last_activity_at", nullable = false)
     private Instant lastActivityAt;
 
+    /**
+     * Optimistic lock; null for a game that has never been saved.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "gameSession", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     @Builder.Default
     private Set<GameParticipantEntity> participants = new HashSet<>();
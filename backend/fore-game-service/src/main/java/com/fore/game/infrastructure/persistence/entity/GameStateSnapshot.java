@@ -9,7 +9,9 @@ import java.util.UUID;
 
 /**
  * JSON structure stored in the game_state_snapshot column.
- * Captures complete game state for snapshot persistence.
+ * Captures complete game state for snapshot persistence. A board built from a template
+ * is stored as the template id plus the properties whose state differs from a fresh board;
+ * other boards, and games saved before templates, carry every tile.
  */
 @Data
 @NoArgsConstructor
@@ -19,8 +21,11 @@ import java.util.UUID;
 public class GameStateSnapshot implements Serializable {
 
     private List<PlayerSnapshot> players;
+    private String boardTemplateId; // null when tiles holds the full board
+    private List<PropertyStateSnapshot> properties; // owned, improved or mortgaged only
     private List<TileSnapshot> tiles;
     private TradeOfferSnapshot pendingTrade;
+    private DiceSnapshot dice; // null for games saved before dice were seeded
 
     @Data
     @NoArgsConstructor
@@ -73,6 +78,18 @@ public class GameStateSnapshot implements Serializable {
         private boolean mortgaged;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PropertyStateSnapshot implements Serializable {
+        private int tilePosition;
+        private UUID ownerId;
+        private String improvementLevel;
+        private boolean mortgaged;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -88,4 +105,14 @@ public class GameStateSnapshot implements Serializable {
         private long requestedCurrencyCents;
         private String status;
     }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class DiceSnapshot implements Serializable {
+        private long seed;
+        private long rollCount;
+    }
 }
@@ -0,0 +1,411 @@
+package com.fore.game.infrastructure.persistence.mapper;
+
+import com.fore.game.domain.model.TradeOffer.TradeStatus;
+import com.fore.game.domain.model.enums.CourseGroup;
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.game.domain.model.enums.ImprovementLevel;
+import com.fore.game.domain.model.enums.TileType;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot.*;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary form of {@link GameStateSnapshot} for the game_state_binary column.
+ * <p>
+ * Layout: a format version byte, then the snapshot fields in declaration order.
+ * UUIDs are two big-endian longs, enums are ordinals, ints and longs are (zigzag) varints,
+ * strings are length-prefixed UTF-8. Nullable values are prefixed with a presence flag,
+ * or encoded as ordinal + 1 / length + 1 with 0 meaning null.
+ * Appending enum constants is safe; reordering or removing them needs a new format version.
+ */
+@Component
+public class BinarySnapshotCodec {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final CourseGroup[] COURSE_GROUPS = CourseGroup.values();
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    private static final ImprovementLevel[] IMPROVEMENT_LEVELS = ImprovementLevel.values();
+    private static final TileType[] TILE_TYPES = TileType.values();
+    private static final TradeStatus[] TRADE_STATUSES = TradeStatus.values();
+
+    public byte[] encode(GameStateSnapshot snapshot) {
+        Writer out = new Writer();
+        out.writeByte(FORMAT_VERSION);
+
+        List<PlayerSnapshot> players = snapshot.getPlayers();
+        out.writeVarInt(players.size());
+        for (PlayerSnapshot player : players) {
+            out.writeUuid(player.getPlayerId());
+            out.writeString(player.getDisplayName());
+            out.writeBoolean(player.isNpc());
+            out.writeEnumName(player.getNpcDifficulty(), Difficulty.class);
+            out.writeVarInt(player.getPosition());
+            out.writeVarLong(player.getCurrencyCents());
+            out.writeUuids(player.getOwnedPropertyIds());
+            out.writeBoolean(player.isBankrupt());
+            out.writeVarInt(player.getTurnsInSandTrap());
+            out.writeVarInt(player.getConsecutiveDoubles());
+        }
+
+        out.writeString(snapshot.getBoardTemplateId());
+        writePropertyStates(out, snapshot.getProperties());
+        writeTiles(out, snapshot.getTiles());
+        writeTrade(out, snapshot.getPendingTrade());
+
+        DiceSnapshot dice = snapshot.getDice();
+        out.writeBoolean(dice != null);
+        if (dice != null) {
+            out.writeLong(dice.getSeed());
+            out.writeVarLong(dice.getRollCount());
+        }
+        return out.toByteArray();
+    }
+
+    public GameStateSnapshot decode(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported snapshot format version: " + version);
+        }
+
+        int playerCount = in.readVarInt();
+        List<PlayerSnapshot> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(PlayerSnapshot.builder()
+                    .playerId(in.readUuid())
+                    .displayName(in.readString())
+                    .npc(in.readBoolean())
+                    .npcDifficulty(in.readEnumName(DIFFICULTIES))
+                    .position(in.readVarInt())
+                    .currencyCents(in.readVarLong())
+                    .ownedPropertyIds(in.readUuids())
+                    .bankrupt(in.readBoolean())
+                    .turnsInSandTrap(in.readVarInt())
+                    .consecutiveDoubles(in.readVarInt())
+                    .build());
+        }
+
+        GameStateSnapshot.GameStateSnapshotBuilder snapshot = GameStateSnapshot.builder()
+                .players(players)
+                .boardTemplateId(in.readString())
+                .properties(readPropertyStates(in))
+                .tiles(readTiles(in))
+                .pendingTrade(readTrade(in));
+        if (in.readBoolean()) {
+            snapshot.dice(DiceSnapshot.builder()
+                    .seed(in.readLong())
+                    .rollCount(in.readVarLong())
+                    .build());
+        }
+        return snapshot.build();
+    }
+
+    private void writePropertyStates(Writer out, List<PropertyStateSnapshot> states) {
+        out.writeNullableCount(states);
+        if (states == null) {
+            return;
+        }
+        for (PropertyStateSnapshot state : states) {
+            out.writeVarInt(state.getTilePosition());
+            out.writeNullableUuid(state.getOwnerId());
+            out.writeEnumName(state.getImprovementLevel(), ImprovementLevel.class);
+            out.writeBoolean(state.isMortgaged());
+        }
+    }
+
+    private List<PropertyStateSnapshot> readPropertyStates(Reader in) {
+        int count = in.readNullableCount();
+        if (count < 0) {
+            return null;
+        }
+        List<PropertyStateSnapshot> states = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            states.add(PropertyStateSnapshot.builder()
+                    .tilePosition(in.readVarInt())
+                    .ownerId(in.readNullableUuid())
+                    .improvementLevel(in.readEnumName(IMPROVEMENT_LEVELS))
+                    .mortgaged(in.readBoolean())
+                    .build());
+        }
+        return states;
+    }
+
+    private void writeTiles(Writer out, List<TileSnapshot> tiles) {
+        out.writeNullableCount(tiles);
+        if (tiles == null) {
+            return;
+        }
+        for (TileSnapshot tile : tiles) {
+            out.writeUuid(tile.getTileId());
+            out.writeVarInt(tile.getPosition());
+            out.writeEnumName(tile.getType(), TileType.class);
+            out.writeString(tile.getName());
+            PropertySnapshot property = tile.getProperty();
+            out.writeBoolean(property != null);
+            if (property != null) {
+                out.writeUuid(property.getPropertyId());
+                out.writeString(property.getName());
+                out.writeEnumName(property.getCourseGroup(), CourseGroup.class);
+                out.writeVarInt(property.getTilePosition());
+                out.writeVarLong(property.getPurchasePriceCents());
+                out.writeVarLong(property.getBaseRentCents());
+                out.writeVarLong(property.getRentWithClubhouseCents());
+                out.writeVarLong(property.getRentWithResortCents());
+                out.writeVarLong(property.getImprovementCostCents());
+                out.writeNullableUuid(property.getOwnerId());
+                out.writeEnumName(property.getImprovementLevel(), ImprovementLevel.class);
+                out.writeBoolean(property.isMortgaged());
+            }
+        }
+    }
+
+    private List<TileSnapshot> readTiles(Reader in) {
+        int count = in.readNullableCount();
+        if (count < 0) {
+            return null;
+        }
+        List<TileSnapshot> tiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TileSnapshot.TileSnapshotBuilder tile = TileSnapshot.builder()
+                    .tileId(in.readUuid())
+                    .position(in.readVarInt())
+                    .type(in.readEnumName(TILE_TYPES))
+                    .name(in.readString());
+            if (in.readBoolean()) {
+                tile.property(PropertySnapshot.builder()
+                        .propertyId(in.readUuid())
+                        .name(in.readString())
+                        .courseGroup(in.readEnumName(COURSE_GROUPS))
+                        .tilePosition(in.readVarInt())
+                        .purchasePriceCents(in.readVarLong())
+                        .baseRentCents(in.readVarLong())
+                        .rentWithClubhouseCents(in.readVarLong())
+                        .rentWithResortCents(in.readVarLong())
+                        .improvementCostCents(in.readVarLong())
+                        .ownerId(in.readNullableUuid())
+                        .improvementLevel(in.readEnumName(IMPROVEMENT_LEVELS))
+                        .mortgaged(in.readBoolean())
+                        .build());
+            }
+            tiles.add(tile.build());
+        }
+        return tiles;
+    }
+
+    private void writeTrade(Writer out, TradeOfferSnapshot trade) {
+        out.writeBoolean(trade != null);
+        if (trade == null) {
+            return;
+        }
+        out.writeUuid(trade.getOfferId());
+        out.writeUuid(trade.getOfferingPlayerId());
+        out.writeUuid(trade.getReceivingPlayerId());
+        out.writeUuids(trade.getOfferedPropertyIds());
+        out.writeVarLong(trade.getOfferedCurrencyCents());
+        out.writeUuids(trade.getRequestedPropertyIds());
+        out.writeVarLong(trade.getRequestedCurrencyCents());
+        out.writeEnumName(trade.getStatus(), TradeStatus.class);
+    }
+
+    private TradeOfferSnapshot readTrade(Reader in) {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return TradeOfferSnapshot.builder()
+                .offerId(in.readUuid())
+                .offeringPlayerId(in.readUuid())
+                .receivingPlayerId(in.readUuid())
+                .offeredPropertyIds(in.readUuids())
+                .offeredCurrencyCents(in.readVarLong())
+                .requestedPropertyIds(in.readUuids())
+                .requestedCurrencyCents(in.readVarLong())
+                .status(in.readEnumName(TRADE_STATUSES))
+                .build();
+    }
+
+    // ==================== Encoding primitives ====================
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[512];
+        private int size;
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeBoolean(boolean value) {
+            writeByte(value ? 1 : 0);
+        }
+
+        void writeLong(long value) {
+            ensure(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarInt(int value) {
+            writeUnsignedVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            writeUnsignedVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeUuid(UUID value) {
+            writeLong(value.getMostSignificantBits());
+            writeLong(value.getLeastSignificantBits());
+        }
+
+        void writeNullableUuid(UUID value) {
+            writeBoolean(value != null);
+            if (value != null) {
+                writeUuid(value);
+            }
+        }
+
+        void writeUuids(List<UUID> values) {
+            writeVarInt(values.size());
+            for (UUID value : values) {
+                writeUuid(value);
+            }
+        }
+
+        void writeNullableCount(List<?> values) {
+            writeVarInt(values == null ? 0 : values.size() + 1);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        <E extends Enum<E>> void writeEnumName(String name, Class<E> type) {
+            writeVarInt(name == null ? 0 : Enum.valueOf(type, name).ordinal() + 1);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void writeUnsignedVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() {
+            if (position >= buffer.length) {
+                throw new IllegalStateException("Truncated snapshot at byte " + position);
+            }
+            return buffer[position++];
+        }
+
+        boolean readBoolean() {
+            return readByte() != 0;
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+
+        int readVarInt() {
+            return (int) readUnsignedVarLong();
+        }
+
+        long readVarLong() {
+            long value = readUnsignedVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        UUID readUuid() {
+            return new UUID(readLong(), readLong());
+        }
+
+        UUID readNullableUuid() {
+            return readBoolean() ? readUuid() : null;
+        }
+
+        List<UUID> readUuids() {
+            int count = readVarInt();
+            List<UUID> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(readUuid());
+            }
+            return values;
+        }
+
+        int readNullableCount() {
+            return readVarInt() - 1;
+        }
+
+        String readString() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            if (position + length > buffer.length) {
+                throw new IllegalStateException("Truncated snapshot at byte " + position);
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        <E extends Enum<E>> String readEnumName(E[] constants) {
+            int ordinal = readVarInt() - 1;
+            return ordinal < 0 ? null : constants[ordinal].name();
+        }
+
+        private long readUnsignedVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("Malformed varint at byte " + position);
+        }
+    }
+}
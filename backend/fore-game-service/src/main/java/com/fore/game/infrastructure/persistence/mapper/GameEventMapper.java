@@ -1,15 +1,23 @@
 package com.fore.game.infrastructure.persistence.mapper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fore.common.types.Money;
 import com.fore.game.domain.events.*;
+import com.fore.game.domain.model.DiceRoll;
+import com.fore.game.domain.model.TradeOffer;
+import com.fore.game.domain.model.enums.ImprovementLevel;
 import com.fore.game.infrastructure.persistence.entity.GameEventEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -42,6 +50,18 @@ public class GameEventMapper {
                 .build();
     }
 
+    /**
+     * Event payload as JSON text, for the batch insert path.
+     * Same document as {@link #toEntity} stores, without the intermediate map.
+     */
+    public String toPayloadJson(GameEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event " + event.getEventType(), e);
+        }
+    }
+
     /**
      * Convert entity back to domain event.
      * For the event log, we typically just need the raw data for replay/audit.
@@ -57,7 +77,117 @@ public class GameEventMapper {
         return data;
     }
 
-    private UUID extractActorId(GameEvent event) {
+    /**
+     * Rebuild the typed domain event from a log row, for replay.
+     * Identity and timestamp come from the row's columns, the rest from the payload.
+     */
+    public GameEvent toDomain(GameEventEntity entity) {
+        JsonNode payload = objectMapper.valueToTree(entity.getEventPayload());
+        GameEvent.GameEventBuilder<?, ?> builder = switch (entity.getEventType()) {
+            case "GAME_CREATED" -> GameCreatedEvent.builder()
+                    .creatorId(uuid(payload, "creatorId"))
+                    .vsNpc(payload.path("vsNpc").asBoolean());
+            case "PLAYER_JOINED" -> PlayerJoinedEvent.builder()
+                    .playerId(uuid(payload, "playerId"))
+                    .playerName(text(payload, "playerName"));
+            case "GAME_STARTED" -> GameStartedEvent.builder()
+                    .firstPlayerId(uuid(payload, "firstPlayerId"));
+            case "DICE_ROLLED" -> DiceRolledEvent.builder()
+                    .playerId(uuid(payload, "playerId"))
+                    .roll(DiceRoll.of(payload.path("roll").path("die1").asInt(),
+                            payload.path("roll").path("die2").asInt()));
+            case "PLAYER_MOVED" -> PlayerMovedEvent.builder()
+                    .playerId(uuid(payload, "playerId"))
+                    .fromPosition(payload.path("fromPosition").asInt())
+                    .toPosition(payload.path("toPosition").asInt())
+                    .passedStart(payload.path("passedStart").asBoolean());
+            case "SALARY_COLLECTED" -> SalaryCollectedEvent.builder()
+                    .playerId(uuid(payload, "playerId"))
+                    .amount(money(payload, "amount"));
+            case "PROPERTY_PURCHASED" -> PropertyPurchasedEvent.builder()
+                    .playerId(uuid(payload, "playerId"))
+                    .propertyId(uuid(payload, "propertyId"))
+                    .propertyName(text(payload, "propertyName"))
+                    .price(money(payload, "price"));
+            case "PROPERTY_IMPROVED" -> PropertyImprovedEvent.builder()
+                    .playerId(uuid(payload, "playerId"))
+                    .propertyId(uuid(payload, "propertyId"))
+                    .propertyName(text(payload, "propertyName"))
+                    .previousLevel(ImprovementLevel.valueOf(payload.path("previousLevel").asText()))
+                    .newLevel(ImprovementLevel.valueOf(payload.path("newLevel").asText()))
+                    .cost(money(payload, "cost"));
+            case "RENT_PAID" -> RentPaidEvent.builder()
+                    .payerId(uuid(payload, "payerId"))
+                    .receiverId(uuid(payload, "receiverId"))
+                    .propertyId(uuid(payload, "propertyId"))
+                    .amount(money(payload, "amount"));
+            case "PENALTY_PAID" -> PenaltyPaidEvent.builder()
+                    .playerId(uuid(payload, "playerId"))
+                    .amount(money(payload, "amount"))
+                    .reason(text(payload, "reason"));
+            case "PLAYER_SENT_TO_SAND_TRAP" -> PlayerSentToSandTrapEvent.builder()
+                    .playerId(uuid(payload, "playerId"));
+            case "PLAYER_BANKRUPT" -> PlayerBankruptEvent.builder()
+                    .playerId(uuid(payload, "playerId"))
+                    .creditorId(uuid(payload, "creditorId"));
+            case "TRADE_PROPOSED" -> TradeProposedEvent.builder()
+                    .offer(tradeOffer(payload.path("offer")));
+            case "TRADE_ACCEPTED" -> TradeAcceptedEvent.builder()
+                    .offer(tradeOffer(payload.path("offer")));
+            case "TRADE_REJECTED" -> TradeRejectedEvent.builder()
+                    .offer(tradeOffer(payload.path("offer")));
+            case "TURN_ENDED" -> TurnEndedEvent.builder()
+                    .playerId(uuid(payload, "playerId"))
+                    .turnNumber(payload.path("turnNumber").asInt());
+            case "TURN_STARTED" -> TurnStartedEvent.builder()
+                    .playerId(uuid(payload, "playerId"))
+                    .turnNumber(payload.path("turnNumber").asInt());
+            case "GAME_ENDED" -> GameEndedEvent.builder()
+                    .winnerId(uuid(payload, "winnerId"))
+                    .reason(text(payload, "reason"));
+            default -> throw new IllegalStateException("Unknown event type: " + entity.getEventType());
+        };
+        return builder
+                .eventId(entity.getEventId())
+                .gameId(entity.getGameId())
+                .occurredAt(entity.getCreatedAt())
+                .build();
+    }
+
+    private TradeOffer tradeOffer(JsonNode node) {
+        return TradeOffer.builder()
+                .offerId(uuid(node, "offerId"))
+                .offeringPlayerId(uuid(node, "offeringPlayerId"))
+                .receivingPlayerId(uuid(node, "receivingPlayerId"))
+                .offeredPropertyIds(uuids(node, "offeredPropertyIds"))
+                .offeredCurrency(money(node, "offeredCurrency"))
+                .requestedPropertyIds(uuids(node, "requestedPropertyIds"))
+                .requestedCurrency(money(node, "requestedCurrency"))
+                .status(TradeOffer.TradeStatus.valueOf(node.path("status").asText()))
+                .build();
+    }
+
+    private static UUID uuid(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : UUID.fromString(value.asText());
+    }
+
+    private static Set<UUID> uuids(JsonNode node, String field) {
+        Set<UUID> ids = new HashSet<>();
+        node.path(field).forEach(value -> ids.add(UUID.fromString(value.asText())));
+        return ids;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static Money money(JsonNode node, String field) {
+        return Money.ofCents(node.path(field).asLong());
+    }
+
+    public UUID extractActorId(GameEvent event) {
         // Extract the player who caused this event, if applicable
         return switch (event) {
             case DiceRolledEvent e -> e.getPlayerId();
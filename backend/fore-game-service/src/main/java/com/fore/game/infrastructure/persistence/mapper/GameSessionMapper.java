@@ -20,47 +20,75 @@ public class GameSessionMapper {
      * Convert domain model to JPA entity for persistence.
      */
     public GameSessionEntity toEntity(GameSession domain) {
-        GameSessionEntity entity = GameSessionEntity.builder()
+        GameSessionEntity entity = toStateEntity(domain);
+
+        // Add participants
+        domain.getPlayers().values().forEach(player -> entity.addParticipant(toParticipant(domain, player)));
+
+        return entity;
+    }
+
+    /**
+     * Game row only, without participants: everything a command can change.
+     */
+    public GameSessionEntity toStateEntity(GameSession domain) {
+        GameSessionEntity entity = toRowEntity(domain);
+        entity.setGameStateSnapshot(buildSnapshot(domain));
+        return entity;
+    }
+
+    /**
+     * Game row columns only, without the snapshot, for updates that patch the snapshot in place.
+     */
+    public GameSessionEntity toRowEntity(GameSession domain) {
+        return GameSessionEntity.builder()
                 .gameId(domain.getGameId())
                 .status(domain.getStatus().name())
                 .currentPlayerId(domain.getCurrentPlayerId())
                 .turnPhase(domain.getTurnPhase().name())
                 .turnNumber(domain.getTurnNumber())
                 .winnerId(domain.getWinnerId())
-                .gameStateSnapshot(buildSnapshot(domain))
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
                 .lastActivityAt(domain.getLastActivityAt())
+                .eventSequence(domain.getStateEventSequence() != GameSession.UNKNOWN_EVENT_SEQUENCE
+                        ? domain.getStateEventSequence()
+                        : null)
+                .version(domain.getVersion())
                 .build();
+    }
 
-        // Add participants
-        domain.getPlayers().values().forEach(player -> {
-            GameParticipantEntity participant = GameParticipantEntity.builder()
-                    .gameId(domain.getGameId())
-                    .playerId(player.getPlayerId())
-                    .npc(player.isNpc())
-                    .npcDifficulty(player.getNpcDifficulty() != null ? player.getNpcDifficulty().name() : null)
-                    .joinedAt(domain.getCreatedAt())
-                    .build();
-            entity.addParticipant(participant);
-        });
-
-        return entity;
+    public GameParticipantEntity toParticipant(GameSession domain, PlayerState player) {
+        return GameParticipantEntity.builder()
+                .gameId(domain.getGameId())
+                .playerId(player.getPlayerId())
+                .npc(player.isNpc())
+                .npcDifficulty(player.getNpcDifficulty() != null ? player.getNpcDifficulty().name() : null)
+                .displayName(player.getDisplayName())
+                .joinedAt(domain.getCreatedAt())
+                .build();
     }
 
     /**
      * Convert JPA entity back to domain model.
      */
     public GameSession toDomain(GameSessionEntity entity) {
-        GameStateSnapshot snapshot = entity.getGameStateSnapshot();
+        return toDomain(entity, entity.getGameStateSnapshot());
+    }
 
+    /**
+     * Convert a row whose snapshot was decoded separately (see BinarySnapshotCodec).
+     */
+    public GameSession toDomain(GameSessionEntity entity, GameStateSnapshot snapshot) {
         // Reconstruct board with property state from snapshot
-        Board board = reconstructBoard(snapshot.getTiles());
+        Board board = snapshot.getBoardTemplateId() != null
+                ? reconstructTemplateBoard(snapshot.getBoardTemplateId(), snapshot.getProperties())
+                : reconstructBoard(snapshot.getTiles());
 
         // Reconstruct player states
         Map<UUID, PlayerState> players = reconstructPlayers(snapshot.getPlayers());
 
-        return GameSession.reconstitute(
+        GameSession session = GameSession.reconstitute(
                 entity.getGameId(),
                 GameStatus.valueOf(entity.getStatus()),
                 entity.getCurrentPlayerId(),
@@ -70,35 +98,134 @@ public class GameSessionMapper {
                 board,
                 players,
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                reconstructDice(snapshot.getDice())
         );
+        if (snapshot.getPendingTrade() != null) {
+            session.restorePendingTrade(reconstructTrade(snapshot.getPendingTrade()));
+        }
+        if (entity.getEventSequence() != null) {
+            session.recordEventSequence(entity.getEventSequence());
+        }
+        if (entity.getVersion() != null) {
+            session.markPersisted(entity.getVersion());
+        }
+        session.clearChanges();
+        return session;
+    }
+
+    /**
+     * Checkpoint of the game as it stands after the event at {@code sequenceNum}.
+     */
+    public GameCheckpointEntity toCheckpoint(GameSession domain, long sequenceNum) {
+        return GameCheckpointEntity.builder()
+                .gameId(domain.getGameId())
+                .sequenceNum(sequenceNum)
+                .status(domain.getStatus().name())
+                .currentPlayerId(domain.getCurrentPlayerId())
+                .turnPhase(domain.getTurnPhase().name())
+                .turnNumber(domain.getTurnNumber())
+                .winnerId(domain.getWinnerId())
+                .gameStateSnapshot(buildSnapshot(domain))
+                .createdAt(domain.getCreatedAt())
+                .updatedAt(domain.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Game as of a checkpoint, with its event sequence set to the checkpoint's.
+     * It carries no row version: a rebuilt game is for reading, not for saving.
+     */
+    public GameSession toDomain(GameCheckpointEntity checkpoint) {
+        GameSessionEntity row = GameSessionEntity.builder()
+                .gameId(checkpoint.getGameId())
+                .status(checkpoint.getStatus())
+                .currentPlayerId(checkpoint.getCurrentPlayerId())
+                .turnPhase(checkpoint.getTurnPhase())
+                .turnNumber(checkpoint.getTurnNumber())
+                .winnerId(checkpoint.getWinnerId())
+                .createdAt(checkpoint.getCreatedAt())
+                .updatedAt(checkpoint.getUpdatedAt())
+                .build();
+        GameSession session = toDomain(row, checkpoint.getGameStateSnapshot());
+        session.recordEventSequence(checkpoint.getSequenceNum());
+        return session;
     }
 
     private GameStateSnapshot buildSnapshot(GameSession domain) {
+        Board board = domain.getBoard();
+        boolean templated = board.getTemplateId() != null;
         return GameStateSnapshot.builder()
                 .players(buildPlayerSnapshots(domain))
-                .tiles(buildTileSnapshots(domain.getBoard()))
+                .boardTemplateId(board.getTemplateId())
+                .properties(templated ? buildPropertyStateSnapshots(board) : null)
+                .tiles(templated ? null : buildTileSnapshots(board))
                 .pendingTrade(buildTradeSnapshot(domain.getPendingTrade()))
+                .dice(buildDiceSnapshot(domain.getDiceSource()))
+                .build();
+    }
+
+    public DiceSnapshot buildDiceSnapshot(DiceSource diceSource) {
+        // Only seeded dice have state worth persisting; scripted dice are test-only
+        if (!(diceSource instanceof SeededDiceSource seeded)) {
+            return null;
+        }
+        return DiceSnapshot.builder()
+                .seed(seeded.getSeed())
+                .rollCount(seeded.getRollCount())
                 .build();
     }
 
+    private DiceSource reconstructDice(DiceSnapshot snapshot) {
+        if (snapshot == null) {
+            return SeededDiceSource.withRandomSeed();
+        }
+        return SeededDiceSource.restore(snapshot.getSeed(), snapshot.getRollCount());
+    }
+
     private List<PlayerSnapshot> buildPlayerSnapshots(GameSession domain) {
         return domain.getPlayers().values().stream()
-                .map(player -> PlayerSnapshot.builder()
-                        .playerId(player.getPlayerId())
-                        .displayName(player.getDisplayName())
-                        .npc(player.isNpc())
-                        .npcDifficulty(player.getNpcDifficulty() != null ? player.getNpcDifficulty().name() : null)
-                        .position(player.getPosition())
-                        .currencyCents(player.getCurrency().toCents())
-                        .ownedPropertyIds(new ArrayList<>(player.getOwnedPropertyIds()))
-                        .bankrupt(player.isBankrupt())
-                        .turnsInSandTrap(player.getTurnsInSandTrap())
-                        .consecutiveDoubles(player.getConsecutiveDoubles())
-                        .build())
+                .map(this::buildPlayerSnapshot)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Snapshot of one player; element {@code seat} of the players array.
+     */
+    public PlayerSnapshot buildPlayerSnapshot(PlayerState player) {
+        return PlayerSnapshot.builder()
+                .playerId(player.getPlayerId())
+                .displayName(player.getDisplayName())
+                .npc(player.isNpc())
+                .npcDifficulty(player.getNpcDifficulty() != null ? player.getNpcDifficulty().name() : null)
+                .position(player.getPosition())
+                .currencyCents(player.getCurrency().toCents())
+                .ownedPropertyIds(new ArrayList<>(player.getOwnedPropertyIds()))
+                .bankrupt(player.isBankrupt())
+                .turnsInSandTrap(player.getTurnsInSandTrap())
+                .consecutiveDoubles(player.getConsecutiveDoubles())
+                .build();
+    }
+
+    public List<PropertyStateSnapshot> buildPropertyStateSnapshots(Board board) {
+        List<PropertyStateSnapshot> states = new ArrayList<>();
+        for (Tile tile : board.getTiles()) {
+            Property property = tile.getProperty().orElse(null);
+            if (property == null
+                    || (!property.isOwned() && !property.isMortgaged()
+                        && property.getImprovementLevel() == ImprovementLevel.NONE)) {
+                continue;
+            }
+            states.add(PropertyStateSnapshot.builder()
+                    .tilePosition(property.getTilePosition())
+                    .ownerId(property.getOwnerId())
+                    .improvementLevel(property.getImprovementLevel().name())
+                    .mortgaged(property.isMortgaged())
+                    .build());
+        }
+        return states;
+    }
+
     private List<TileSnapshot> buildTileSnapshots(Board board) {
         return board.getTiles().stream()
                 .map(tile -> TileSnapshot.builder()
@@ -128,7 +255,7 @@ public class GameSessionMapper {
                 .build();
     }
 
-    private TradeOfferSnapshot buildTradeSnapshot(TradeOffer trade) {
+    public TradeOfferSnapshot buildTradeSnapshot(TradeOffer trade) {
         if (trade == null) return null;
         return TradeOfferSnapshot.builder()
                 .offerId(trade.getOfferId())
@@ -142,6 +269,30 @@ public class GameSessionMapper {
                 .build();
     }
 
+    private TradeOffer reconstructTrade(TradeOfferSnapshot snapshot) {
+        return TradeOffer.builder()
+                .offerId(snapshot.getOfferId())
+                .offeringPlayerId(snapshot.getOfferingPlayerId())
+                .receivingPlayerId(snapshot.getReceivingPlayerId())
+                .offeredPropertyIds(new HashSet<>(snapshot.getOfferedPropertyIds()))
+                .offeredCurrency(Money.ofCents(snapshot.getOfferedCurrencyCents()))
+                .requestedPropertyIds(new HashSet<>(snapshot.getRequestedPropertyIds()))
+                .requestedCurrency(Money.ofCents(snapshot.getRequestedCurrencyCents()))
+                .status(TradeOffer.TradeStatus.valueOf(snapshot.getStatus()))
+                .build();
+    }
+
+    private Board reconstructTemplateBoard(String templateId, List<PropertyStateSnapshot> states) {
+        Board board = BoardFactory.template(templateId).createBoard();
+        if (states != null) {
+            for (PropertyStateSnapshot state : states) {
+                applyPropertyState(board.getTileAt(state.getTilePosition()).requireProperty(),
+                        state.getOwnerId(), state.getImprovementLevel(), state.isMortgaged());
+            }
+        }
+        return board;
+    }
+
     private Board reconstructBoard(List<TileSnapshot> tileSnapshots) {
         List<Tile> tiles = tileSnapshots.stream()
                 .map(this::reconstructTile)
@@ -178,25 +329,14 @@ public class GameSessionMapper {
                 .improvementCost(Money.ofCents(snapshot.getImprovementCostCents()))
                 .build();
 
-        // Apply mutable state
-        if (snapshot.getOwnerId() != null) {
-            property.purchase(snapshot.getOwnerId());
-        }
-        
-        // Apply improvements
-        ImprovementLevel targetLevel = ImprovementLevel.valueOf(snapshot.getImprovementLevel());
-        while (property.getImprovementLevel() != targetLevel) {
-            property.improve();
-        }
-        
-        // Apply mortgage
-        if (snapshot.isMortgaged()) {
-            property.mortgage();
-        }
-
+        applyPropertyState(property, snapshot.getOwnerId(), snapshot.getImprovementLevel(), snapshot.isMortgaged());
         return property;
     }
 
+    private void applyPropertyState(Property property, UUID ownerId, String improvementLevel, boolean mortgaged) {
+        property.restore(ownerId, ImprovementLevel.valueOf(improvementLevel), mortgaged);
+    }
+
     private Map<UUID, PlayerState> reconstructPlayers(List<PlayerSnapshot> playerSnapshots) {
         Map<UUID, PlayerState> players = new LinkedHashMap<>();
         
@@ -0,0 +1,88 @@
+package com.fore.game.infrastructure.persistence.migration;
+
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot.PlayerSnapshot;
+import com.fore.game.infrastructure.persistence.mapper.BinarySnapshotCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Version 9: names the participants V7 could not. V7 filled game_participants.display_name from
+ * JSONB snapshots only, and participants rows are only ever inserted for new players, so players
+ * of games stored in binary kept a null name and showed as "Unknown" in the lobby. This reads
+ * those names out of game_state_binary with the application's codec.
+ * <p>
+ * Spring Boot hands JavaMigration beans to Flyway, which runs this after V8 like a SQL migration.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class V9BinaryParticipantNames implements JavaMigration {
+
+    private static final String SELECT_UNNAMED = """
+            SELECT g.game_id, g.game_state_binary
+            FROM game_sessions g
+            WHERE g.game_state_binary IS NOT NULL
+              AND EXISTS (SELECT 1 FROM game_participants p
+                          WHERE p.game_id = g.game_id AND p.display_name IS NULL)""";
+    private static final String UPDATE_NAME = """
+            UPDATE game_participants SET display_name = ?
+            WHERE game_id = ? AND player_id = ? AND display_name IS NULL""";
+    private static final int FETCH_SIZE = 200;
+
+    private final BinarySnapshotCodec snapshotCodec;
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("9");
+    }
+
+    @Override
+    public String getDescription() {
+        return "name participants of binary snapshots";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        int games = 0;
+        try (PreparedStatement select = context.getConnection().prepareStatement(SELECT_UNNAMED);
+             PreparedStatement update = context.getConnection().prepareStatement(UPDATE_NAME)) {
+            // Inside Flyway's transaction, so the driver streams the rows instead of loading them all
+            select.setFetchSize(FETCH_SIZE);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    GameStateSnapshot snapshot = snapshotCodec.decode(rows.getBytes("game_state_binary"));
+                    for (PlayerSnapshot player : snapshot.getPlayers()) {
+                        update.setString(1, player.getDisplayName());
+                        update.setObject(2, rows.getObject("game_id"));
+                        update.setObject(3, player.getPlayerId());
+                        update.addBatch();
+                    }
+                    if (++games % FETCH_SIZE == 0) {
+                        update.executeBatch();
+                    }
+                }
+            }
+            update.executeBatch();
+        }
+        log.info("Named participants of {} binary-format games", games);
+    }
+}
@@ -0,0 +1,18 @@
+package com.fore.game.infrastructure.persistence.repository;
+
+import com.fore.game.infrastructure.persistence.entity.GameCheckpointEntity;
+import com.fore.game.infrastructure.persistence.entity.GameCheckpointId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface JpaGameCheckpointRepository extends JpaRepository<GameCheckpointEntity, GameCheckpointId> {
+
+    Optional<GameCheckpointEntity> findFirstByGameIdAndSequenceNumLessThanEqualOrderBySequenceNumDesc(
+            UUID gameId, long sequenceNum);
+
+    Optional<GameCheckpointEntity> findFirstByGameIdOrderBySequenceNumAsc(UUID gameId);
+}
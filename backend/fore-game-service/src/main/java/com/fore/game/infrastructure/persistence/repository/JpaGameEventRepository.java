@@ -1,13 +1,17 @@
 package com.fore.game.infrastructure.persistence.repository;
 
 import com.fore.game.infrastructure.persistence.entity.GameEventEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface JpaGameEventRepository extends JpaRepository<GameEventEntity, UUID> {
@@ -16,6 +20,13 @@ public interface JpaGameEventRepository extends JpaRepository<GameEventEntity, U
 
     List<GameEventEntity> findByGameIdAndSequenceNumGreaterThanOrderBySequenceNumAsc(UUID gameId, long sequenceNum);
 
+    /**
+     * Rows are fetched from the cursor in small batches, so a reader that stops early
+     * never loads the rest of the log.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "64"))
+    Stream<GameEventEntity> streamByGameIdAndSequenceNumGreaterThanOrderBySequenceNumAsc(UUID gameId, long sequenceNum);
+
     @Query("SELECT COALESCE(MAX(e.sequenceNum), 0) FROM GameEventEntity e WHERE e.gameId = :gameId")
     long findMaxSequenceNumByGameId(@Param("gameId") UUID gameId);
 }
@@ -2,10 +2,12 @@ package com.fore.game.infrastructure.persistence.repository;
 
 import com.fore.game.infrastructure.persistence.entity.GameSessionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,4 +23,39 @@ public interface JpaGameSessionRepository extends JpaRepository<GameSessionEntit
     List<GameSessionEntity> findActiveGamesByPlayerId(@Param("playerId") UUID playerId);
 
     long countByStatus(String status);
+
+    /**
+     * Conditional update of everything a command can change, bumping the version.
+     * Returns 0 when the row is no longer at {@code expectedVersion}.
+     * Ids and the event sequence are passed as text so a null binds cleanly; exactly one of the
+     * snapshot forms is set.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE game_sessions
+            SET status = :status,
+                current_player_id = CAST(:currentPlayerId AS uuid),
+                turn_phase = :turnPhase,
+                turn_number = :turnNumber,
+                winner_id = CAST(:winnerId AS uuid),
+                game_state_snapshot = CAST(:snapshot AS jsonb),
+                game_state_binary = CAST(:snapshotBinary AS bytea),
+                event_sequence = CAST(:eventSequence AS bigint),
+                updated_at = :updatedAt,
+                last_activity_at = :lastActivityAt,
+                version = version + 1
+            WHERE game_id = :gameId AND version = :expectedVersion
+            """, nativeQuery = true)
+    int updateIfVersion(@Param("gameId") UUID gameId,
+                        @Param("expectedVersion") long expectedVersion,
+                        @Param("status") String status,
+                        @Param("currentPlayerId") String currentPlayerId,
+                        @Param("turnPhase") String turnPhase,
+                        @Param("turnNumber") int turnNumber,
+                        @Param("winnerId") String winnerId,
+                        @Param("snapshot") String snapshot,
+                        @Param("snapshotBinary") byte[] snapshotBinary,
+                        @Param("eventSequence") String eventSequence,
+                        @Param("updatedAt") Instant updatedAt,
+                        @Param("lastActivityAt") Instant lastActivityAt);
 }
@@ -0,0 +1,6 @@
+-- The last logged event a game row reflects. Rows are written behind the event log, so after a
+-- crash a row can be older than the log; this tells such a row apart from a current one.
+-- Null for rows saved before the column existed, which are taken to be current
+
+ALTER TABLE game_sessions
+    ADD COLUMN event_sequence BIGINT;
@@ -0,0 +1,5 @@
+-- Add a row version to game_sessions for optimistic concurrency
+-- A save only succeeds if the row still has the version the game was loaded with
+
+ALTER TABLE game_sessions
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
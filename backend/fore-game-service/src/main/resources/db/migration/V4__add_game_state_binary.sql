@@ -0,0 +1,8 @@
+-- Optional binary encoding of the game state snapshot (fore.game-store.snapshot-format: binary)
+-- Exactly one of the two columns is set; rows keep their JSONB snapshot until next saved in binary
+
+ALTER TABLE game_sessions
+    ADD COLUMN game_state_binary BYTEA;
+
+ALTER TABLE game_sessions
+    ALTER COLUMN game_state_snapshot DROP NOT NULL;
@@ -0,0 +1,17 @@
+-- Game state checkpoints taken every fore.event-log.checkpoint-interval events (and at creation)
+-- A rebuild loads the latest checkpoint at or before a sequence and replays only the events after it
+
+CREATE TABLE game_checkpoints (
+    game_id             UUID NOT NULL REFERENCES game_sessions(game_id) ON DELETE CASCADE,
+    sequence_num        BIGINT NOT NULL,
+    status              VARCHAR(20) NOT NULL,
+    current_player_id   UUID,
+    turn_phase          VARCHAR(20) NOT NULL,
+    turn_number         INT NOT NULL,
+    winner_id           UUID,
+    game_state_snapshot JSONB NOT NULL,
+    created_at          TIMESTAMPTZ NOT NULL,
+    updated_at          TIMESTAMPTZ NOT NULL,
+
+    PRIMARY KEY (game_id, sequence_num)
+);
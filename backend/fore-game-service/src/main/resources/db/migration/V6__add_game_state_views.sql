@@ -0,0 +1,9 @@
+-- Read model for GET /api/v1/games/{id}: the GameStateResponse JSON as served, written in the
+-- same transaction as each command, so reads need neither the snapshot nor the DTO mapper
+
+CREATE TABLE game_state_views (
+    game_id         UUID PRIMARY KEY REFERENCES game_sessions(game_id) ON DELETE CASCADE,
+    event_sequence  BIGINT NOT NULL,
+    state_json      BYTEA NOT NULL,
+    updated_at      TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,16 @@
+-- Lobby summaries (GET /api/v1/games/available) come from game_sessions and game_participants alone:
+-- participants carry the display name, and waiting games have a partial index in page order
+
+ALTER TABLE game_participants
+    ADD COLUMN display_name VARCHAR(50);
+
+-- Names of existing participants from JSONB snapshots; binary-only rows are named on their next join
+UPDATE game_participants p
+SET display_name = s.player ->> 'displayName'
+FROM game_sessions g,
+     jsonb_array_elements(g.game_state_snapshot -> 'players') AS s(player)
+WHERE g.game_id = p.game_id
+  AND s.player ->> 'playerId' = p.player_id::text;
+
+CREATE INDEX idx_game_sessions_waiting ON game_sessions(created_at DESC, game_id DESC)
+    WHERE status = 'WAITING';
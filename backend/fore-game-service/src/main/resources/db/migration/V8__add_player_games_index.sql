@@ -0,0 +1,6 @@
+-- Player game lists (GET /api/v1/games/player/{id}/summaries) find a player's games with an
+-- index-only scan; the single-column player index is a prefix of the new one
+
+CREATE INDEX idx_game_participants_player_game ON game_participants(player_id, game_id);
+
+DROP INDEX IF EXISTS idx_game_participants_player;
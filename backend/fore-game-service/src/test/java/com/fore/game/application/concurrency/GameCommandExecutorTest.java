@@ -0,0 +1,133 @@
+package com.fore.game.application.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GameCommandExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private GameCommandExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new GameCommandExecutor(meterRegistry, 4);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_sameGame_shouldNeverOverlap() {
+        // given
+        UUID gameId = UUID.randomUUID();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            int command = i;
+            results.add(CompletableFuture.supplyAsync(() -> executor.execute(gameId, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.onSpinWait();
+                running.decrementAndGet();
+                return command;
+            }), callers));
+        }
+
+        // then
+        assertThat(results).allSatisfy(result -> assertThat(result).succeedsWithin(5, TimeUnit.SECONDS));
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_gamesOnDifferentStripes_shouldRunInParallel() {
+        // given
+        UUID first = UUID.randomUUID();
+        UUID second = gameOnOtherStripe(first);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // when: each command waits for the other, which only works if they run at the same time
+        CompletableFuture<Boolean> a = CompletableFuture.supplyAsync(
+                () -> executor.execute(first, () -> awaitQuietly(bothStarted)), callers);
+        CompletableFuture<Boolean> b = CompletableFuture.supplyAsync(
+                () -> executor.execute(second, () -> awaitQuietly(bothStarted)), callers);
+
+        // then
+        assertThat(a).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(true);
+        assertThat(b).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(true);
+    }
+
+    @Test
+    void execute_nestedForSameGame_shouldRunInline() {
+        UUID gameId = UUID.randomUUID();
+
+        String result = executor.execute(gameId, () -> executor.execute(gameId, () -> "inner"));
+
+        assertThat(result).isEqualTo("inner");
+    }
+
+    @Test
+    void execute_commandThrows_shouldRethrowToCaller() {
+        UUID gameId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> executor.execute(gameId, () -> {
+            throw new IllegalStateException("Not your turn");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Not your turn");
+
+        // The lane keeps working afterwards
+        assertThat(executor.execute(gameId, () -> 42)).isEqualTo(42);
+    }
+
+    @Test
+    void execute_shouldRecordPerStripeMetrics() {
+        UUID gameId = UUID.randomUUID();
+        String stripe = Integer.toString(executor.stripeIndexOf(gameId));
+
+        executor.execute(gameId, () -> 1);
+        executor.execute(gameId, () -> 2);
+
+        assertThat(meterRegistry.get("fore.game.executor.wait").tag("stripe", stripe).timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("fore.game.executor.queue.depth").gauges())
+                .hasSize(executor.getStripeCount());
+    }
+
+    private UUID gameOnOtherStripe(UUID gameId) {
+        UUID other;
+        do {
+            other = UUID.randomUUID();
+        } while (executor.stripeIndexOf(other) == executor.stripeIndexOf(gameId));
+        return other;
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.fore.game.application.concurrency;
+
+import com.fore.game.domain.exceptions.GameConcurrencyException;
+import com.fore.game.domain.exceptions.InvalidActionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GameConflictRetryTest {
+
+    private static final UUID GAME_ID = UUID.randomUUID();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GameConflictRetry retry = new GameConflictRetry(meterRegistry, 3);
+
+    @Test
+    void execute_conflictThenSuccess_shouldReapplyCommand() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retry.execute(GAME_ID, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new GameConcurrencyException(GAME_ID);
+            }
+            return "applied";
+        });
+
+        assertThat(result).isEqualTo("applied");
+        assertThat(attempts).hasValue(3);
+        assertThat(conflicts()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_alwaysConflicting_shouldGiveUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.execute(GAME_ID, () -> {
+            attempts.incrementAndGet();
+            throw new GameConcurrencyException(GAME_ID);
+        })).isInstanceOf(GameConcurrencyException.class);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get("fore.game.command.retries.exhausted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_otherFailure_shouldNotRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.execute(GAME_ID, () -> {
+            attempts.incrementAndGet();
+            throw new InvalidActionException("Not your turn");
+        })).isInstanceOf(InvalidActionException.class);
+
+        assertThat(attempts).hasValue(1);
+        assertThat(conflicts()).isZero();
+    }
+
+    private double conflicts() {
+        return meterRegistry.get("fore.game.save.conflicts").tag("source", "command").counter().count();
+    }
+}
@@ -0,0 +1,87 @@
+package com.fore.game.application.dto;
+
+import com.fore.game.application.dto.GameStateResponse.PropertyDto;
+import com.fore.game.application.dto.GameStateResponse.TileDto;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.Property;
+import com.fore.game.domain.model.enums.CourseGroup;
+import com.fore.game.domain.model.enums.Difficulty;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GameStateDtoMapperTest {
+
+    private static final UUID PLAYER_ID = UUID.randomUUID();
+
+    private final GameStateDtoMapper mapper = new GameStateDtoMapper();
+
+    @Test
+    void toGameStateResponse_completeGroup_shouldDoubleRentAndAllowImprovement() {
+        // given
+        GameSession game = GameSession.create(PLAYER_ID, "Player", true, Difficulty.EASY);
+        List<Property> links = game.getBoard().getPropertiesInGroup(CourseGroup.LINKS_NINE);
+        links.forEach(property -> property.purchase(PLAYER_ID));
+        UUID npcId = game.getOpponent(PLAYER_ID).getPlayerId();
+        Property other = game.getBoard().getPropertiesInGroup(CourseGroup.PRAIRIE_NINE).get(0);
+        other.purchase(npcId);
+
+        // when
+        GameStateResponse response = mapper.toGameStateResponse(game);
+
+        // then
+        for (Property property : links) {
+            PropertyDto dto = propertyDto(response, property.getPropertyId());
+            assertThat(dto.getOwnerName()).isEqualTo("Player");
+            assertThat(dto.getCurrentRentCents()).isEqualTo(property.getBaseRent().toCents() * 2);
+            assertThat(dto.isCanBeImproved()).isTrue();
+        }
+        PropertyDto npcOwned = propertyDto(response, other.getPropertyId());
+        assertThat(npcOwned.getCurrentRentCents()).isEqualTo(other.getBaseRent().toCents());
+        assertThat(npcOwned.isCanBeImproved()).isFalse();
+        assertThat(npcOwned.getCourseGroup()).isEqualTo("PRAIRIE_NINE");
+        assertThat(npcOwned.getCourseGroupColor()).isEqualTo(CourseGroup.PRAIRIE_NINE.getHexColor());
+    }
+
+    @Test
+    void toGameStateResponse_secondGameOnSameTemplate_shouldOnlyDifferInMutableFields() {
+        // given
+        GameSession first = GameSession.create(PLAYER_ID, "Player", true, Difficulty.EASY);
+        GameSession second = GameSession.create(PLAYER_ID, "Player", true, Difficulty.EASY);
+        Property bought = second.getBoard().getPropertiesInGroup(CourseGroup.LINKS_NINE).get(0);
+        bought.purchase(PLAYER_ID);
+
+        // when
+        List<TileDto> firstTiles = mapper.toGameStateResponse(first).getBoard().getTiles();
+        List<TileDto> secondTiles = mapper.toGameStateResponse(second).getBoard().getTiles();
+
+        // then
+        assertThat(secondTiles).hasSameSizeAs(firstTiles);
+        for (int i = 0; i < firstTiles.size(); i++) {
+            TileDto expected = firstTiles.get(i);
+            TileDto actual = secondTiles.get(i);
+            assertThat(actual.getTileId()).isEqualTo(expected.getTileId());
+            assertThat(actual.getName()).isEqualTo(expected.getName());
+            if (actual.getProperty() != null
+                    && !actual.getProperty().getPropertyId().equals(bought.getPropertyId())) {
+                assertThat(actual.getProperty()).isEqualTo(expected.getProperty());
+            }
+        }
+        assertThat(propertyDto(mapper.toGameStateResponse(second), bought.getPropertyId()).getOwnerId())
+                .isEqualTo(PLAYER_ID);
+        assertThat(propertyDto(mapper.toGameStateResponse(first), bought.getPropertyId()).getOwnerId()).isNull();
+    }
+
+    private static PropertyDto propertyDto(GameStateResponse response, UUID propertyId) {
+        return response.getBoard().getTiles().stream()
+                .map(TileDto::getProperty)
+                .filter(Objects::nonNull)
+                .filter(property -> property.getPropertyId().equals(propertyId))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,36 @@
+package com.fore.game.application.dto;
+
+import com.fore.game.domain.exceptions.InvalidActionException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PageCursorTest {
+
+    @Test
+    void decode_shouldRoundTripEncodedCursor() {
+        // given
+        PageCursor cursor = new PageCursor(Instant.parse("2026-03-01T12:00:00.123456Z"), UUID.randomUUID());
+
+        // when
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_blankToken_shouldStartAtFirstPage() {
+        assertThat(PageCursor.decode(null)).isNull();
+        assertThat(PageCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void decode_malformedToken_shouldThrow() {
+        assertThatThrownBy(() -> PageCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidActionException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.fore.game.application.readmodel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fore.game.application.dto.GameStateDtoMapper;
+import com.fore.game.application.dto.GameStateResponse;
+import com.fore.game.application.ports.outbound.GameStateViewRepository;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.game.infrastructure.config.JacksonConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GameStateProjectorTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final GameStateDtoMapper dtoMapper = new GameStateDtoMapper();
+
+    private InMemoryViews views;
+    private GameStateResponseCache cache;
+    private GameStateProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        views = new InMemoryViews();
+        cache = new GameStateResponseCache(new SimpleMeterRegistry(), 1 << 20);
+        projector = new GameStateProjector(views, objectMapper, cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void project_shouldStoreServedJsonAtGameEventSequence() throws Exception {
+        // given
+        GameSession game = GameSession.create(UUID.randomUUID(), "Player", true, Difficulty.EASY);
+        game.recordEventSequence(2);
+        GameStateResponse response = dtoMapper.toGameStateResponse(game);
+
+        // when
+        projector.project(game, response);
+
+        // then
+        GameStateViewRepository.StateView view = views.findView(game.getGameId()).orElseThrow();
+        assertThat(view.eventSequence()).isEqualTo(2L);
+        assertThat(view.stateJson()).isEqualTo(objectMapper.writeValueAsBytes(response));
+        assertThat(objectMapper.readValue(view.stateJson(), GameStateResponse.class)).isEqualTo(response);
+        assertThat(cache.get(game.getGameId())).hasValue(view.stateJson());
+    }
+
+    @Test
+    void project_inTransaction_shouldDropCachedStateUntilCommit() {
+        // given
+        GameSession game = GameSession.create(UUID.randomUUID(), "Player", true, Difficulty.EASY);
+        cache.put(game.getGameId(), 1, new byte[]{1});
+        game.recordEventSequence(2);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        projector.project(game, dtoMapper.toGameStateResponse(game));
+
+        // then
+        assertThat(cache.get(game.getGameId())).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get(game.getGameId())).hasValue(views.findView(game.getGameId()).orElseThrow().stateJson());
+    }
+
+    private static class InMemoryViews implements GameStateViewRepository {
+
+        private final Map<UUID, StateView> views = new HashMap<>();
+
+        @Override
+        public void save(UUID gameId, long eventSequence, byte[] stateJson) {
+            views.put(gameId, new StateView(eventSequence, stateJson));
+        }
+
+        @Override
+        public Optional<StateView> findView(UUID gameId) {
+            return Optional.ofNullable(views.get(gameId));
+        }
+    }
+}
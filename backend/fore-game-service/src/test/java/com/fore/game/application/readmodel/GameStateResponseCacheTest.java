@@ -0,0 +1,94 @@
+package com.fore.game.application.readmodel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GameStateResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GameStateResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GameStateResponseCache(meterRegistry, 100);
+    }
+
+    @Test
+    void put_olderVersion_shouldKeepNewerState() {
+        // given
+        UUID gameId = UUID.randomUUID();
+        cache.put(gameId, 5, bytes(10, 5));
+
+        // when
+        cache.put(gameId, 4, bytes(10, 4));
+
+        // then
+        assertThat(cache.get(gameId)).hasValue(bytes(10, 5));
+        cache.put(gameId, 6, bytes(20, 6));
+        assertThat(cache.get(gameId)).hasValue(bytes(20, 6));
+        assertThat(cache.bytes()).isEqualTo(20);
+    }
+
+    @Test
+    void put_overBudget_shouldEvictLeastRecentlyUsed() {
+        // given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        cache.put(first, 1, bytes(40, 1));
+        cache.put(second, 1, bytes(40, 2));
+        cache.get(first);
+
+        // when
+        cache.put(third, 1, bytes(40, 3));
+
+        // then
+        assertThat(cache.get(second)).isEmpty();
+        assertThat(cache.get(first)).isPresent();
+        assertThat(cache.get(third)).isPresent();
+        assertThat(cache.bytes()).isEqualTo(80);
+    }
+
+    @Test
+    void put_stateLargerThanBudget_shouldNotBeCached() {
+        UUID gameId = UUID.randomUUID();
+
+        cache.put(gameId, 1, bytes(101, 1));
+
+        assertThat(cache.get(gameId)).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldCountHitsAndMisses() {
+        // given
+        UUID gameId = UUID.randomUUID();
+        cache.get(gameId);
+        cache.put(gameId, 1, bytes(1, 1));
+
+        // when
+        cache.get(gameId);
+        cache.get(gameId);
+        cache.evict(gameId);
+        cache.get(gameId);
+
+        // then
+        assertThat(meterRegistry.get("fore.game.state.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("fore.game.state.cache.requests").tag("result", "miss").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("fore.game.state.cache.bytes").gauge().value()).isZero();
+    }
+
+    private static byte[] bytes(int length, int fill) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) fill);
+        return bytes;
+    }
+}
@@ -0,0 +1,159 @@
+package com.fore.game.application.readmodel;
+
+import com.fore.game.api.websocket.GameEventPublisher;
+import com.fore.game.api.websocket.dto.LobbyUpdateMessage;
+import com.fore.game.api.websocket.dto.LobbyUpdateMessage.LobbyUpdateType;
+import com.fore.game.application.dto.AvailableGamesResponse.GameSummary;
+import com.fore.game.application.dto.GameStateDtoMapper;
+import com.fore.game.application.dto.PageCursor;
+import com.fore.game.application.dto.PlayerGamesResponse.PlayerGameSummary;
+import com.fore.game.application.ports.outbound.GameSummaryRepository;
+import com.fore.game.application.ports.outbound.GameSummaryRepository.WaitingGamesQuery;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.enums.Difficulty;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.SimpleMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LobbyIndexTest {
+
+    private static final Instant T0 = Instant.parse("2026-05-01T10:00:00Z");
+
+    private InMemorySummaries summaries;
+    private List<Message<?>> sent;
+    private LobbyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        summaries = new InMemorySummaries();
+        sent = new ArrayList<>();
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+        template.setMessageConverter(new SimpleMessageConverter());
+        index = new LobbyIndex(summaries, new GameStateDtoMapper(), new GameEventPublisher(template),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void afterSingletonsInstantiated_shouldLoadEveryWaitingGameAndPageNewestFirst() {
+        // given
+        for (int i = 0; i < 1200; i++) {
+            summaries.games.add(summary(T0.plusSeconds(i), i % 3 == 0));
+        }
+
+        // when
+        index.afterSingletonsInstantiated();
+
+        // then
+        assertThat(index.size()).isEqualTo(1200);
+        List<GameSummary> firstPage = index.findWaitingGames(new WaitingGamesQuery(null, null, null, 2));
+        assertThat(firstPage).extracting(GameSummary::getCreatedAt)
+                .containsExactly(T0.plusSeconds(1199), T0.plusSeconds(1198));
+
+        GameSummary last = firstPage.get(1);
+        List<GameSummary> npcPage = index.findWaitingGames(new WaitingGamesQuery(
+                true, T0.plusSeconds(1190), new PageCursor(last.getCreatedAt(), last.getGameId()), 10));
+        assertThat(npcPage).extracting(GameSummary::getCreatedAt)
+                .containsExactly(T0.plusSeconds(1197), T0.plusSeconds(1194), T0.plusSeconds(1191));
+    }
+
+    @Test
+    void gameOpenedThenClosed_shouldIndexAndPublishBothDeltas() {
+        // given
+        GameSession game = GameSession.create(UUID.randomUUID(), "Host", false, null);
+
+        // when
+        index.gameOpened(game);
+        int sizeWhileOpen = index.size();
+        index.gameClosed(game.getGameId());
+
+        // then
+        assertThat(sizeWhileOpen).isEqualTo(1);
+        assertThat(index.size()).isZero();
+        assertThat(sent).extracting(message -> ((LobbyUpdateMessage) message.getPayload()).getUpdateType())
+                .containsExactly(LobbyUpdateType.GAME_ADDED, LobbyUpdateType.GAME_REMOVED);
+        LobbyUpdateMessage added = (LobbyUpdateMessage) sent.get(0).getPayload();
+        assertThat(added.getGame().getCreatorName()).isEqualTo("Host");
+        assertThat(sent.get(0).getHeaders().get("simpDestination")).isEqualTo("/topic/lobby");
+    }
+
+    @Test
+    void gameOpened_npcGame_shouldNotBeIndexed() {
+        index.gameOpened(GameSession.create(UUID.randomUUID(), "Host", true, Difficulty.EASY));
+
+        assertThat(index.size()).isZero();
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    void gameClosed_committedBeforeOpening_shouldKeepGameOutOfIndex() {
+        // given
+        GameSession game = GameSession.create(UUID.randomUUID(), "Host", false, null);
+        TransactionSynchronizationManager.initSynchronization();
+        index.gameOpened(game);
+        TransactionSynchronization opening = TransactionSynchronizationManager.getSynchronizations().get(0);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        index.gameClosed(game.getGameId());
+        TransactionSynchronization closing = TransactionSynchronizationManager.getSynchronizations().get(0);
+
+        // when
+        closing.afterCommit();
+        opening.afterCommit();
+
+        // then
+        assertThat(index.size()).isZero();
+        assertThat(sent).isEmpty();
+    }
+
+    private static GameSummary summary(Instant createdAt, boolean vsNpc) {
+        return GameSummary.builder()
+                .gameId(UUID.randomUUID())
+                .status("WAITING")
+                .creatorName("Player")
+                .playerCount(1)
+                .maxPlayers(2)
+                .vsNpc(vsNpc)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static class InMemorySummaries implements GameSummaryRepository {
+
+        private final List<GameSummary> games = new ArrayList<>();
+
+        @Override
+        public List<GameSummary> findWaitingGames(WaitingGamesQuery query) {
+            return games.stream()
+                    .sorted(Comparator.comparing(GameSummary::getCreatedAt).reversed())
+                    .filter(game -> query.after() == null || game.getCreatedAt().isBefore(query.after().createdAt()))
+                    .limit(query.limit())
+                    .toList();
+        }
+
+        @Override
+        public List<PlayerGameSummary> findPlayerGames(PlayerGamesQuery query) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
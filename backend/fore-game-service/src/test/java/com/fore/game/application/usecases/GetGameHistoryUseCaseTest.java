@@ -0,0 +1,215 @@
+package com.fore.game.application.usecases;
+
+import com.fore.game.application.dto.GameStateDtoMapper;
+import com.fore.game.application.dto.GameStateResponse;
+import com.fore.game.application.ports.outbound.GameEventRepository;
+import com.fore.game.domain.events.GameEvent;
+import com.fore.game.domain.events.LoggedEvent;
+import com.fore.game.domain.exceptions.InvalidActionException;
+import com.fore.game.domain.model.CompactGameState;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.SeededDiceSource;
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.game.domain.model.enums.GameStatus;
+import com.fore.game.domain.model.enums.TurnPhase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GetGameHistoryUseCaseTest {
+
+    private static final long SEED = 21L;
+    private static final UUID PLAYER_ID = UUID.randomUUID();
+
+    private InMemoryEventLog eventLog;
+    private GetGameHistoryUseCase useCase;
+    private GameSession live;
+
+    @BeforeEach
+    void setUp() {
+        eventLog = new InMemoryEventLog();
+        useCase = new GetGameHistoryUseCase(new ReplayGameUseCase(eventLog), new GameStateDtoMapper(), 8);
+
+        live = GameSession.create(PLAYER_ID, "Player", true, Difficulty.HARD, SeededDiceSource.withSeed(SEED));
+        eventLog.append(live.drainEvents());
+        eventLog.checkpoint(live);
+        play(40);
+        eventLog.checkpoint(live);
+        play(40);
+    }
+
+    @Test
+    void getStateAt_shouldReplayFromNearestCheckpointAndStopAfterTheCommand() {
+        // given
+        long midCheckpoint = eventLog.checkpoints.lastKey();
+        long target = midCheckpoint + 3;
+
+        // when
+        GameStateResponse state = useCase.getStateAt(live.getGameId(), target);
+
+        // then
+        assertThat(eventLog.lastCheckpointUsed).isEqualTo(midCheckpoint);
+        assertThat(state.getEventSequence()).isGreaterThanOrEqualTo(target);
+        assertThat(eventLog.eventsRead).isEqualTo(state.getEventSequence() - midCheckpoint);
+        assertThat(eventLog.streamsClosed).isEqualTo(1);
+    }
+
+    @Test
+    void getStateAt_sameSequenceTwice_shouldServeSecondFromCache() {
+        // given
+        long target = eventLog.checkpoints.lastKey() - 5;
+        GameStateResponse first = useCase.getStateAt(live.getGameId(), target);
+
+        // when
+        GameStateResponse second = useCase.getStateAt(live.getGameId(), target);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(eventLog.rebuilds).isEqualTo(1);
+    }
+
+    @Test
+    void getStateAt_pastEndOfLog_shouldReturnLatestWithoutCaching() {
+        // given
+        long end = eventLog.lastSequence();
+
+        // when
+        GameStateResponse state = useCase.getStateAt(live.getGameId(), end + 100);
+        useCase.getStateAt(live.getGameId(), end + 100);
+
+        // then
+        assertThat(state.getEventSequence()).isEqualTo(end);
+        assertThat(state.getTurnNumber()).isEqualTo(live.getTurnNumber());
+        assertThat(state.getPlayers().get(0).getPosition()).isEqualTo(live.getPlayer(PLAYER_ID).getPosition());
+        assertThat(eventLog.rebuilds).isEqualTo(2);
+    }
+
+    @Test
+    void getStateAt_afterGapInLog_shouldStopAtTheLoggedSequence() {
+        // given: sequence numbers left unused by an append that rolled back
+        eventLog.skip(10);
+        long firstAfterGap = eventLog.lastSequence() + 1;
+        play(1);
+        long commandEnd = eventLog.lastSequence();
+        UUID currentPlayer = live.getCurrentPlayerId();
+        String turnPhase = live.getTurnPhase().name();
+        int turnNumber = live.getTurnNumber();
+        play(10);
+
+        // when
+        GameStateResponse state = useCase.getStateAt(live.getGameId(), firstAfterGap);
+
+        // then
+        assertThat(state.getEventSequence()).isEqualTo(commandEnd);
+        assertThat(state.getCurrentPlayerId()).isEqualTo(currentPlayer);
+        assertThat(state.getTurnPhase()).isEqualTo(turnPhase);
+        assertThat(state.getTurnNumber()).isEqualTo(turnNumber);
+    }
+
+    @Test
+    void getStateAt_belowFirstSequence_shouldThrow() {
+        assertThatThrownBy(() -> useCase.getStateAt(live.getGameId(), 0))
+                .isInstanceOf(InvalidActionException.class);
+    }
+
+    // ==================== Helpers ====================
+
+    private void play(int commands) {
+        for (int i = 0; i < commands && live.getStatus() == GameStatus.IN_PROGRESS; i++) {
+            UUID current = live.getCurrentPlayerId();
+            if (live.getTurnPhase() == TurnPhase.ROLL) {
+                live.rollDice(current);
+            } else {
+                live.endTurn(current);
+            }
+            eventLog.append(live.drainEvents());
+        }
+    }
+
+    private static class InMemoryEventLog implements GameEventRepository {
+
+        private final List<LoggedEvent> events = new ArrayList<>();
+        private final TreeMap<Long, Supplier<GameSession>> checkpoints = new TreeMap<>();
+        private long lastCheckpointUsed;
+        private int rebuilds;
+        private int eventsRead;
+        private int streamsClosed;
+        private long nextSequence = 1;
+
+        void append(List<GameEvent> batch) {
+            batch.forEach(event -> events.add(new LoggedEvent(nextSequence++, event)));
+        }
+
+        void skip(long sequences) {
+            nextSequence += sequences;
+        }
+
+        long lastSequence() {
+            return nextSequence - 1;
+        }
+
+        void checkpoint(GameSession game) {
+            long sequence = lastSequence();
+            long rolls = ((SeededDiceSource) game.getDiceSource()).getRollCount();
+            CompactGameState state = CompactGameState.from(game, SeededDiceSource.withSeed(SEED));
+            checkpoints.put(sequence, () -> {
+                GameSession copy = CompactGameState.from(state.toGameSession(), SeededDiceSource.restore(SEED, rolls))
+                        .toGameSession();
+                copy.recordEventSequence(sequence);
+                return copy;
+            });
+        }
+
+        @Override
+        public void appendEvents(GameSession game, List<GameEvent> events) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<GameEvent> findByGameId(UUID gameId) {
+            return findByGameIdAfterSequence(gameId, 0);
+        }
+
+        @Override
+        public List<GameEvent> findByGameIdAfterSequence(UUID gameId, long afterSequenceNum) {
+            return events.stream()
+                    .filter(logged -> logged.sequenceNum() > afterSequenceNum)
+                    .map(LoggedEvent::event)
+                    .toList();
+        }
+
+        @Override
+        public Stream<LoggedEvent> streamByGameIdAfterSequence(UUID gameId, long afterSequenceNum) {
+            return events.stream()
+                    .filter(logged -> logged.sequenceNum() > afterSequenceNum)
+                    .peek(logged -> eventsRead++)
+                    .onClose(() -> streamsClosed++);
+        }
+
+        @Override
+        public Optional<GameSession> findCheckpoint(UUID gameId, long atOrBeforeSequence) {
+            rebuilds++;
+            Map.Entry<Long, Supplier<GameSession>> checkpoint = checkpoints.floorEntry(atOrBeforeSequence);
+            if (checkpoint == null) {
+                checkpoint = checkpoints.firstEntry();
+            }
+            lastCheckpointUsed = checkpoint.getKey();
+            return Optional.of(checkpoint.getValue().get());
+        }
+
+        @Override
+        public long getNextSequenceNumber(UUID gameId) {
+            return nextSequence;
+        }
+    }
+}
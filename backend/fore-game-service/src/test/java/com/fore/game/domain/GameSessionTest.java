@@ -1,11 +1,18 @@
 package com.fore.game.domain;
 
+import com.fore.game.domain.events.GameCreatedEvent;
+import com.fore.game.domain.events.GameEvent;
 import com.fore.game.domain.model.*;
 import com.fore.game.domain.model.enums.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -148,6 +155,29 @@ class GameSessionTest {
 
             assertThat(game.drainEvents()).isNotEmpty();
         }
+
+        @Test
+        void rollDice_withScriptedDice_shouldUseScriptedRoll() {
+            GameSession scripted = GameSession.create(PLAYER_1_ID, PLAYER_1_NAME, true, Difficulty.MEDIUM,
+                    ScriptedDiceSource.of(DiceRoll.of(2, 3)));
+
+            DiceRoll roll = scripted.rollDice(PLAYER_1_ID);
+
+            assertThat(roll).isEqualTo(DiceRoll.of(2, 3));
+            assertThat(scripted.getPlayer(PLAYER_1_ID).getPosition()).isEqualTo(5);
+        }
+
+        @Test
+        void rollDice_withSameSeed_shouldReproduceRolls() {
+            GameSession first = GameSession.create(PLAYER_1_ID, PLAYER_1_NAME, true, Difficulty.MEDIUM,
+                    SeededDiceSource.withSeed(42L));
+            GameSession second = GameSession.create(PLAYER_1_ID, PLAYER_1_NAME, true, Difficulty.MEDIUM,
+                    SeededDiceSource.withSeed(42L));
+
+            assertThat(first.rollDice(PLAYER_1_ID)).isEqualTo(second.rollDice(PLAYER_1_ID));
+            assertThat(first.getPlayer(PLAYER_1_ID).getPosition())
+                    .isEqualTo(second.getPlayer(PLAYER_1_ID).getPosition());
+        }
     }
 
     @Nested
@@ -300,4 +330,147 @@ class GameSessionTest {
                     .isEqualTo(CourseGroup.LINKS_NINE);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class CommandPath {
+
+        private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T12:00:00Z"), ZoneOffset.UTC);
+
+        @Test
+        void commands_shouldStampEventsWithInjectedClock() {
+            GameSession game = GameSession.create(PLAYER_1_ID, PLAYER_1_NAME, true, Difficulty.MEDIUM,
+                    ScriptedDiceSource.of(DiceRoll.of(1, 2)));
+            game.drainEvents();
+            game.useClock(clock);
+
+            game.rollDice(PLAYER_1_ID);
+            game.endTurn(PLAYER_1_ID);
+
+            assertThat(game.drainEvents())
+                    .isNotEmpty()
+                    .allSatisfy(event -> assertThat(event.getOccurredAt()).isEqualTo(clock.instant()));
+            assertThat(game.getUpdatedAt()).isEqualTo(clock.instant());
+            assertThat(game.getLastActivityAt()).isEqualTo(clock.instant());
+        }
+
+        @Test
+        void drainEvents_shouldHandOverOnlyNewEvents() {
+            GameSession game = GameSession.create(PLAYER_1_ID, PLAYER_1_NAME, true, Difficulty.MEDIUM,
+                    ScriptedDiceSource.of(DiceRoll.of(1, 2)));
+
+            List<GameEvent> first = List.copyOf(game.drainEvents());
+            game.rollDice(PLAYER_1_ID);
+            List<GameEvent> second = game.drainEvents();
+
+            assertThat(first).anyMatch(GameCreatedEvent.class::isInstance);
+            assertThat(second).isNotEmpty().noneMatch(GameCreatedEvent.class::isInstance);
+            assertThat(game.drainEvents()).isEmpty();
+        }
+
+        @Test
+        void recordingDisabled_shouldNotQueueEvents() {
+            GameSession game = GameSession.create(PLAYER_1_ID, PLAYER_1_NAME, true, Difficulty.MEDIUM,
+                    ScriptedDiceSource.of(DiceRoll.of(1, 2)));
+            game.drainEvents();
+            game.setRecordingEvents(false);
+
+            game.rollDice(PLAYER_1_ID);
+            game.endTurn(PLAYER_1_ID);
+
+            assertThat(game.drainEvents()).isEmpty();
+            assertThat(game.getTurnNumber()).isEqualTo(2);
+        }
+
+        @Test
+        void turnCycle_shouldStayWithinAllocationBudget() {
+            // given
+            GameSession warmUp = newSilentGame(3L);
+            playTurns(warmUp, 2_000);
+            GameSession game = newSilentGame(7L);
+
+            com.sun.management.ThreadMXBean threads =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().threadId();
+
+            // when
+            long before = threads.getThreadAllocatedBytes(threadId);
+            int turns = playTurns(game, 2_000);
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+            // then
+            assertThat(turns).isGreaterThan(100);
+            assertThat(allocated / turns).isLessThan(64);
+        }
+
+        private GameSession newSilentGame(long seed) {
+            GameSession game = GameSession.create(PLAYER_1_ID, PLAYER_1_NAME, true, Difficulty.MEDIUM,
+                    SeededDiceSource.withSeed(seed));
+            game.drainEvents();
+            game.setRecordingEvents(false);
+            game.useClock(clock);
+            return game;
+        }
+
+        /**
+         * Roll, buy whatever is affordable and end the turn, until the game ends or the turn limit is hit.
+         */
+        private int playTurns(GameSession game, int maxTurns) {
+            while (game.getStatus() == GameStatus.IN_PROGRESS && game.getTurnNumber() <= maxTurns) {
+                UUID playerId = game.getCurrentPlayerId();
+                if (game.getTurnPhase() == TurnPhase.ROLL) {
+                    game.rollDice(playerId);
+                    continue;
+                }
+                PlayerState player = game.getPlayer(playerId);
+                Tile tile = game.getBoard().getTileAt(player.getPosition());
+                if (tile.isProperty()) {
+                    Property property = tile.requireProperty();
+                    if (!property.isOwned() && player.canAfford(property.getPurchasePrice())) {
+                        game.purchaseProperty(playerId, property.getPropertyId());
+                    }
+                }
+                game.endTurn(playerId);
+            }
+            return game.getTurnNumber();
+        }
+    }
+
+    @Nested
+    class ChangeTracking {
+
+        @Test
+        void clearChanges_shouldReportNothingChanged() {
+            GameSession game = GameSession.create(PLAYER_1_ID, PLAYER_1_NAME, true, Difficulty.MEDIUM);
+
+            game.clearChanges();
+
+            assertThat(game.getChangedSeats()).isZero();
+            assertThat(game.isBoardChanged()).isFalse();
+            assertThat(game.isTradeChanged()).isFalse();
+            assertThat(game.isDiceChanged()).isFalse();
+        }
+
+        @Test
+        void rollDice_shouldMarkOnlyTheMovingSeatAndDice() {
+            GameSession game = GameSession.create(PLAYER_1_ID, PLAYER_1_NAME, true, Difficulty.MEDIUM);
+            game.clearChanges();
+
+            game.rollDice(PLAYER_1_ID);
+
+            assertThat(game.getChangedSeats()).isEqualTo(1L);
+            assertThat(game.isDiceChanged()).isTrue();
+            assertThat(game.isBoardChanged()).isFalse();
+        }
+
+        @Test
+        void propertyChange_shouldMarkBoard() {
+            GameSession game = GameSession.create(PLAYER_1_ID, PLAYER_1_NAME, true, Difficulty.MEDIUM);
+            game.clearChanges();
+
+            game.getBoard().getAllProperties().get(0).purchase(PLAYER_1_ID);
+
+            assertThat(game.isBoardChanged()).isTrue();
+            assertThat(game.getChangedSeats()).isZero();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.fore.game.domain.model;
 
 import com.fore.common.types.Money;
 import com.fore.game.domain.model.enums.CourseGroup;
+import com.fore.game.domain.model.enums.ImprovementLevel;
 import com.fore.game.domain.model.enums.TileType;
 import org.junit.jupiter.api.Test;
 
@@ -239,6 +240,44 @@ class BoardTest {
         assertThat(completeGroups).containsExactly(CourseGroup.LINKS_NINE);
     }
 
+    @Test
+    void shouldTrackGroupOwnershipAfterBoardCreation() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        UUID otherPlayerId = UUID.randomUUID();
+        Board board = BoardFactory.createStandardBoard();
+        List<Property> linksNineProps = board.getPropertiesInGroup(CourseGroup.LINKS_NINE);
+
+        // when
+        linksNineProps.get(0).purchase(playerId);
+        linksNineProps.get(1).purchase(playerId);
+        linksNineProps.get(2).purchase(otherPlayerId);
+
+        // then
+        assertThat(board.countPropertiesInGroupOwnedBy(playerId, CourseGroup.LINKS_NINE)).isEqualTo(2);
+        assertThat(board.ownsCompleteGroup(playerId, CourseGroup.LINKS_NINE)).isFalse();
+
+        // when
+        linksNineProps.get(2).transferTo(playerId);
+
+        // then
+        assertThat(board.ownsCompleteGroup(playerId, CourseGroup.LINKS_NINE)).isTrue();
+        assertThat(board.countPropertiesInGroupOwnedBy(otherPlayerId, CourseGroup.LINKS_NINE)).isZero();
+        assertThat(board.getCompleteGroupsOwnedBy(playerId)).containsExactly(CourseGroup.LINKS_NINE);
+        assertThat(board.getCompleteGroupsOwnedBy(otherPlayerId)).isEmpty();
+    }
+
+    @Test
+    void shouldTreatGroupWithoutPropertiesAsComplete() {
+        // given
+        Property property = createTestPropertyInGroup("Property 1", 1, CourseGroup.LINKS_NINE);
+        Board board = new Board(createTestTilesWithProperties(property));
+
+        // when/then
+        assertThat(board.ownsCompleteGroup(UUID.randomUUID(), CourseGroup.MASTERS_NINE)).isTrue();
+        assertThat(board.ownsCompleteGroup(UUID.randomUUID(), CourseGroup.LINKS_NINE)).isFalse();
+    }
+
     @Test
     void shouldCalculateNewPosition() {
         // given
@@ -394,4 +433,54 @@ class BoardTest {
                 .improvementCost(Money.ofDollars(100))
                 .build();
     }
+
+    @Test
+    void standardTemplate_shouldBuildBoardsWithStableIds() {
+        // when
+        Board first = BoardFactory.createStandardBoard();
+        Board second = BoardFactory.template(BoardFactory.STANDARD_TEMPLATE_ID).createBoard();
+
+        // then
+        assertThat(first.getTemplateId()).isEqualTo(BoardFactory.STANDARD_TEMPLATE_ID);
+        assertThat(second.getTileAt(5).getTileId()).isEqualTo(first.getTileAt(5).getTileId());
+        assertThat(second.getPropertyAt(5).orElseThrow().getPropertyId())
+                .isEqualTo(first.getPropertyAt(5).orElseThrow().getPropertyId());
+        assertThat(second.getPropertyAt(5).orElseThrow()).isNotSameAs(first.getPropertyAt(5).orElseThrow());
+    }
+
+    @Test
+    void template_unknownId_shouldThrow() {
+        assertThatThrownBy(() -> BoardFactory.template("no-such-board"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown board template");
+    }
+
+    @Test
+    void standardTemplate_shouldShareStaticDataAcrossBoards() {
+        // when
+        Board first = BoardFactory.createStandardBoard();
+        Board second = BoardFactory.createStandardBoard();
+
+        // then
+        Property firstProperty = first.getPropertyAt(1).orElseThrow();
+        Property secondProperty = second.getPropertyAt(1).orElseThrow();
+        assertThat(secondProperty.getDefinition()).isSameAs(firstProperty.getDefinition());
+        assertThat(second.getTileAt(0)).isSameAs(first.getTileAt(0));
+        assertThat(second.getTileAt(1)).isNotSameAs(first.getTileAt(1));
+    }
+
+    @Test
+    void restoredProperty_shouldCountTowardOwnerGroups() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        Board board = BoardFactory.createStandardBoard();
+
+        // when
+        for (Property property : board.getPropertiesInGroup(CourseGroup.LINKS_NINE)) {
+            property.restore(playerId, ImprovementLevel.NONE, false);
+        }
+
+        // then
+        assertThat(board.ownsCompleteGroup(playerId, CourseGroup.LINKS_NINE)).isTrue();
+    }
 }
@@ -0,0 +1,334 @@
+package com.fore.game.domain.model;
+
+import com.fore.common.types.Money;
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.game.domain.model.enums.GameStatus;
+import com.fore.game.domain.model.enums.TurnPhase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompactGameStateTest {
+
+    private static final UUID PLAYER_ID = UUID.randomUUID();
+    private static final int MAX_STEPS = 5_000;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 2L, 3L, 42L, 1234L, 98765L})
+    void randomPlay_shouldMatchGameSessionStepByStep(long seed) {
+        // given
+        GameSession session = GameSession.create(PLAYER_ID, "Player", true, Difficulty.HARD,
+                SeededDiceSource.withSeed(seed));
+        CompactGameState compact = CompactGameState.from(session, SeededDiceSource.withSeed(seed));
+        SplittableRandom choices = new SplittableRandom(seed);
+
+        // when / then
+        for (int step = 0; step < MAX_STEPS && session.getStatus() == GameStatus.IN_PROGRESS; step++) {
+            int actor = compact.getTurnPhase() == TurnPhase.TRADE
+                    ? compact.getTradeReceivingSeat()
+                    : compact.getCurrentSeat();
+            int choice = choices.nextInt(100);
+            long salt = seed + step;
+
+            String sessionError = capture(() -> applyToSession(session, compact, actor, choice, salt));
+            String compactError = capture(() -> applyToCompact(compact, actor, choice, salt));
+
+            assertThat(compactError).as("error at step %d", step).isEqualTo(sessionError);
+            assertSameState(session, compact);
+        }
+    }
+
+    @Test
+    void toGameSession_shouldRoundTripState() {
+        // given
+        GameSession session = GameSession.create(PLAYER_ID, "Player", true, Difficulty.EASY,
+                SeededDiceSource.withSeed(5L));
+        Board board = session.getBoard();
+        UUID npcId = session.getOpponent(PLAYER_ID).getPlayerId();
+        Property owned = board.getPropertyAt(1).orElseThrow();
+        Property improved = board.getPropertyAt(2).orElseThrow();
+        Property mortgaged = board.getPropertyAt(13).orElseThrow();
+        owned.purchase(PLAYER_ID);
+        improved.purchase(PLAYER_ID);
+        improved.improve();
+        mortgaged.purchase(npcId);
+        mortgaged.mortgage();
+        session.getPlayer(PLAYER_ID).moveTo(7);
+        session.getPlayer(npcId).enterSandTrap();
+        session.rollDice(PLAYER_ID);
+
+        // when
+        GameSession restored = CompactGameState.from(session).toGameSession();
+
+        // then
+        assertThat(restored.getGameId()).isEqualTo(session.getGameId());
+        assertThat(restored.getPlayers().keySet()).containsExactlyElementsOf(session.getPlayers().keySet());
+        assertThat(restored.getTurnPhase()).isEqualTo(session.getTurnPhase());
+        assertThat(restored.getDiceSource()).isSameAs(session.getDiceSource());
+        assertThat(restored.getBoard().getProperty(improved.getPropertyId()).getImprovementLevel())
+                .isEqualTo(improved.getImprovementLevel());
+        assertThat(restored.getBoard().getProperty(mortgaged.getPropertyId()).isMortgaged()).isTrue();
+        assertThat(restored.getPlayer(PLAYER_ID).getOwnedPropertyIds())
+                .containsExactlyInAnyOrder(owned.getPropertyId(), improved.getPropertyId());
+        assertThat(restored.getPlayer(npcId).getTurnsInSandTrap()).isEqualTo(3);
+        assertSameState(restored, CompactGameState.from(session));
+    }
+
+    @Test
+    void toGameSession_shouldRestorePendingTrade() {
+        // given
+        GameSession session = GameSession.create(PLAYER_ID, "Player", true, Difficulty.EASY,
+                ScriptedDiceSource.of(DiceRoll.of(1, 2)));
+        UUID npcId = session.getOpponent(PLAYER_ID).getPlayerId();
+        Property offered = session.getBoard().getPropertyAt(3).orElseThrow();
+        session.rollDice(PLAYER_ID);
+        session.purchaseProperty(PLAYER_ID, offered.getPropertyId());
+        session.proposeTrade(PLAYER_ID, TradeOffer.builder()
+                .offerId(UUID.randomUUID())
+                .offeringPlayerId(PLAYER_ID)
+                .receivingPlayerId(npcId)
+                .offeredPropertyIds(Set.of(offered.getPropertyId()))
+                .offeredCurrency(Money.zero())
+                .requestedPropertyIds(Set.of())
+                .requestedCurrency(Money.ofDollars(100))
+                .status(TradeOffer.TradeStatus.PENDING)
+                .build());
+
+        // when
+        CompactGameState compact = CompactGameState.from(session);
+        GameSession restored = compact.toGameSession();
+
+        // then
+        assertThat(compact.isTradePending()).isTrue();
+        assertThat(compact.getTradeReceivingSeat()).isEqualTo(1);
+        TradeOffer trade = restored.getPendingTrade();
+        assertThat(trade.getOfferId()).isEqualTo(session.getPendingTrade().getOfferId());
+        assertThat(trade.getOfferedPropertyIds()).containsExactly(offered.getPropertyId());
+        assertThat(trade.getRequestedCurrency()).isEqualTo(Money.ofDollars(100));
+        assertThat(restored.getTurnPhase()).isEqualTo(TurnPhase.TRADE);
+    }
+
+    @Test
+    void copy_shouldBeIndependent() {
+        // given
+        GameSession session = GameSession.create(PLAYER_ID, "Player", true, Difficulty.EASY,
+                ScriptedDiceSource.of(DiceRoll.of(1, 2)));
+        CompactGameState original = CompactGameState.from(session);
+
+        // when
+        CompactGameState branch = original.copy();
+        branch.rollDice(0);
+        branch.purchaseProperty(0, 3);
+
+        // then
+        assertThat(branch.getOwner(3)).isZero();
+        assertThat(original.getOwner(3)).isEqualTo(CompactGameState.NO_OWNER);
+        assertThat(original.getPosition(0)).isZero();
+        assertThat(original.getCash(0)).isEqualTo(GameConstants.STARTING_CURRENCY.toCents());
+    }
+
+    @Test
+    void purchaseProperty_onNonPropertyTile_shouldThrow() {
+        GameSession session = GameSession.create(PLAYER_ID, "Player", true, Difficulty.EASY,
+                ScriptedDiceSource.of(DiceRoll.of(1, 3)));
+        CompactGameState compact = CompactGameState.from(session);
+        compact.rollDice(0);
+
+        assertThatThrownBy(() -> compact.purchaseProperty(0, 4))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No property at tile");
+    }
+
+    @Test
+    void rules_shouldNotAllocate() {
+        // given
+        GameSession session = GameSession.create(PLAYER_ID, "Player", true, Difficulty.HARD,
+                SeededDiceSource.withSeed(11L));
+        CompactGameState template = CompactGameState.from(session, SeededDiceSource.withSeed(11L));
+        CompactGameState[] games = new CompactGameState[20];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = template.copy();
+        }
+        playGreedy(template.copy()); // warm up
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        // when
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long steps = 0;
+        for (CompactGameState game : games) {
+            steps += playGreedy(game);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // then
+        assertThat(steps).isGreaterThan(10_000);
+        assertThat(allocated).isLessThan(64 * 1024);
+    }
+
+    // ==================== Helpers ====================
+
+    private static int playGreedy(CompactGameState game) {
+        int steps = 0;
+        while (game.getStatus() == GameStatus.IN_PROGRESS && steps < MAX_STEPS) {
+            int seat = game.getCurrentSeat();
+            int tile = game.getPosition(seat);
+            if (game.getTurnPhase() == TurnPhase.ROLL) {
+                game.rollDice(seat);
+            } else if (game.isProperty(tile)
+                    && game.getOwner(tile) == CompactGameState.NO_OWNER
+                    && game.getCash(seat) >= game.getPurchaseCents(tile)) {
+                game.purchaseProperty(seat, tile);
+            } else {
+                game.endTurn(seat);
+            }
+            steps++;
+        }
+        return steps;
+    }
+
+    private static void applyToSession(GameSession session, CompactGameState compact, int actor, int choice, long salt) {
+        UUID actorId = compact.getPlayerId(actor);
+        switch (session.getTurnPhase()) {
+            case ROLL -> session.rollDice(actorId);
+            case TRADE -> session.respondToTrade(actorId, choice < 50);
+            default -> {
+                if (choice < 40) {
+                    Property property = session.getBoard().getPropertyAt(compact.getPosition(actor)).orElse(null);
+                    session.purchaseProperty(actorId, property != null ? property.getPropertyId() : UUID.randomUUID());
+                } else if (choice < 60) {
+                    int tile = improvementTarget(compact, actor, salt);
+                    session.improveProperty(actorId, session.getBoard().getPropertyAt(tile).orElseThrow().getPropertyId());
+                } else if (choice < 70) {
+                    int other = 1 - actor;
+                    session.proposeTrade(actorId, TradeOffer.builder()
+                            .offerId(UUID.randomUUID())
+                            .offeringPlayerId(actorId)
+                            .receivingPlayerId(compact.getPlayerId(other))
+                            .offeredPropertyIds(propertyIds(session, tradeMask(compact, actor, salt)))
+                            .offeredCurrency(Money.ofCents(tradeCents(compact, actor, salt)))
+                            .requestedPropertyIds(propertyIds(session, tradeMask(compact, other, salt + 1)))
+                            .requestedCurrency(Money.ofCents(tradeCents(compact, other, salt + 1)))
+                            .status(TradeOffer.TradeStatus.PENDING)
+                            .build());
+                } else {
+                    session.endTurn(actorId);
+                }
+            }
+        }
+    }
+
+    private static void applyToCompact(CompactGameState compact, int actor, int choice, long salt) {
+        switch (compact.getTurnPhase()) {
+            case ROLL -> compact.rollDice(actor);
+            case TRADE -> compact.respondToTrade(actor, choice < 50);
+            default -> {
+                if (choice < 40) {
+                    int tile = compact.getPosition(actor);
+                    if (!compact.isProperty(tile)) {
+                        // GameSession looks up an unknown id; mirror its outcome
+                        throw new IllegalArgumentException("Property not found");
+                    }
+                    compact.purchaseProperty(actor, tile);
+                } else if (choice < 60) {
+                    compact.improveProperty(actor, improvementTarget(compact, actor, salt));
+                } else if (choice < 70) {
+                    int other = 1 - actor;
+                    compact.proposeTrade(actor, other,
+                            tradeMask(compact, actor, salt), tradeCents(compact, actor, salt),
+                            tradeMask(compact, other, salt + 1), tradeCents(compact, other, salt + 1));
+                } else {
+                    compact.endTurn(actor);
+                }
+            }
+        }
+    }
+
+    // Both sides must pick the same targets, so choices are derived from the compact state before it changes
+    private static int improvementTarget(CompactGameState compact, int seat, long salt) {
+        int owned = 0;
+        for (int tile = 0; tile < compact.getTileCount(); tile++) {
+            if (compact.getOwner(tile) == seat) {
+                owned++;
+            }
+        }
+        int pick = owned == 0 ? 0 : (int) Math.floorMod(salt, owned);
+        for (int tile = 0; tile < compact.getTileCount(); tile++) {
+            if (compact.getOwner(tile) == seat && pick-- == 0) {
+                return tile;
+            }
+        }
+        return 1;
+    }
+
+    private static long tradeMask(CompactGameState compact, int seat, long salt) {
+        SplittableRandom random = new SplittableRandom(salt);
+        long mask = 0;
+        for (int tile = 0; tile < compact.getTileCount(); tile++) {
+            if (compact.getOwner(tile) == seat && random.nextInt(3) == 0) {
+                mask |= 1L << tile;
+            }
+        }
+        return mask;
+    }
+
+    private static long tradeCents(CompactGameState compact, int seat, long salt) {
+        long cash = Math.max(0, compact.getCash(seat));
+        return cash == 0 ? 0 : new SplittableRandom(salt).nextLong(cash / 2 + 1);
+    }
+
+    private static Set<UUID> propertyIds(GameSession session, long mask) {
+        Set<UUID> ids = new HashSet<>();
+        for (int tile = 0; tile < Board.TOTAL_TILES; tile++) {
+            if ((mask & (1L << tile)) != 0) {
+                ids.add(session.getBoard().getPropertyAt(tile).orElseThrow().getPropertyId());
+            }
+        }
+        return ids;
+    }
+
+    private static String capture(Runnable action) {
+        try {
+            action.run();
+            return null;
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            // Unknown-property messages embed the looked-up id, so compare only their prefix
+            String message = e.getMessage().startsWith("Property not found") ? "Property not found" : e.getMessage();
+            return e.getClass().getSimpleName() + ": " + message;
+        }
+    }
+
+    private static void assertSameState(GameSession session, CompactGameState compact) {
+        CompactGameState expected = CompactGameState.from(session);
+
+        assertThat(compact.getStatus()).isEqualTo(expected.getStatus());
+        assertThat(compact.getCurrentSeat()).isEqualTo(expected.getCurrentSeat());
+        assertThat(compact.getTurnPhase()).isEqualTo(expected.getTurnPhase());
+        assertThat(compact.getTurnNumber()).isEqualTo(expected.getTurnNumber());
+        assertThat(compact.getWinnerSeat()).isEqualTo(expected.getWinnerSeat());
+        assertThat(compact.isTradePending()).isEqualTo(expected.isTradePending());
+
+        for (int seat = 0; seat < expected.getSeatCount(); seat++) {
+            assertThat(compact.getPosition(seat)).isEqualTo(expected.getPosition(seat));
+            assertThat(compact.getCash(seat)).isEqualTo(expected.getCash(seat));
+            assertThat(compact.getTurnsInSandTrap(seat)).isEqualTo(expected.getTurnsInSandTrap(seat));
+            assertThat(compact.getConsecutiveDoubles(seat)).isEqualTo(expected.getConsecutiveDoubles(seat));
+            assertThat(compact.isBankrupt(seat)).isEqualTo(expected.isBankrupt(seat));
+        }
+        for (int tile = 0; tile < expected.getTileCount(); tile++) {
+            assertThat(compact.getOwner(tile)).as("owner of tile %d", tile).isEqualTo(expected.getOwner(tile));
+            assertThat(compact.getImprovementLevel(tile)).isEqualTo(expected.getImprovementLevel(tile));
+            assertThat(compact.isMortgaged(tile)).isEqualTo(expected.isMortgaged(tile));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.fore.game.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DiceSourceTest {
+
+    @Test
+    void seeded_sameSeed_shouldProduceSameSequence() {
+        // given
+        SeededDiceSource first = SeededDiceSource.withSeed(1234L);
+        SeededDiceSource second = SeededDiceSource.withSeed(1234L);
+
+        // when / then
+        for (int i = 0; i < 100; i++) {
+            assertThat(first.roll()).isEqualTo(second.roll());
+        }
+        assertThat(first.getRollCount()).isEqualTo(100);
+    }
+
+    @Test
+    void seeded_restore_shouldContinueFromSamePosition() {
+        // given
+        SeededDiceSource original = SeededDiceSource.withSeed(99L);
+        for (int i = 0; i < 17; i++) {
+            original.roll();
+        }
+
+        // when
+        SeededDiceSource restored = SeededDiceSource.restore(99L, original.getRollCount());
+
+        // then
+        assertThat(restored.getRollCount()).isEqualTo(17);
+        for (int i = 0; i < 20; i++) {
+            assertThat(restored.roll()).isEqualTo(original.roll());
+        }
+    }
+
+    @Test
+    void seeded_forStream_shouldBeReproducibleAndIndependent() {
+        // given
+        List<DiceRoll> stream0 = draw(SeededDiceSource.forStream(5L, 0), 50);
+        List<DiceRoll> stream0Again = draw(SeededDiceSource.forStream(5L, 0), 50);
+        List<DiceRoll> stream1 = draw(SeededDiceSource.forStream(5L, 1), 50);
+
+        // then
+        assertThat(stream0).isEqualTo(stream0Again);
+        assertThat(stream0).isNotEqualTo(stream1);
+    }
+
+    @Test
+    void seeded_shouldProduceValidValues() {
+        SeededDiceSource source = SeededDiceSource.withRandomSeed();
+
+        for (int i = 0; i < 1000; i++) {
+            DiceRoll roll = source.roll();
+            assertThat(roll.getDie1()).isBetween(1, 6);
+            assertThat(roll.getDie2()).isBetween(1, 6);
+        }
+    }
+
+    @Test
+    void scripted_shouldReplayRollsInOrderThenThrow() {
+        // given
+        ScriptedDiceSource source = ScriptedDiceSource.of(DiceRoll.of(1, 2), DiceRoll.of(6, 6));
+
+        // when / then
+        assertThat(source.roll()).isEqualTo(DiceRoll.of(1, 2));
+        assertThat(source.roll()).isEqualTo(DiceRoll.of(6, 6));
+        assertThatThrownBy(source::roll)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("exhausted");
+    }
+
+    @Test
+    void scripted_pregenerate_shouldMatchSourceSequence() {
+        // given
+        ScriptedDiceSource scripted = ScriptedDiceSource.pregenerate(SeededDiceSource.withSeed(3L), 10);
+
+        // then
+        assertThat(scripted.remaining()).isEqualTo(10);
+        assertThat(draw(scripted, 10)).isEqualTo(draw(SeededDiceSource.withSeed(3L), 10));
+    }
+
+    private static List<DiceRoll> draw(DiceSource source, int count) {
+        List<DiceRoll> rolls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rolls.add(source.roll());
+        }
+        return rolls;
+    }
+}
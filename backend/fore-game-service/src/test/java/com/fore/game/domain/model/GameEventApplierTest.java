@@ -0,0 +1,206 @@
+package com.fore.game.domain.model;
+
+import com.fore.common.types.Money;
+import com.fore.game.domain.events.DiceRolledEvent;
+import com.fore.game.domain.events.GameEvent;
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.game.domain.model.enums.GameStatus;
+import com.fore.game.domain.model.enums.TurnPhase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GameEventApplierTest {
+
+    private static final UUID PLAYER_ID = UUID.randomUUID();
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 7L, 42L, 1234L})
+    void replay_fromCreation_shouldMatchLiveGame(long seed) {
+        // given
+        GameSession live = GameSession.create(PLAYER_ID, "Player", true, Difficulty.HARD,
+                SeededDiceSource.withSeed(seed));
+        long created = live.drainEvents().size();
+        GameSession checkpoint = checkpoint(live, seed, created);
+        List<GameEvent> log = play(live, new SplittableRandom(seed), 400);
+
+        // when
+        GameSession replayed = GameEventApplier.replay(checkpoint, log);
+
+        // then
+        assertSameState(replayed, live);
+        assertThat(replayed.getEventSequence()).isEqualTo(created + log.size());
+    }
+
+    @Test
+    void replay_fromMidGameCheckpoint_shouldReplayOnlyTheTail() {
+        // given
+        long seed = 99L;
+        GameSession live = GameSession.create(PLAYER_ID, "Player", true, Difficulty.HARD,
+                SeededDiceSource.withSeed(seed));
+        SplittableRandom choices = new SplittableRandom(seed);
+        long sequence = live.drainEvents().size() + play(live, choices, 60).size();
+        GameSession checkpoint = checkpoint(live, seed, sequence);
+        List<GameEvent> tail = play(live, choices, 60);
+
+        // when
+        GameSession replayed = GameEventApplier.replay(checkpoint, tail);
+
+        // then
+        assertSameState(replayed, live);
+        assertThat(replayed.getEventSequence()).isEqualTo(sequence + tail.size());
+    }
+
+    @Test
+    void replay_fromWaitingGame_shouldSeatJoinedPlayerAndStart() {
+        // given
+        UUID joinerId = UUID.randomUUID();
+        GameSession live = GameSession.create(PLAYER_ID, "Player", false, null, SeededDiceSource.withSeed(3L));
+        GameSession checkpoint = checkpoint(live, 3L, live.drainEvents().size());
+        live.joinGame(joinerId, "Joiner");
+        List<GameEvent> log = new ArrayList<>(live.drainEvents());
+        log.addAll(play(live, new SplittableRandom(3L), 20));
+
+        // when
+        GameSession replayed = GameEventApplier.replay(checkpoint, log);
+
+        // then
+        assertThat(replayed.getPlayer(joinerId).getDisplayName()).isEqualTo("Joiner");
+        assertSameState(replayed, live);
+    }
+
+    @Test
+    void apply_partWayThroughCommand_shouldNotBeAtCommandBoundary() {
+        // given
+        GameSession live = GameSession.create(PLAYER_ID, "Player", true, Difficulty.EASY,
+                SeededDiceSource.withSeed(5L));
+        long created = live.drainEvents().size();
+        GameSession checkpoint = checkpoint(live, 5L, created);
+        live.rollDice(PLAYER_ID);
+        List<GameEvent> roll = List.copyOf(live.drainEvents());
+        GameEventApplier applier = new GameEventApplier(checkpoint);
+
+        // when
+        applier.apply(roll.get(0));
+
+        // then
+        assertThat(roll).hasSizeGreaterThan(1);
+        assertThat(applier.isAtCommandBoundary()).isFalse();
+        GameSession replayed = applier.finish();
+        assertThat(replayed.getEventSequence()).isEqualTo(created + roll.size());
+        assertThat(replayed.getPlayer(PLAYER_ID).getPosition()).isEqualTo(live.getPlayer(PLAYER_ID).getPosition());
+    }
+
+    @Test
+    void replay_rollThatDiffersFromLog_shouldThrow() {
+        // given
+        GameSession live = GameSession.create(PLAYER_ID, "Player", true, Difficulty.EASY,
+                SeededDiceSource.withSeed(8L));
+        GameSession checkpoint = checkpoint(live, 8L, live.drainEvents().size());
+        DiceRoll actual = live.rollDice(PLAYER_ID);
+        List<GameEvent> log = new ArrayList<>(live.drainEvents());
+        log.set(0, DiceRolledEvent.builder()
+                .gameId(live.getGameId())
+                .playerId(PLAYER_ID)
+                .roll(DiceRoll.of(actual.getDie1() % 6 + 1, actual.getDie2()))
+                .build());
+
+        // when / then
+        assertThatThrownBy(() -> GameEventApplier.replay(checkpoint, log))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("diverges")
+                .hasMessageContaining("DICE_ROLLED");
+    }
+
+    // ==================== Helpers ====================
+
+    private static GameSession checkpoint(GameSession live, long seed, long sequence) {
+        long rolls = ((SeededDiceSource) live.getDiceSource()).getRollCount();
+        GameSession copy = CompactGameState.from(live, SeededDiceSource.restore(seed, rolls)).toGameSession();
+        copy.recordEventSequence(sequence);
+        return copy;
+    }
+
+    private static List<GameEvent> play(GameSession game, SplittableRandom choices, int commands) {
+        List<GameEvent> log = new ArrayList<>();
+        for (int i = 0; i < commands && game.getStatus() == GameStatus.IN_PROGRESS; i++) {
+            step(game, choices);
+            log.addAll(game.drainEvents());
+        }
+        return log;
+    }
+
+    private static void step(GameSession game, SplittableRandom choices) {
+        if (game.getTurnPhase() == TurnPhase.TRADE) {
+            game.respondToTrade(game.getPendingTrade().getReceivingPlayerId(), choices.nextBoolean());
+            return;
+        }
+        PlayerState player = game.getCurrentPlayer();
+        UUID playerId = player.getPlayerId();
+        if (game.getTurnPhase() == TurnPhase.ROLL) {
+            game.rollDice(playerId);
+            return;
+        }
+        Optional<Property> here = game.getBoard().getPropertyAt(player.getPosition());
+        if (here.isPresent() && !here.get().isOwned() && player.canAfford(here.get().getPurchasePrice())) {
+            game.purchaseProperty(playerId, here.get().getPropertyId());
+            return;
+        }
+        boolean tradePending = game.getPendingTrade() != null && game.getPendingTrade().isPending();
+        if (!player.getOwnedPropertyIds().isEmpty() && !tradePending && choices.nextInt(8) == 0) {
+            game.proposeTrade(playerId, TradeOffer.builder()
+                    .offerId(UUID.randomUUID())
+                    .offeringPlayerId(playerId)
+                    .receivingPlayerId(game.getOpponent(playerId).getPlayerId())
+                    .offeredPropertyIds(Set.of(player.getOwnedPropertyIds().iterator().next()))
+                    .offeredCurrency(Money.zero())
+                    .requestedPropertyIds(Set.of())
+                    .requestedCurrency(Money.zero())
+                    .status(TradeOffer.TradeStatus.PENDING)
+                    .build());
+            return;
+        }
+        game.endTurn(playerId);
+    }
+
+    private static void assertSameState(GameSession replayed, GameSession live) {
+        assertThat(replayed.getStatus()).isEqualTo(live.getStatus());
+        assertThat(replayed.getCurrentPlayerId()).isEqualTo(live.getCurrentPlayerId());
+        assertThat(replayed.getTurnPhase()).isEqualTo(live.getTurnPhase());
+        assertThat(replayed.getTurnNumber()).isEqualTo(live.getTurnNumber());
+        assertThat(replayed.getWinnerId()).isEqualTo(live.getWinnerId());
+        assertThat(replayed.getUpdatedAt()).isEqualTo(live.getUpdatedAt());
+        assertThat(((SeededDiceSource) replayed.getDiceSource()).getRollCount())
+                .isEqualTo(((SeededDiceSource) live.getDiceSource()).getRollCount());
+
+        assertThat(replayed.getPlayers().keySet()).containsExactlyElementsOf(live.getPlayers().keySet());
+        for (PlayerState expected : live.getPlayers().values()) {
+            PlayerState actual = replayed.getPlayer(expected.getPlayerId());
+            assertThat(actual.getPosition()).isEqualTo(expected.getPosition());
+            assertThat(actual.getCurrency()).isEqualTo(expected.getCurrency());
+            assertThat(actual.getOwnedPropertyIds()).isEqualTo(expected.getOwnedPropertyIds());
+            assertThat(actual.isBankrupt()).isEqualTo(expected.isBankrupt());
+            assertThat(actual.getTurnsInSandTrap()).isEqualTo(expected.getTurnsInSandTrap());
+            assertThat(actual.getConsecutiveDoubles()).isEqualTo(expected.getConsecutiveDoubles());
+        }
+        for (Property expected : live.getBoard().getAllProperties()) {
+            Property actual = replayed.getBoard().getProperty(expected.getPropertyId());
+            assertThat(actual.getOwnerId()).isEqualTo(expected.getOwnerId());
+            assertThat(actual.getImprovementLevel()).isEqualTo(expected.getImprovementLevel());
+        }
+
+        TradeOffer trade = live.getPendingTrade();
+        if (trade != null && trade.isPending()) {
+            assertThat(replayed.getPendingTrade().getOfferId()).isEqualTo(trade.getOfferId());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.fore.common.types.Money;
 import com.fore.game.domain.model.enums.Difficulty;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -331,6 +332,44 @@ class PlayerStateTest {
         assertThat(netWorth).isEqualTo(Money.ofDollars(1500));
     }
 
+    @Test
+    void shouldKeepOwnershipWhenBoundToBoardIndex() {
+        // given
+        PlayerState player = createTestPlayer();
+        Board board = BoardFactory.createStandardBoard();
+        Property first = board.getAllProperties().get(0);
+        Property second = board.getAllProperties().get(1);
+        player.addProperty(second.getPropertyId());
+        player.addProperty(first.getPropertyId());
+
+        // when
+        player.bindTo(board.getPropertyIndex());
+
+        // then
+        PropertyIndex index = board.getPropertyIndex();
+        long expectedMask = (1L << index.ordinalOf(first.getPropertyId()))
+                | (1L << index.ordinalOf(second.getPropertyId()));
+        assertThat(player.getOwnedPropertyMask()).isEqualTo(expectedMask);
+        assertThat(player.getOwnedPropertyIds())
+                .containsExactlyInAnyOrder(first.getPropertyId(), second.getPropertyId());
+        assertThat(player.ownsProperty(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    void shouldCheckOwnershipOfAllProperties() {
+        // given
+        PlayerState player = createTestPlayer();
+        UUID owned1 = UUID.randomUUID();
+        UUID owned2 = UUID.randomUUID();
+        player.addProperty(owned1);
+        player.addProperty(owned2);
+
+        // when/then
+        assertThat(player.ownsAllProperties(List.of(owned1, owned2))).isTrue();
+        assertThat(player.ownsAllProperties(List.of())).isTrue();
+        assertThat(player.ownsAllProperties(List.of(owned1, UUID.randomUUID()))).isFalse();
+    }
+
     private PlayerState createTestPlayer() {
         return PlayerState.builder()
                 .playerId(UUID.randomUUID())
@@ -0,0 +1,82 @@
+package com.fore.game.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PropertyIndexTest {
+
+    @Test
+    void shouldAssignDenseOrdinalsInInternOrder() {
+        // given
+        PropertyIndex index = new PropertyIndex();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        // when
+        int firstOrdinal = index.intern(first);
+        int secondOrdinal = index.intern(second);
+
+        // then
+        assertThat(firstOrdinal).isZero();
+        assertThat(secondOrdinal).isEqualTo(1);
+        assertThat(index.intern(first)).isZero();
+        assertThat(index.idOf(1)).isEqualTo(second);
+        assertThat(index.ordinalOf(UUID.randomUUID())).isEqualTo(PropertyIndex.UNKNOWN);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldConvertBetweenMasksAndIds() {
+        // given
+        PropertyIndex index = new PropertyIndex();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        index.intern(first);
+        index.intern(second);
+        index.intern(third);
+
+        // when
+        long mask = index.maskOf(List.of(first, third));
+
+        // then
+        assertThat(mask).isEqualTo(0b101L);
+        assertThat(index.idsOf(mask)).containsExactlyInAnyOrder(first, third);
+        assertThatThrownBy(() -> index.maskOf(List.of(UUID.randomUUID())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Property not found");
+    }
+
+    @Test
+    void shouldRejectMoreThanCapacity() {
+        // given
+        PropertyIndex index = new PropertyIndex();
+        for (int i = 0; i < PropertyIndex.CAPACITY; i++) {
+            index.intern(UUID.randomUUID());
+        }
+
+        // when/then
+        assertThatThrownBy(() -> index.intern(UUID.randomUUID()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("limited to 64");
+    }
+
+    @Test
+    void boardShouldInternItsPropertiesInTileOrder() {
+        // given
+        Board board = BoardFactory.createStandardBoard();
+
+        // when
+        PropertyIndex index = board.getPropertyIndex();
+
+        // then
+        assertThat(index.size()).isEqualTo(board.getAllProperties().size());
+        Property firstProperty = board.getPropertyAt(1).orElseThrow();
+        assertThat(index.ordinalOf(firstProperty.getPropertyId())).isZero();
+        assertThat(board.getPropertyByOrdinal(0)).isSameAs(firstProperty);
+    }
+}
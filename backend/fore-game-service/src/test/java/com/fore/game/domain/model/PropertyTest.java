@@ -25,6 +25,33 @@ class PropertyTest {
         assertThat(property.isMortgaged()).isFalse();
     }
 
+    @Test
+    void restore_shouldSetSavedStateWithoutReplay() {
+        // given
+        Property property = createTestProperty();
+        UUID playerId = UUID.randomUUID();
+
+        // when
+        property.restore(playerId, ImprovementLevel.RESORT, false);
+
+        // then
+        assertThat(property.isOwnedBy(playerId)).isTrue();
+        assertThat(property.getImprovementLevel()).isEqualTo(ImprovementLevel.RESORT);
+        assertThat(property.isMortgaged()).isFalse();
+    }
+
+    @Test
+    void restore_onPlayedProperty_shouldThrow() {
+        // given
+        Property property = createTestProperty();
+        property.purchase(UUID.randomUUID());
+
+        // when/then
+        assertThatThrownBy(() -> property.restore(UUID.randomUUID(), ImprovementLevel.NONE, false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already has state");
+    }
+
     @Test
     void shouldPurchaseProperty() {
         // given
@@ -1,11 +1,37 @@
 package com.fore.game.infrastructure.persistence;
 
+import com.fore.game.application.concurrency.GameCommandExecutor;
+import com.fore.game.application.dto.AvailableGamesResponse.GameSummary;
+import com.fore.game.application.dto.PageCursor;
+import com.fore.game.application.dto.PlayerGamesResponse.PlayerGameSummary;
+import com.fore.game.application.ports.outbound.GameSummaryRepository.PlayerGamesQuery;
+import com.fore.game.application.ports.outbound.GameSummaryRepository.WaitingGamesQuery;
+import com.fore.game.application.usecases.ReplayGameUseCase;
+import com.fore.game.domain.events.GameEvent;
+import com.fore.game.domain.exceptions.GameConcurrencyException;
+import com.fore.game.domain.model.GameEventApplier;
 import com.fore.game.domain.model.GameSession;
 import com.fore.game.domain.model.PlayerState;
 import com.fore.game.domain.model.Property;
 import com.fore.game.domain.model.enums.Difficulty;
 import com.fore.game.domain.model.enums.GameStatus;
+import com.fore.game.infrastructure.persistence.entity.GameEventEntity;
+import com.fore.game.infrastructure.persistence.mapper.BinarySnapshotCodec;
+import com.fore.game.infrastructure.persistence.mapper.GameSessionMapper;
+import com.fore.game.infrastructure.persistence.migration.V9BinaryParticipantNames;
+import com.fore.game.infrastructure.persistence.repository.JpaGameEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.migration.Context;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -14,11 +40,22 @@ import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -31,6 +68,8 @@ import static org.assertj.core.api.Assertions.*;
 })
 class GameRepositoryAdapterIntegrationTest {
 
+    private static final Pattern JSONB_SET = Pattern.compile("jsonb_set\\(");
+
     @Container
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
             .withDatabaseName("testdb")
@@ -43,11 +82,47 @@ class GameRepositoryAdapterIntegrationTest {
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                SqlRecorder.class::getName);
     }
 
     @Autowired
     private GameRepositoryAdapter gameRepository;
 
+    @Autowired
+    private GameEventRepositoryAdapter eventRepository;
+
+    @Autowired
+    private JpaGameEventRepository jpaEventRepository;
+
+    @Autowired
+    private GameStateViewRepositoryAdapter stateViewRepository;
+
+    @Autowired
+    private GameSummaryRepositoryAdapter summaryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private GameSessionMapper sessionMapper;
+
+    @Autowired
+    private BinarySnapshotCodec snapshotCodec;
+
+    @Autowired
+    private V9BinaryParticipantNames participantNamesMigration;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
     @Test
     void shouldSaveAndRetrieveGameSession() {
         // given
@@ -344,12 +419,339 @@ class GameRepositoryAdapterIntegrationTest {
         session2.get().getPlayer(playerId).moveTo(10);
 
         gameRepository.save(session1.get());
-        gameRepository.save(session2.get());
 
+        // then - the stale copy is rejected instead of overwriting
+        assertThatThrownBy(() -> gameRepository.save(session2.get()))
+                .isInstanceOf(GameConcurrencyException.class);
         Optional<GameSession> retrieved = gameRepository.findById(saved.getGameId());
-
-        // then - last write wins
         assertThat(retrieved).isPresent();
-        assertThat(retrieved.get().getPlayer(playerId).getPosition()).isEqualTo(10);
+        assertThat(retrieved.get().getPlayer(playerId).getPosition()).isEqualTo(5);
+    }
+
+    @Test
+    void save_existingGame_shouldIssueSingleStatement() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.EASY);
+        gameRepository.save(game);
+        game.rollDice(playerId);
+        Statistics statistics = statistics();
+
+        // when
+        gameRepository.save(game);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(game.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void save_afterJoin_shouldInsertOnlyTheNewParticipant() {
+        // given
+        UUID creatorId = UUID.randomUUID();
+        UUID joinerId = UUID.randomUUID();
+        GameSession game = GameSession.create(creatorId, "Creator", false, null);
+        gameRepository.save(game);
+        game.joinGame(joinerId, "Joiner");
+        Statistics statistics = statistics();
+
+        // when
+        gameRepository.save(game);
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(gameRepository.findById(game.getGameId()).orElseThrow().getPlayers())
+                .containsOnlyKeys(creatorId, joinerId);
+    }
+
+    @Test
+    void save_changedParts_shouldRoundTripPatchedSnapshot() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.EASY);
+        gameRepository.save(game);
+        Property property = game.getBoard().getAllProperties().get(0);
+        property.purchase(playerId);
+        game.getPlayer(playerId).addProperty(property.getPropertyId());
+        game.getPlayer(playerId).moveTo(property.getTilePosition());
+
+        // when
+        gameRepository.save(game);
+        GameSession retrieved = gameRepository.findById(game.getGameId()).orElseThrow();
+
+        // then
+        assertThat(retrieved.getPlayer(playerId).getPosition()).isEqualTo(property.getTilePosition());
+        assertThat(retrieved.getPlayer(playerId).ownsProperty(property.getPropertyId())).isTrue();
+        assertThat(retrieved.getBoard().getProperty(property.getPropertyId()).isOwnedBy(playerId)).isTrue();
+        assertThat(retrieved.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Resident saves are queued on commit
+    void residentFlush_shouldPatchOnlyTheChangedParts() throws InterruptedException {
+        // given
+        GameCommandExecutor commandExecutor = new GameCommandExecutor(new SimpleMeterRegistry(), 1);
+        ResidentGameRepository resident = new ResidentGameRepository(gameRepository, sessionMapper,
+                new ReplayGameUseCase(eventRepository), eventRepository, commandExecutor, meterRegistry,
+                Duration.ofHours(1), Duration.ofMinutes(10), 100);
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.EASY);
+        resident.save(game);
+        Property property = game.getBoard().getAllProperties().get(0);
+        property.purchase(playerId);
+        game.getPlayer(playerId).addProperty(property.getPropertyId());
+        resident.save(game);
+        SqlRecorder.STATEMENTS.clear();
+
+        try {
+            // when
+            resident.flush();
+
+            // then: one update, patching the player's seat and the property states
+            List<String> updates = SqlRecorder.STATEMENTS.stream()
+                    .filter(sql -> sql.toLowerCase().contains("update game_sessions"))
+                    .toList();
+            assertThat(updates).hasSize(1);
+            assertThat(JSONB_SET.matcher(updates.get(0)).results().count()).isEqualTo(2);
+            GameSession retrieved = gameRepository.findById(game.getGameId()).orElseThrow();
+            assertThat(retrieved.getBoard().getProperty(property.getPropertyId()).isOwnedBy(playerId)).isTrue();
+            assertThat(retrieved.getVersion()).isEqualTo(1L);
+        } finally {
+            resident.shutdown();
+            commandExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void appendEvents_shouldContinueSequenceFromSessionHighWaterMark() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.EASY);
+        gameRepository.save(game);
+        eventRepository.appendEvents(game, List.copyOf(game.drainEvents()));
+        long afterCreate = game.getEventSequence();
+
+        // when
+        game.rollDice(playerId);
+        List<GameEvent> events = List.copyOf(game.drainEvents());
+        gameRepository.save(game);
+        eventRepository.appendEvents(game, events);
+
+        // then
+        List<GameEventEntity> logged = jpaEventRepository.findByGameIdOrderBySequenceNumAsc(game.getGameId());
+        assertThat(logged).extracting(GameEventEntity::getSequenceNum)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, afterCreate + events.size())
+                        .boxed().toList());
+        assertThat(game.getEventSequence()).isEqualTo(afterCreate + events.size());
+    }
+
+    @Test
+    void appendEvents_reloadedGame_shouldResumeAfterLoggedEvents() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.EASY);
+        List<GameEvent> created = List.copyOf(game.drainEvents());
+        gameRepository.save(game);
+        eventRepository.appendEvents(game, created);
+        GameSession reloaded = gameRepository.findById(game.getGameId()).orElseThrow();
+        assertThat(reloaded.getEventSequence()).isEqualTo(game.getEventSequence());
+
+        // when
+        reloaded.rollDice(playerId);
+        eventRepository.appendEvents(reloaded, List.copyOf(reloaded.drainEvents()));
+
+        // then
+        assertThat(reloaded.getEventSequence())
+                .isEqualTo(jpaEventRepository.findMaxSequenceNumByGameId(game.getGameId()))
+                .isGreaterThan(game.getEventSequence());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // The append has to roll back on its own
+    void appendEvents_rolledBack_shouldNotLeaveAGapInTheSequence() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.EASY);
+        transaction.executeWithoutResult(status -> {
+            gameRepository.save(game);
+            eventRepository.appendEvents(game, List.copyOf(game.drainEvents()));
+        });
+        game.rollDice(playerId);
+        List<GameEvent> events = List.copyOf(game.drainEvents());
+
+        // when
+        transaction.executeWithoutResult(status -> {
+            eventRepository.appendEvents(game, events);
+            status.setRollbackOnly();
+        });
+        transaction.executeWithoutResult(status -> eventRepository.appendEvents(game, events));
+
+        // then
+        List<GameEventEntity> logged = jpaEventRepository.findByGameIdOrderBySequenceNumAsc(game.getGameId());
+        assertThat(logged).extracting(GameEventEntity::getSequenceNum)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, logged.size()).boxed().toList());
+        assertThat(game.getEventSequence()).isEqualTo(logged.size());
+    }
+
+    @Test
+    void appendEvents_shouldCheckpointNewGameAndRebuildFromLog() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.EASY);
+        gameRepository.save(game);
+        eventRepository.appendEvents(game, List.copyOf(game.drainEvents()));
+        long created = game.getEventSequence();
+
+        // when
+        game.rollDice(playerId);
+        List<GameEvent> events = List.copyOf(game.drainEvents());
+        gameRepository.save(game);
+        eventRepository.appendEvents(game, events);
+
+        // then
+        GameSession checkpoint = eventRepository.findCheckpoint(game.getGameId(), Long.MAX_VALUE).orElseThrow();
+        assertThat(checkpoint.getEventSequence()).isEqualTo(created);
+        List<GameEvent> tail = eventRepository.findByGameIdAfterSequence(game.getGameId(), created);
+        assertThat(tail).extracting(GameEvent::getEventType)
+                .containsExactlyElementsOf(events.stream().map(GameEvent::getEventType).toList());
+        GameSession rebuilt = GameEventApplier.replay(checkpoint, tail);
+        assertThat(rebuilt.getEventSequence()).isEqualTo(game.getEventSequence());
+        assertThat(rebuilt.getPlayer(playerId).getPosition()).isEqualTo(game.getPlayer(playerId).getPosition());
+        assertThat(rebuilt.getTurnPhase()).isEqualTo(game.getTurnPhase());
+    }
+
+    @Test
+    void stateView_shouldKeepNewestSequence() {
+        // given
+        GameSession game = GameSession.create(UUID.randomUUID(), "Player", false, null);
+        gameRepository.save(game);
+        stateViewRepository.save(game.getGameId(), 5, "{\"turnNumber\":5}".getBytes());
+
+        // when
+        stateViewRepository.save(game.getGameId(), 4, "{\"turnNumber\":4}".getBytes());
+        stateViewRepository.save(game.getGameId(), 6, "{\"turnNumber\":6}".getBytes());
+
+        // then
+        assertThat(stateViewRepository.findView(game.getGameId())).hasValueSatisfying(view -> {
+            assertThat(view.eventSequence()).isEqualTo(6);
+            assertThat(new String(view.stateJson())).isEqualTo("{\"turnNumber\":6}");
+        });
+        assertThat(stateViewRepository.findView(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void findWaitingGames_shouldReadSummaryColumnsInKeysetPages() {
+        // given
+        Instant before = Instant.now().minusMillis(1);
+        GameSession older = gameRepository.save(GameSession.create(UUID.randomUUID(), "Older", false, null));
+        GameSession newer = gameRepository.save(GameSession.create(UUID.randomUUID(), "Newer", false, null));
+        GameSession started = GameSession.create(UUID.randomUUID(), "Started", false, null);
+        started.joinGame(UUID.randomUUID(), "Joiner");
+        gameRepository.save(started);
+
+        // when
+        List<GameSummary> firstPage = summaryRepository.findWaitingGames(
+                new WaitingGamesQuery(null, before, null, 1));
+        GameSummary first = firstPage.get(0);
+        List<GameSummary> secondPage = summaryRepository.findWaitingGames(
+                new WaitingGamesQuery(null, before, new PageCursor(first.getCreatedAt(), first.getGameId()), 10));
+
+        // then
+        assertThat(firstPage).extracting(GameSummary::getGameId).containsExactly(newer.getGameId());
+        assertThat(first.getCreatorName()).isEqualTo("Newer");
+        assertThat(first.getPlayerCount()).isEqualTo(1);
+        assertThat(first.isVsNpc()).isFalse();
+        assertThat(secondPage).extracting(GameSummary::getGameId).containsExactly(older.getGameId());
+    }
+
+    @Test
+    void findPlayerGames_shouldListOnlyThePlayersGamesInStatus() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        UUID opponentId = UUID.randomUUID();
+        GameSession waiting = gameRepository.save(GameSession.create(playerId, "Player", false, null));
+        GameSession playing = GameSession.create(playerId, "Player", false, null);
+        playing.joinGame(opponentId, "Opponent");
+        gameRepository.save(playing);
+        gameRepository.save(GameSession.create(opponentId, "Opponent", false, null));
+
+        // when
+        List<PlayerGameSummary> active = summaryRepository.findPlayerGames(new PlayerGamesQuery(
+                playerId, EnumSet.of(GameStatus.WAITING, GameStatus.IN_PROGRESS), null, 10));
+        List<PlayerGameSummary> inProgress = summaryRepository.findPlayerGames(new PlayerGamesQuery(
+                playerId, EnumSet.of(GameStatus.IN_PROGRESS), null, 10));
+
+        // then
+        assertThat(active).extracting(PlayerGameSummary::getGameId)
+                .containsExactly(playing.getGameId(), waiting.getGameId());
+        assertThat(inProgress).singleElement().satisfies(summary -> {
+            assertThat(summary.getOpponentName()).isEqualTo("Opponent");
+            assertThat(summary.getCurrentPlayerId()).isEqualTo(playing.getCurrentPlayerId());
+            assertThat(summary.isVsNpc()).isFalse();
+        });
+    }
+
+    @Test
+    void participantNamesMigration_shouldNameParticipantsOfBinarySnapshots() {
+        // given
+        GameSession game = GameSession.create(UUID.randomUUID(), "Binary Host", false, null);
+        game.joinGame(UUID.randomUUID(), "Binary Guest");
+        gameRepository.save(game);
+        entityManager.flush();
+        entityManager.createNativeQuery("""
+                        UPDATE game_sessions SET game_state_snapshot = NULL, game_state_binary = :binary
+                        WHERE game_id = :gameId""")
+                .setParameter("binary", snapshotCodec.encode(sessionMapper.toStateEntity(game).getGameStateSnapshot()))
+                .setParameter("gameId", game.getGameId())
+                .executeUpdate();
+        entityManager.createNativeQuery("UPDATE game_participants SET display_name = NULL WHERE game_id = :gameId")
+                .setParameter("gameId", game.getGameId())
+                .executeUpdate();
+
+        // when
+        entityManager.unwrap(Session.class).doWork(connection -> participantNamesMigration.migrate(context(connection)));
+
+        // then
+        List<String> names = entityManager.unwrap(Session.class).createNativeQuery(
+                        "SELECT display_name FROM game_participants WHERE game_id = :gameId", String.class)
+                .setParameter("gameId", game.getGameId())
+                .getResultList();
+        assertThat(names).containsExactlyInAnyOrder("Binary Host", "Binary Guest");
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static Context context(Connection connection) {
+        return new Context() {
+            @Override
+            public Configuration getConfiguration() {
+                return null;
+            }
+
+            @Override
+            public Connection getConnection() {
+                return connection;
+            }
+        };
+    }
+
+    /**
+     * Keeps every SQL statement Hibernate prepares, for tests that check what was sent.
+     */
+    public static class SqlRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
     }
 }
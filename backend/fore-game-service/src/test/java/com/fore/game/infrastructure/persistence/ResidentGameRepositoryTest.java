@@ -0,0 +1,614 @@
+package com.fore.game.infrastructure.persistence;
+
+import com.fore.game.application.concurrency.GameCommandExecutor;
+import com.fore.game.application.ports.outbound.GameEventRepository;
+import com.fore.game.application.usecases.ReplayGameUseCase;
+import com.fore.game.domain.events.GameEvent;
+import com.fore.game.domain.events.LoggedEvent;
+import com.fore.game.domain.exceptions.GameConcurrencyException;
+import com.fore.game.domain.exceptions.GameNotFoundException;
+import com.fore.game.domain.model.DiceRoll;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.ScriptedDiceSource;
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.game.domain.model.enums.GameStatus;
+import com.fore.game.infrastructure.persistence.entity.GameSessionEntity;
+import com.fore.game.infrastructure.persistence.mapper.GameSessionMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResidentGameRepositoryTest {
+
+    private static final UUID PLAYER_ID = UUID.randomUUID();
+
+    private final GameSessionMapper mapper = new GameSessionMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<UUID, GameSession> eventLog = new HashMap<>();
+    private final Map<UUID, Long> lastLogged = new HashMap<>();
+    private InMemoryDatabase database;
+    private GameCommandExecutor commandExecutor;
+    private ResidentGameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = new InMemoryDatabase(mapper);
+        commandExecutor = new GameCommandExecutor(meterRegistry, 1);
+        repository = newRepository();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        repository.shutdown();
+        commandExecutor.shutdown();
+    }
+
+    @Test
+    void save_newInProgressGame_shouldWriteThroughAndStayResident() {
+        // given
+        GameSession game = newGame();
+
+        // when
+        repository.save(game);
+
+        // then
+        assertThat(database.saves).isEqualTo(1);
+        assertThat(repository.findById(game.getGameId())).containsSame(game);
+        assertThat(database.reads).isZero();
+    }
+
+    @Test
+    void save_residentGame_shouldCoalesceUntilFlush() {
+        // given
+        GameSession game = newGame();
+        repository.save(game);
+
+        // when
+        game.rollDice(PLAYER_ID);
+        repository.save(game);
+        game.endTurn(PLAYER_ID);
+        repository.save(game);
+
+        // then
+        assertThat(database.saves).isEqualTo(1);
+        assertThat(repository.getPendingWriteCount()).isEqualTo(1);
+
+        repository.flush();
+
+        assertThat(database.batches).containsExactly(1);
+        assertThat(database.rows.get(game.getGameId()).getTurnNumber()).isEqualTo(2);
+        assertThat(repository.getPendingWriteCount()).isZero();
+    }
+
+    @Test
+    void flush_coalescedSaves_shouldCarryEveryChangedPart() {
+        // given
+        GameSession game = newGame();
+        repository.save(game);
+        game.rollDice(PLAYER_ID);
+        SnapshotChanges rolled = SnapshotChanges.of(game);
+        repository.save(game);
+        game.endTurn(PLAYER_ID);
+        SnapshotChanges ended = SnapshotChanges.of(game);
+        repository.save(game);
+
+        // when
+        repository.flush();
+
+        // then
+        assertThat(database.flushedChanges.get(game.getGameId())).isEqualTo(rolled.and(ended));
+        assertThat(rolled.dice()).isTrue();
+        assertThat(SnapshotChanges.of(game)).isEqualTo(SnapshotChanges.NONE);
+    }
+
+    @Test
+    void flush_shouldSplitIntoBatches() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            GameSession game = newGame();
+            repository.save(game);
+            game.rollDice(PLAYER_ID);
+            repository.save(game);
+        }
+
+        // when
+        repository.flush();
+
+        // then
+        assertThat(database.batches).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void save_statusChange_shouldWriteThroughAndDropResidency() {
+        // given
+        GameSession game = newGame();
+        repository.save(game);
+        game.rollDice(PLAYER_ID);
+        repository.save(game);
+
+        // when
+        GameSession waiting = GameSession.create(PLAYER_ID, "Host", false, null);
+        repository.save(waiting);
+
+        // then
+        assertThat(repository.getResidentCount()).isEqualTo(1);
+        assertThat(database.rows).containsKey(waiting.getGameId());
+        assertThat(repository.findById(waiting.getGameId())).isPresent().get().isNotSameAs(waiting);
+    }
+
+    @Test
+    void findById_inProgressGameFromDatabase_shouldBecomeResident() {
+        // given
+        GameSession game = newGame();
+        database.save(game);
+
+        // when
+        GameSession first = repository.findById(game.getGameId()).orElseThrow();
+        GameSession second = repository.findById(game.getGameId()).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(database.reads).isEqualTo(1);
+    }
+
+    @Test
+    void evictIdle_shouldOnlyEvictFlushedIdleGames() {
+        // given
+        GameSession game = newGame();
+        repository.save(game);
+        game.rollDice(PLAYER_ID);
+        repository.save(game);
+        Instant later = Instant.now().plus(Duration.ofHours(1));
+
+        // when
+        repository.evictIdle(later);
+
+        // then
+        assertThat(repository.getResidentCount()).isEqualTo(1);
+
+        repository.flush();
+        repository.evictIdle(later);
+
+        assertThat(repository.getResidentCount()).isZero();
+    }
+
+    @Test
+    void flush_databaseFailure_shouldRequeueSnapshots() {
+        // given
+        GameSession game = newGame();
+        repository.save(game);
+        game.rollDice(PLAYER_ID);
+        repository.save(game);
+        database.failNextBatch = true;
+
+        // when / then
+        assertThatThrownBy(repository::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(repository.getPendingWriteCount()).isEqualTo(1);
+
+        repository.flush();
+        assertThat(repository.getPendingWriteCount()).isZero();
+    }
+
+    @Test
+    void shutdown_shouldFlushPendingWrites() throws InterruptedException {
+        // given
+        GameSession game = newGame();
+        repository.save(game);
+        game.rollDice(PLAYER_ID);
+        repository.save(game);
+
+        // when
+        repository.shutdown();
+
+        // then
+        assertThat(database.batches).containsExactly(1);
+    }
+
+    @Test
+    void flush_gameChangedByAnotherWriter_shouldRebuildItFromTheLogAndKeepOthers() {
+        // given
+        GameSession contested = newGame();
+        GameSession other = newGame();
+        for (GameSession game : List.of(contested, other)) {
+            repository.save(game);
+            game.rollDice(PLAYER_ID);
+            repository.save(game);
+        }
+        database.bumpVersion(contested.getGameId());
+        GameSession logged = mapper.toDomain(mapper.toStateEntity(contested));
+        logged.endTurn(PLAYER_ID);
+        eventLog.put(contested.getGameId(), logged);
+
+        // when
+        repository.flush();
+
+        // then
+        assertThat(database.rows.get(other.getGameId()).getTurnNumber()).isEqualTo(1);
+        assertThat(database.versions.get(other.getGameId())).isEqualTo(1L);
+        assertThat(database.rows.get(contested.getGameId()).getTurnNumber()).isEqualTo(logged.getTurnNumber());
+        assertThat(database.versions.get(contested.getGameId())).isEqualTo(2L);
+        assertThat(repository.findById(contested.getGameId())).containsSame(logged);
+        assertThat(logged.getVersion()).isEqualTo(2L);
+        assertThat(repository.getPendingWriteCount()).isZero();
+        assertThat(meterRegistry.get("fore.game.save.conflicts").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("fore.game.store.rebuilds").tag("result", "rebuilt").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void flush_conflictOnGameWithoutCheckpoint_shouldDropItAndCountTheFailure() {
+        // given
+        GameSession game = newGame();
+        repository.save(game);
+        game.rollDice(PLAYER_ID);
+        repository.save(game);
+        database.bumpVersion(game.getGameId());
+
+        // when
+        repository.flush();
+
+        // then
+        assertThat(repository.getResidentCount()).isZero();
+        assertThat(repository.getPendingWriteCount()).isZero();
+        assertThat(meterRegistry.get("fore.game.store.rebuilds").tag("result", "failed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void flush_repeatedly_shouldTrackWrittenVersions() {
+        // given
+        GameSession game = newGame();
+        repository.save(game);
+        game.rollDice(PLAYER_ID);
+        repository.save(game);
+        repository.flush();
+
+        // when
+        game.endTurn(PLAYER_ID);
+        repository.save(game);
+        repository.flush();
+
+        // then
+        assertThat(database.versions.get(game.getGameId())).isEqualTo(2L);
+        assertThat(game.getVersion()).isEqualTo(2L);
+        assertThat(repository.getResidentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void save_writeThroughConflict_shouldDropResidencyAndRethrow() {
+        // given
+        GameSession game = newGame();
+        repository.save(game);
+        repository.evictIdle(Instant.now().plus(Duration.ofHours(1)));
+        database.bumpVersion(game.getGameId());
+
+        // when / then: an evicted game is written through on its next save
+        assertThatThrownBy(() -> repository.save(game))
+                .isInstanceOf(GameConcurrencyException.class);
+        assertThat(repository.getResidentCount()).isZero();
+    }
+
+    @Test
+    void failedCommand_afterPartialMutation_shouldNotKeepItResidentOrQueued() {
+        // given
+        GameSession game = newGame();
+        repository.save(game);
+        int committedPosition = game.getPlayer(PLAYER_ID).getPosition();
+
+        // when: the command changes the resident copy, then fails before saving
+        assertThatThrownBy(() -> inTransaction(() -> {
+            repository.findById(game.getGameId()).orElseThrow().getPlayer(PLAYER_ID).moveTo(committedPosition + 7);
+            throw new IllegalStateException("Insufficient funds");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        GameSession reloaded = repository.findById(game.getGameId()).orElseThrow();
+        assertThat(reloaded).isNotSameAs(game);
+        assertThat(reloaded.getPlayer(PLAYER_ID).getPosition()).isEqualTo(committedPosition);
+        assertThat(repository.getPendingWriteCount()).isZero();
+    }
+
+    @Test
+    void failedCommand_afterSave_shouldKeepOnlyTheLastCommittedSnapshot() {
+        // given: one committed command still waiting for the flush
+        GameSession game = newGame();
+        repository.save(game);
+        inTransaction(() -> {
+            repository.findById(game.getGameId()).orElseThrow().rollDice(PLAYER_ID);
+            repository.save(game);
+        });
+        int committedPosition = game.getPlayer(PLAYER_ID).getPosition();
+
+        // when: the next command saves, then fails appending its events
+        assertThatThrownBy(() -> inTransaction(() -> {
+            GameSession loaded = repository.findById(game.getGameId()).orElseThrow();
+            loaded.getPlayer(PLAYER_ID).moveTo(committedPosition + 3);
+            repository.save(loaded);
+            throw new IllegalStateException("Event log unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        GameSession resident = repository.findById(game.getGameId()).orElseThrow();
+        assertThat(resident.getPlayer(PLAYER_ID).getPosition()).isEqualTo(committedPosition);
+        assertThat(database.reads).isZero();
+
+        repository.flush();
+
+        assertThat(database.batches).containsExactly(1);
+        assertThat(mapper.toDomain(database.rows.get(game.getGameId())).getPlayer(PLAYER_ID).getPosition())
+                .isEqualTo(committedPosition);
+        assertThat(resident.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void findById_rowBehindTheLog_shouldRebuildTheGameFromTheLog() {
+        // given: a command's events were logged, then the process stopped before its snapshot was flushed
+        ResidentGameRepository crashed = newRepository();
+        GameSession game = newGame();
+        commit(crashed, game);
+        long storedSequence = game.getEventSequence();
+        game.rollDice(PLAYER_ID);
+        commit(crashed, game);
+        GameSession logged = mapper.toDomain(mapper.toStateEntity(game));
+        eventLog.put(game.getGameId(), logged);
+        assertThat(crashed.getPendingWriteCount()).isEqualTo(1);
+        assertThat(database.rows.get(game.getGameId()).getEventSequence()).isEqualTo(storedSequence);
+
+        // when: the restarted store loads the game
+        GameSession loaded = repository.findById(game.getGameId()).orElseThrow();
+
+        // then
+        assertThat(loaded).isSameAs(logged);
+        assertThat(loaded.getEventSequence()).isEqualTo(game.getEventSequence()).isGreaterThan(storedSequence);
+        assertThat(meterRegistry.get("fore.game.store.rebuilds").tag("result", "rebuilt").counter().count())
+                .isEqualTo(1);
+
+        repository.flush();
+
+        GameSessionEntity row = database.rows.get(game.getGameId());
+        assertThat(row.getEventSequence()).isEqualTo(game.getEventSequence());
+        assertThat(mapper.toDomain(row).getPlayer(PLAYER_ID).getPosition())
+                .isEqualTo(game.getPlayer(PLAYER_ID).getPosition());
+        assertThat(loaded.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void findById_rowBehindTheLogWithoutCheckpoint_shouldNumberNewEventsAfterTheLog() {
+        // given
+        GameSession game = newGame();
+        int created = game.drainEvents().size();
+        database.save(game, SnapshotChanges.NONE);
+        lastLogged.put(game.getGameId(), created + 2L);
+
+        // when
+        GameSession loaded = repository.findById(game.getGameId()).orElseThrow();
+
+        // then
+        assertThat(loaded.getEventSequence()).isEqualTo(GameSession.UNKNOWN_EVENT_SEQUENCE);
+        assertThat(repository.getPendingWriteCount()).isZero();
+        assertThat(meterRegistry.get("fore.game.store.rebuilds").tag("result", "failed").counter().count())
+                .isEqualTo(1);
+    }
+
+    private ResidentGameRepository newRepository() {
+        // Long interval so the background flush never runs during a test
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("meterRegistry", meterRegistry);
+        return new ResidentGameRepository(database, mapper, new LoggedGames(eventLog),
+                new LogHeads(eventLog, lastLogged), commandExecutor,
+                beans.getBeanProvider(MeterRegistry.class), Duration.ofHours(1), Duration.ofMinutes(10), 2);
+    }
+
+    /**
+     * Save the way a command does: drain its events, save the game, then log the events.
+     */
+    private static void commit(ResidentGameRepository store, GameSession game) {
+        int events = game.drainEvents().size();
+        store.save(game);
+        game.recordEventSequence(game.getEventSequence() + events);
+    }
+
+    private static void inTransaction(Runnable command) {
+        new TransactionTemplate(new NoOpTransactionManager()).executeWithoutResult(status -> command.run());
+    }
+
+    private static GameSession newGame() {
+        GameSession game = GameSession.create(PLAYER_ID, "Player", true, Difficulty.EASY,
+                ScriptedDiceSource.of(DiceRoll.of(1, 2)));
+        assertThat(game.getStatus()).isEqualTo(GameStatus.IN_PROGRESS);
+        return game;
+    }
+
+    /**
+     * Adapter stand-in that keeps entities in a map, checks versions like the real one, and counts calls.
+     */
+    private static class InMemoryDatabase extends GameRepositoryAdapter {
+
+        private final GameSessionMapper mapper;
+        private final Map<UUID, GameSessionEntity> rows = new HashMap<>();
+        private final Map<UUID, Long> versions = new HashMap<>();
+        private final List<Integer> batches = new ArrayList<>();
+        private final Map<UUID, SnapshotChanges> flushedChanges = new HashMap<>();
+        private int saves;
+        private int reads;
+        private boolean failNextBatch;
+
+        InMemoryDatabase(GameSessionMapper mapper) {
+            super(null, mapper, null, null, null, "json");
+            this.mapper = mapper;
+        }
+
+        @Override
+        public GameSession save(GameSession gameSession, SnapshotChanges unwritten) {
+            saves++;
+            GameSessionEntity entity = mapper.toEntity(gameSession);
+            checkVersion(entity);
+            gameSession.markPersisted(write(entity));
+            gameSession.clearChanges();
+            return gameSession;
+        }
+
+        @Override
+        public Map<UUID, Long> saveEntities(Collection<PendingWrite> writes) {
+            if (failNextBatch) {
+                failNextBatch = false;
+                throw new IllegalStateException("Connection refused");
+            }
+            writes.forEach(write -> checkVersion(write.entity()));
+            batches.add(writes.size());
+            Map<UUID, Long> written = new HashMap<>();
+            writes.forEach(write -> {
+                written.put(write.entity().getGameId(), write(write.entity()));
+                flushedChanges.put(write.entity().getGameId(), write.changes());
+            });
+            return written;
+        }
+
+        @Override
+        public Optional<GameSession> findById(UUID gameId) {
+            reads++;
+            return Optional.ofNullable(rows.get(gameId)).map(entity -> {
+                GameSession game = mapper.toDomain(entity);
+                game.markPersisted(versions.get(gameId));
+                return game;
+            });
+        }
+
+        void bumpVersion(UUID gameId) {
+            versions.merge(gameId, 1L, Long::sum);
+        }
+
+        private void checkVersion(GameSessionEntity entity) {
+            Long current = versions.get(entity.getGameId());
+            if (current != null && !current.equals(entity.getVersion())) {
+                throw new GameConcurrencyException(entity.getGameId());
+            }
+        }
+
+        private long write(GameSessionEntity entity) {
+            rows.put(entity.getGameId(), entity);
+            return versions.merge(entity.getGameId(), 0L, (old, ignored) -> old + 1);
+        }
+
+        @Override
+        public void deleteById(UUID gameId) {
+            rows.remove(gameId);
+        }
+
+        @Override
+        public boolean existsById(UUID gameId) {
+            return rows.containsKey(gameId);
+        }
+    }
+
+    /**
+     * Runs transaction synchronization callbacks without a resource behind the transaction.
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    /**
+     * Replay stand-in that returns the game as the log has it, or fails like a game without checkpoints.
+     */
+    private static class LoggedGames extends ReplayGameUseCase {
+
+        private final Map<UUID, GameSession> games;
+
+        LoggedGames(Map<UUID, GameSession> games) {
+            super(null);
+            this.games = games;
+        }
+
+        @Override
+        public GameSession rebuild(UUID gameId) {
+            GameSession game = games.get(gameId);
+            if (game == null) {
+                throw new GameNotFoundException(gameId);
+            }
+            return game;
+        }
+    }
+
+    /**
+     * Event log stand-in that only knows each game's last sequence number: that of the game in
+     * {@code games}, unless {@code lastLogged} says otherwise.
+     */
+    private static class LogHeads implements GameEventRepository {
+
+        private final Map<UUID, GameSession> games;
+        private final Map<UUID, Long> lastLogged;
+
+        LogHeads(Map<UUID, GameSession> games, Map<UUID, Long> lastLogged) {
+            this.games = games;
+            this.lastLogged = lastLogged;
+        }
+
+        @Override
+        public long getNextSequenceNumber(UUID gameId) {
+            GameSession game = games.get(gameId);
+            return lastLogged.getOrDefault(gameId, game != null ? game.getEventSequence() : 0L) + 1;
+        }
+
+        @Override
+        public void appendEvents(GameSession game, List<GameEvent> events) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<GameEvent> findByGameId(UUID gameId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<GameEvent> findByGameIdAfterSequence(UUID gameId, long afterSequenceNum) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Stream<LoggedEvent> streamByGameIdAfterSequence(UUID gameId, long afterSequenceNum) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<GameSession> findCheckpoint(UUID gameId, long atOrBeforeSequence) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.fore.game.infrastructure.persistence.mapper;
+
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.Property;
+import com.fore.game.domain.model.SeededDiceSource;
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.game.infrastructure.config.JacksonConfig;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot.PropertySnapshot;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot.TileSnapshot;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot.TradeOfferSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BinarySnapshotCodecTest {
+
+    private final BinarySnapshotCodec codec = new BinarySnapshotCodec();
+    private final GameSessionMapper mapper = new GameSessionMapper();
+
+    @Test
+    void shouldRoundTripTemplatedSnapshot() {
+        // given
+        GameStateSnapshot snapshot = mapper.toEntity(playedGame()).getGameStateSnapshot();
+
+        // when
+        GameStateSnapshot decoded = codec.decode(codec.encode(snapshot));
+
+        // then
+        assertThat(decoded).isEqualTo(snapshot);
+    }
+
+    @Test
+    void shouldRoundTripTradeAndFullBoard() {
+        // given
+        GameStateSnapshot snapshot = mapper.toEntity(playedGame()).getGameStateSnapshot();
+        snapshot.setBoardTemplateId(null);
+        snapshot.setProperties(null);
+        snapshot.setTiles(List.of(
+                TileSnapshot.builder().tileId(UUID.randomUUID()).position(0).type("CLUBHOUSE_HQ").name("Start").build(),
+                TileSnapshot.builder().tileId(UUID.randomUUID()).position(1).type("PROPERTY").name("Hole 1")
+                        .property(PropertySnapshot.builder()
+                                .propertyId(UUID.randomUUID())
+                                .name("Hole 1")
+                                .courseGroup("LINKS_NINE")
+                                .tilePosition(1)
+                                .purchasePriceCents(6_000)
+                                .baseRentCents(200)
+                                .rentWithClubhouseCents(1_000)
+                                .rentWithResortCents(3_000)
+                                .improvementCostCents(5_000)
+                                .improvementLevel("CLUBHOUSE")
+                                .build())
+                        .build()));
+        snapshot.setPendingTrade(TradeOfferSnapshot.builder()
+                .offerId(UUID.randomUUID())
+                .offeringPlayerId(UUID.randomUUID())
+                .receivingPlayerId(UUID.randomUUID())
+                .offeredPropertyIds(List.of(UUID.randomUUID()))
+                .offeredCurrencyCents(12_345)
+                .requestedPropertyIds(List.of())
+                .requestedCurrencyCents(0)
+                .status("PENDING")
+                .build());
+
+        // when
+        GameStateSnapshot decoded = codec.decode(codec.encode(snapshot));
+
+        // then
+        assertThat(decoded).isEqualTo(snapshot);
+    }
+
+    @Test
+    void shouldBeSmallerThanJson() throws Exception {
+        // given
+        GameStateSnapshot snapshot = mapper.toEntity(playedGame()).getGameStateSnapshot();
+
+        // when
+        byte[] binary = codec.encode(snapshot);
+        byte[] json = new JacksonConfig().objectMapper().writeValueAsBytes(snapshot);
+
+        // then
+        assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    void decode_unknownVersion_shouldThrow() {
+        assertThatThrownBy(() -> codec.decode(new byte[]{99}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unsupported snapshot format version");
+    }
+
+    private GameSession playedGame() {
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.HARD,
+                SeededDiceSource.withSeed(-3L));
+        Property property = game.getBoard().getAllProperties().get(0);
+        property.purchase(playerId);
+        game.getPlayer(playerId).addProperty(property.getPropertyId());
+        game.getPlayer(playerId).subtractCurrency(property.getPurchasePrice());
+        game.rollDice(playerId);
+        return game;
+    }
+}
@@ -0,0 +1,130 @@
+package com.fore.game.infrastructure.persistence.mapper;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fore.common.types.Money;
+import com.fore.game.domain.events.*;
+import com.fore.game.domain.model.DiceRoll;
+import com.fore.game.domain.model.TradeOffer;
+import com.fore.game.domain.model.enums.ImprovementLevel;
+import com.fore.game.infrastructure.config.JacksonConfig;
+import com.fore.game.infrastructure.persistence.entity.GameEventEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GameEventMapperTest {
+
+    private static final UUID GAME_ID = UUID.randomUUID();
+    private static final UUID PLAYER_ID = UUID.randomUUID();
+    private static final UUID OTHER_ID = UUID.randomUUID();
+    private static final UUID PROPERTY_ID = UUID.randomUUID();
+
+    private ObjectMapper objectMapper;
+    private GameEventMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        mapper = new GameEventMapper(objectMapper);
+    }
+
+    @Test
+    void toDomain_shouldRestoreEveryEventType() throws Exception {
+        // given
+        TradeOffer offer = TradeOffer.builder()
+                .offerId(UUID.randomUUID())
+                .offeringPlayerId(PLAYER_ID)
+                .receivingPlayerId(OTHER_ID)
+                .offeredPropertyIds(Set.of(PROPERTY_ID))
+                .offeredCurrency(Money.ofDollars(25))
+                .requestedPropertyIds(Set.of())
+                .requestedCurrency(Money.zero())
+                .status(TradeOffer.TradeStatus.PENDING)
+                .build();
+        List<GameEvent> events = List.of(
+                GameCreatedEvent.builder().gameId(GAME_ID).creatorId(PLAYER_ID).vsNpc(true).build(),
+                PlayerJoinedEvent.builder().gameId(GAME_ID).playerId(OTHER_ID).playerName("Other").build(),
+                GameStartedEvent.builder().gameId(GAME_ID).firstPlayerId(PLAYER_ID).build(),
+                DiceRolledEvent.builder().gameId(GAME_ID).playerId(PLAYER_ID).roll(DiceRoll.of(3, 3)).build(),
+                PlayerMovedEvent.builder().gameId(GAME_ID).playerId(PLAYER_ID)
+                        .fromPosition(30).toPosition(4).passedStart(true).build(),
+                SalaryCollectedEvent.builder().gameId(GAME_ID).playerId(PLAYER_ID).amount(Money.ofDollars(200)).build(),
+                PropertyPurchasedEvent.builder().gameId(GAME_ID).playerId(PLAYER_ID).propertyId(PROPERTY_ID)
+                        .propertyName("Hole 1").price(Money.ofDollars(60)).build(),
+                PropertyImprovedEvent.builder().gameId(GAME_ID).playerId(PLAYER_ID).propertyId(PROPERTY_ID)
+                        .propertyName("Hole 1").previousLevel(ImprovementLevel.NONE)
+                        .newLevel(ImprovementLevel.CLUBHOUSE).cost(Money.ofDollars(50)).build(),
+                RentPaidEvent.builder().gameId(GAME_ID).payerId(OTHER_ID).receiverId(PLAYER_ID)
+                        .propertyId(PROPERTY_ID).amount(Money.ofCents(1_250)).build(),
+                PenaltyPaidEvent.builder().gameId(GAME_ID).playerId(OTHER_ID)
+                        .amount(Money.ofDollars(50)).reason("Water Hazard").build(),
+                PlayerSentToSandTrapEvent.builder().gameId(GAME_ID).playerId(OTHER_ID).build(),
+                PlayerBankruptEvent.builder().gameId(GAME_ID).playerId(OTHER_ID).creditorId(PLAYER_ID).build(),
+                TradeProposedEvent.builder().gameId(GAME_ID).offer(offer).build(),
+                TradeAcceptedEvent.builder().gameId(GAME_ID).offer(offer.accept()).build(),
+                TradeRejectedEvent.builder().gameId(GAME_ID).offer(offer.reject()).build(),
+                TurnEndedEvent.builder().gameId(GAME_ID).playerId(PLAYER_ID).turnNumber(7).build(),
+                TurnStartedEvent.builder().gameId(GAME_ID).playerId(OTHER_ID).turnNumber(8).build(),
+                GameEndedEvent.builder().gameId(GAME_ID).winnerId(PLAYER_ID).reason("Opponent bankrupt").build());
+
+        for (GameEvent event : events) {
+            // when
+            GameEvent restored = mapper.toDomain(stored(event));
+
+            // then
+            assertThat(restored).isExactlyInstanceOf(event.getClass());
+            assertThat(restored).usingRecursiveComparison()
+                    .ignoringFields("occurredAt")
+                    .isEqualTo(event);
+        }
+    }
+
+    @Test
+    void toDomain_shouldTakeIdentityAndTimeFromColumns() throws Exception {
+        // given
+        GameEvent event = TurnEndedEvent.builder().gameId(GAME_ID).playerId(PLAYER_ID).turnNumber(3).build();
+        GameEventEntity entity = stored(event);
+
+        // when
+        GameEvent restored = mapper.toDomain(entity);
+
+        // then
+        assertThat(restored.getEventId()).isEqualTo(entity.getEventId());
+        assertThat(restored.getGameId()).isEqualTo(GAME_ID);
+        assertThat(restored.getOccurredAt()).isEqualTo(entity.getCreatedAt());
+    }
+
+    @Test
+    void toDomain_unknownEventType_shouldThrow() throws Exception {
+        // given
+        GameEventEntity entity = stored(TurnEndedEvent.builder().gameId(GAME_ID).playerId(PLAYER_ID).build());
+        entity.setEventType("CARD_DRAWN");
+
+        // when / then
+        assertThatThrownBy(() -> mapper.toDomain(entity))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("CARD_DRAWN");
+    }
+
+    private GameEventEntity stored(GameEvent event) throws Exception {
+        // The payload as read back from the jsonb column
+        Map<String, Object> payload = objectMapper.readValue(mapper.toPayloadJson(event),
+                new TypeReference<Map<String, Object>>() {});
+        return GameEventEntity.builder()
+                .eventId(event.getEventId())
+                .gameId(event.getGameId())
+                .sequenceNum(1)
+                .eventType(event.getEventType())
+                .eventPayload(payload)
+                .createdAt(event.getOccurredAt().truncatedTo(ChronoUnit.MICROS))
+                .build();
+    }
+}
@@ -1,14 +1,20 @@
 package com.fore.game.infrastructure.persistence.mapper;
 
+import com.fore.common.types.Money;
 import com.fore.game.domain.model.*;
 import com.fore.game.domain.model.enums.Difficulty;
 import com.fore.game.domain.model.enums.GameStatus;
 import com.fore.game.domain.model.enums.ImprovementLevel;
 import com.fore.game.domain.model.enums.TurnPhase;
+import com.fore.game.infrastructure.persistence.entity.GameCheckpointEntity;
 import com.fore.game.infrastructure.persistence.entity.GameSessionEntity;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot.PropertySnapshot;
+import com.fore.game.infrastructure.persistence.entity.GameStateSnapshot.TileSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -289,4 +295,164 @@ class GameSessionMapperTest {
         assertThat(reconstructedPlayer.ownsProperty(prop2.getPropertyId())).isTrue();
         assertThat(reconstructedPlayer.ownsProperty(prop3.getPropertyId())).isTrue();
     }
+
+    @Test
+    void shouldPreserveDicePositionInRoundTrip() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        GameSession originalGame = GameSession.create(playerId, "Player", true, Difficulty.EASY,
+                SeededDiceSource.withSeed(7L));
+        originalGame.rollDice(playerId);
+
+        // when
+        GameSessionEntity entity = mapper.toEntity(originalGame);
+        GameSession reconstructed = mapper.toDomain(entity);
+
+        // then
+        SeededDiceSource original = (SeededDiceSource) originalGame.getDiceSource();
+        SeededDiceSource restored = (SeededDiceSource) reconstructed.getDiceSource();
+        assertThat(restored.getSeed()).isEqualTo(7L);
+        assertThat(restored.getRollCount()).isEqualTo(original.getRollCount());
+        assertThat(restored.roll()).isEqualTo(original.roll());
+    }
+
+    @Test
+    void shouldSeedFreshDiceForLegacySnapshot() {
+        // given
+        GameSession originalGame = GameSession.create(UUID.randomUUID(), "Player", false, null);
+        GameSessionEntity entity = mapper.toEntity(originalGame);
+        entity.getGameStateSnapshot().setDice(null);
+
+        // when
+        GameSession reconstructed = mapper.toDomain(entity);
+
+        // then
+        assertThat(reconstructed.getDiceSource()).isInstanceOf(SeededDiceSource.class);
+    }
+
+    @Test
+    void shouldStoreTemplateIdAndOnlyChangedProperties() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.EASY);
+        Property owned = game.getBoard().getAllProperties().get(0);
+        owned.purchase(playerId);
+        game.getPlayer(playerId).addProperty(owned.getPropertyId());
+
+        // when
+        GameStateSnapshot snapshot = mapper.toEntity(game).getGameStateSnapshot();
+
+        // then
+        assertThat(snapshot.getBoardTemplateId()).isEqualTo(BoardFactory.STANDARD_TEMPLATE_ID);
+        assertThat(snapshot.getTiles()).isNull();
+        assertThat(snapshot.getProperties()).singleElement()
+                .satisfies(state -> {
+                    assertThat(state.getTilePosition()).isEqualTo(owned.getTilePosition());
+                    assertThat(state.getOwnerId()).isEqualTo(playerId);
+                });
+    }
+
+    @Test
+    void shouldReadLegacyFullBoardSnapshot() {
+        // given - a snapshot written before board templates, with every tile inline
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.EASY);
+        Property owned = game.getBoard().getAllProperties().get(0);
+        owned.purchase(playerId);
+        owned.improve();
+        GameSessionEntity entity = mapper.toEntity(game);
+        GameStateSnapshot snapshot = entity.getGameStateSnapshot();
+        snapshot.setBoardTemplateId(null);
+        snapshot.setProperties(null);
+        snapshot.setTiles(game.getBoard().getTiles().stream().map(this::legacyTile).toList());
+
+        // when
+        GameSession reconstructed = mapper.toDomain(entity);
+
+        // then
+        assertThat(reconstructed.getBoard().getTemplateId()).isNull();
+        Property restored = reconstructed.getBoard().getProperty(owned.getPropertyId());
+        assertThat(restored.isOwnedBy(playerId)).isTrue();
+        assertThat(restored.getImprovementLevel()).isEqualTo(ImprovementLevel.CLUBHOUSE);
+        assertThat(mapper.toEntity(reconstructed).getGameStateSnapshot().getTiles()).hasSize(Board.TOTAL_TILES);
+    }
+
+    @Test
+    void shouldRestorePendingTradeInRoundTrip() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.EASY,
+                ScriptedDiceSource.of(DiceRoll.of(1, 2)));
+        UUID npcId = game.getOpponent(playerId).getPlayerId();
+        Property offered = game.getBoard().getPropertyAt(3).orElseThrow();
+        game.rollDice(playerId);
+        game.purchaseProperty(playerId, offered.getPropertyId());
+        game.proposeTrade(playerId, TradeOffer.builder()
+                .offerId(UUID.randomUUID())
+                .offeringPlayerId(playerId)
+                .receivingPlayerId(npcId)
+                .offeredPropertyIds(Set.of(offered.getPropertyId()))
+                .offeredCurrency(Money.zero())
+                .requestedPropertyIds(Set.of())
+                .requestedCurrency(Money.ofDollars(50))
+                .status(TradeOffer.TradeStatus.PENDING)
+                .build());
+
+        // when
+        GameSession reconstructed = mapper.toDomain(mapper.toEntity(game));
+        reconstructed.respondToTrade(npcId, true);
+
+        // then
+        assertThat(reconstructed.getPendingTrade().getOfferId()).isEqualTo(game.getPendingTrade().getOfferId());
+        assertThat(reconstructed.getPlayer(npcId).ownsProperty(offered.getPropertyId())).isTrue();
+        assertThat(reconstructed.isTradeChanged()).isTrue();
+    }
+
+    @Test
+    void shouldRoundTripCheckpointWithItsSequence() {
+        // given
+        UUID playerId = UUID.randomUUID();
+        GameSession game = GameSession.create(playerId, "Player", true, Difficulty.EASY,
+                SeededDiceSource.withSeed(11L));
+        game.rollDice(playerId);
+
+        // when
+        GameCheckpointEntity checkpoint = mapper.toCheckpoint(game, 42L);
+        GameSession restored = mapper.toDomain(checkpoint);
+
+        // then
+        assertThat(checkpoint.getSequenceNum()).isEqualTo(42L);
+        assertThat(restored.getEventSequence()).isEqualTo(42L);
+        assertThat(restored.getVersion()).isNull();
+        assertThat(restored.getTurnPhase()).isEqualTo(game.getTurnPhase());
+        assertThat(restored.getUpdatedAt()).isEqualTo(game.getUpdatedAt());
+        assertThat(restored.getPlayer(playerId).getPosition()).isEqualTo(game.getPlayer(playerId).getPosition());
+        assertThat(((SeededDiceSource) restored.getDiceSource()).getRollCount()).isEqualTo(1L);
+    }
+
+    private TileSnapshot legacyTile(Tile tile) {
+        PropertySnapshot property = tile.getProperty()
+                .map(p -> PropertySnapshot.builder()
+                        .propertyId(p.getPropertyId())
+                        .name(p.getName())
+                        .courseGroup(p.getCourseGroup().name())
+                        .tilePosition(p.getTilePosition())
+                        .purchasePriceCents(p.getPurchasePrice().toCents())
+                        .baseRentCents(p.getBaseRent().toCents())
+                        .rentWithClubhouseCents(p.getRentWithClubhouse().toCents())
+                        .rentWithResortCents(p.getRentWithResort().toCents())
+                        .improvementCostCents(p.getImprovementCost().toCents())
+                        .ownerId(p.getOwnerId())
+                        .improvementLevel(p.getImprovementLevel().name())
+                        .mortgaged(p.isMortgaged())
+                        .build())
+                .orElse(null);
+        return TileSnapshot.builder()
+                .tileId(tile.getTileId())
+                .position(tile.getPosition())
+                .type(tile.getType().name())
+                .name(tile.getName())
+                .property(property)
+                .build();
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -253,6 +254,50 @@ class GameApiIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.players", hasSize(2)));
     }
 
+    @Test
+    void getGame_afterAction_shouldServeUpdatedReadModel() throws Exception {
+        // Create a game and roll once
+        CreateGameRequest request = CreateGameRequest.builder()
+                .playerId(PLAYER_1_ID)
+                .playerName(PLAYER_1_NAME)
+                .vsNpc(true)
+                .build();
+
+        MvcResult createResult = mockMvc.perform(post("/api/v1/games")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn();
+
+        GameStateResponse created = objectMapper.readValue(
+                createResult.getResponse().getContentAsString(),
+                GameStateResponse.class
+        );
+
+        PlayerActionRequest rollRequest = PlayerActionRequest.builder()
+                .playerId(PLAYER_1_ID)
+                .actionType(ActionType.ROLL_DICE)
+                .build();
+
+        MvcResult rollResult = mockMvc.perform(post("/api/v1/games/{gameId}/actions", created.getGameId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rollRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        ActionResultResponse rolled = objectMapper.readValue(
+                rollResult.getResponse().getContentAsString(),
+                ActionResultResponse.class
+        );
+
+        // The view holds the state the action returned
+        mockMvc.perform(get("/api/v1/games/{gameId}", created.getGameId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.turnPhase").value(rolled.getGameState().getTurnPhase()))
+                .andExpect(jsonPath("$.players[0].position")
+                        .value(rolled.getGameState().getPlayers().get(0).getPosition()));
+    }
+
     @Test
     void getGame_nonExistentGame_shouldReturn404() throws Exception {
         mockMvc.perform(get("/api/v1/games/{gameId}", UUID.randomUUID()))
@@ -284,6 +329,114 @@ class GameApiIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.totalCount").isNumber());
     }
 
+    @Test
+    void getAvailableGames_shouldPageNewestFirstWithFilters() throws Exception {
+        // Create three waiting games after a known instant
+        Instant before = Instant.now().minusMillis(1);
+        for (int i = 0; i < 3; i++) {
+            CreateGameRequest request = CreateGameRequest.builder()
+                    .playerId(UUID.randomUUID())
+                    .playerName("Lobby" + i)
+                    .vsNpc(false)
+                    .build();
+            mockMvc.perform(post("/api/v1/games")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // First page of two, newest first
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/games/available")
+                        .param("createdAfter", before.toString())
+                        .param("vsNpc", "false")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.games", hasSize(2)))
+                .andExpect(jsonPath("$.games[0].creatorName").value("Lobby2"))
+                .andExpect(jsonPath("$.games[0].playerCount").value(1))
+                .andExpect(jsonPath("$.games[0].vsNpc").value(false))
+                .andExpect(jsonPath("$.games[1].creatorName").value("Lobby1"))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn();
+
+        AvailableGamesResponse page = objectMapper.readValue(
+                firstPage.getResponse().getContentAsString(),
+                AvailableGamesResponse.class
+        );
+
+        // Second page holds the rest and ends the list
+        mockMvc.perform(get("/api/v1/games/available")
+                        .param("createdAfter", before.toString())
+                        .param("cursor", page.getNextCursor())
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.games", hasSize(1)))
+                .andExpect(jsonPath("$.games[0].creatorName").value("Lobby0"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        // NPC games start straight away, so none are waiting
+        mockMvc.perform(get("/api/v1/games/available")
+                        .param("createdAfter", before.toString())
+                        .param("vsNpc", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.games", hasSize(0)));
+    }
+
+    @Test
+    void getAvailableGames_invalidCursor_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/games/available").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ==================== Player Game Summaries ====================
+
+    @Test
+    void getPlayerGameSummaries_shouldPageActiveGamesNewestFirst() throws Exception {
+        // A player with one NPC game and one waiting game
+        UUID playerId = UUID.randomUUID();
+        for (boolean vsNpc : new boolean[]{true, false}) {
+            CreateGameRequest request = CreateGameRequest.builder()
+                    .playerId(playerId)
+                    .playerName("Dashboard")
+                    .vsNpc(vsNpc)
+                    .npcDifficulty(vsNpc ? Difficulty.EASY : null)
+                    .build();
+            mockMvc.perform(post("/api/v1/games")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/games/player/{playerId}/summaries", playerId)
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.games", hasSize(1)))
+                .andExpect(jsonPath("$.games[0].status").value("WAITING"))
+                .andExpect(jsonPath("$.games[0].vsNpc").value(false))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn();
+
+        PlayerGamesResponse page = objectMapper.readValue(
+                firstPage.getResponse().getContentAsString(),
+                PlayerGamesResponse.class
+        );
+
+        mockMvc.perform(get("/api/v1/games/player/{playerId}/summaries", playerId)
+                        .param("cursor", page.getNextCursor())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.games", hasSize(1)))
+                .andExpect(jsonPath("$.games[0].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.games[0].vsNpc").value(true))
+                .andExpect(jsonPath("$.games[0].opponentName").isString())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/games/player/{playerId}/summaries", playerId)
+                        .param("status", "COMPLETED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.games", hasSize(0)));
+    }
+
     // ==================== Player Actions ====================
 
     @Test
@@ -325,6 +478,51 @@ class GameApiIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.gameState").isNotEmpty());
     }
 
+    @Test
+    void getGameStateAt_shouldRebuildStateBeforeLaterActions() throws Exception {
+        // Create a game and roll once
+        CreateGameRequest createRequest = CreateGameRequest.builder()
+                .playerId(PLAYER_1_ID)
+                .playerName(PLAYER_1_NAME)
+                .vsNpc(true)
+                .build();
+
+        MvcResult createResult = mockMvc.perform(post("/api/v1/games")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andReturn();
+
+        GameStateResponse created = objectMapper.readValue(
+                createResult.getResponse().getContentAsString(),
+                GameStateResponse.class
+        );
+
+        PlayerActionRequest rollRequest = PlayerActionRequest.builder()
+                .playerId(PLAYER_1_ID)
+                .actionType(ActionType.ROLL_DICE)
+                .build();
+
+        mockMvc.perform(post("/api/v1/games/{gameId}/actions", created.getGameId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(rollRequest)))
+                .andExpect(status().isOk());
+
+        // The creation batch (GAME_STARTED, GAME_CREATED) ends at sequence 2, before the roll
+        mockMvc.perform(get("/api/v1/games/{gameId}/state", created.getGameId())
+                        .param("atSequence", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventSequence").value(2))
+                .andExpect(jsonPath("$.turnPhase").value("ROLL"))
+                .andExpect(jsonPath("$.players[0].position").value(0));
+    }
+
+    @Test
+    void getGameStateAt_withSequenceBelowOne_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/games/{gameId}/state", UUID.randomUUID())
+                        .param("atSequence", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void rollDice_notYourTurn_shouldReturn400() throws Exception {
         // Create a game where PLAYER_1 is current player
@@ -0,0 +1,39 @@
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
+
+plugins {
+    java
+    application
+    id("io.spring.dependency-management")
+}
+
+dependencyManagement {
+    imports {
+        mavenBom(SpringBootPlugin.BOM_COORDINATES)
+    }
+}
+
+dependencies {
+    implementation(project(":fore-common"))
+    implementation(project(":fore-game-service"))
+
+    // Logging (no Spring context, so configure Logback directly)
+    implementation("ch.qos.logback:logback-classic")
+
+    // Lombok
+    compileOnly("org.projectlombok:lombok")
+    annotationProcessor("org.projectlombok:lombok")
+
+    // Testing
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("org.assertj:assertj-core")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+application {
+    mainClass.set("com.fore.simulator.ForeSimulatorApplication")
+    applicationDefaultJvmArgs = listOf("-XX:+UseParallelGC")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
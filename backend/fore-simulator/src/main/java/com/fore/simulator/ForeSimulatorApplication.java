@@ -0,0 +1,93 @@
+package com.fore.simulator;
+
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.simulator.SimulationConfig.Matchup;
+import com.fore.simulator.SimulationRunner.SimulationResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line entry point for headless game simulation.
+ *
+ * <pre>
+ * ./gradlew :fore-simulator:run --args="--games=100000 --max-turns=500 --matchup=HARD:EASY"
+ * </pre>
+ *
+ * Options: {@code --games}, {@code --max-turns}, {@code --threads}, {@code --games-per-task},
+ * {@code --seed} and {@code --matchup=FIRST:SECOND} (repeatable; defaults to every ordered pairing).
+ */
+public class ForeSimulatorApplication {
+
+    public static void main(String[] args) {
+        SimulationConfig config = parseArgs(args);
+
+        System.out.printf("Simulating %,d games on %d threads (max %d turns per game, seed %d)%n",
+                config.getGames(), config.getParallelism(), config.getMaxTurns(), config.getSeed());
+
+        SimulationResult result = new SimulationRunner().run(config);
+        printReport(result);
+    }
+
+    static SimulationConfig parseArgs(String[] args) {
+        SimulationConfig.SimulationConfigBuilder builder = SimulationConfig.builder();
+        List<Matchup> matchups = new ArrayList<>();
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --option=value but got: " + arg);
+            }
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+
+            switch (name) {
+                case "games" -> builder.games(Integer.parseInt(value));
+                case "max-turns" -> builder.maxTurns(Integer.parseInt(value));
+                case "threads" -> builder.parallelism(Integer.parseInt(value));
+                case "games-per-task" -> builder.gamesPerTask(Integer.parseInt(value));
+                case "seed" -> builder.seed(Long.parseLong(value));
+                case "matchup" -> matchups.add(parseMatchup(value));
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+
+        if (!matchups.isEmpty()) {
+            builder.matchups(List.copyOf(matchups));
+        }
+        return builder.build();
+    }
+
+    private static Matchup parseMatchup(String value) {
+        String[] seats = value.split(":");
+        if (seats.length != 2) {
+            throw new IllegalArgumentException("Matchup must be FIRST:SECOND but got: " + value);
+        }
+        return new Matchup(
+                Difficulty.valueOf(seats[0].toUpperCase()),
+                Difficulty.valueOf(seats[1].toUpperCase()));
+    }
+
+    private static void printReport(SimulationResult result) {
+        SimulationStats stats = result.stats();
+
+        System.out.println();
+        System.out.printf("Games played:   %,d in %.2fs (%,.0f games/sec)%n",
+                stats.getGames(), result.elapsed().toMillis() / 1000.0, result.gamesPerSecond());
+        System.out.printf("Turns per game: %.1f avg, %d max%n", stats.getAverageTurns(), stats.getMaxTurns());
+        System.out.printf("Unfinished:     %,d (hit turn limit)%n", stats.getUnfinished());
+        System.out.println();
+        System.out.printf("%-10s %12s %12s %9s%n", "Difficulty", "Seats", "Wins", "Win rate");
+
+        for (Difficulty difficulty : Difficulty.values()) {
+            if (stats.getPlayed(difficulty) == 0) {
+                continue;
+            }
+            System.out.printf("%-10s %,12d %,12d %8.1f%%%n",
+                    difficulty,
+                    stats.getPlayed(difficulty),
+                    stats.getWins(difficulty),
+                    stats.getWinRate(difficulty) * 100);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.fore.simulator;
+
+import com.fore.game.domain.model.enums.Difficulty;
+
+/**
+ * Result of one simulated game.
+ *
+ * @param firstWon only meaningful when {@code finished} is true
+ */
+public record GameOutcome(
+        Difficulty first,
+        Difficulty second,
+        int turns,
+        boolean finished,
+        boolean firstWon
+) {
+
+    public static GameOutcome finished(Difficulty first, Difficulty second, int turns, boolean firstWon) {
+        return new GameOutcome(first, second, turns, true, firstWon);
+    }
+
+    public static GameOutcome unfinished(Difficulty first, Difficulty second, int turns) {
+        return new GameOutcome(first, second, turns, false, false);
+    }
+
+    public Difficulty winner() {
+        if (!finished) {
+            return null;
+        }
+        return firstWon ? first : second;
+    }
+}
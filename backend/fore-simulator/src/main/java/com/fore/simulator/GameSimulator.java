@@ -0,0 +1,169 @@
+package com.fore.simulator;
+
+import com.fore.common.ids.TimeOrderedIds;
+import com.fore.common.types.Money;
+import com.fore.game.application.npc.GameContext;
+import com.fore.game.application.npc.NpcAction;
+import com.fore.game.application.npc.NpcAction.TradeOfferDecision;
+import com.fore.game.application.npc.NpcDecisionEngine;
+import com.fore.game.domain.model.BoardFactory;
+import com.fore.game.domain.model.DiceSource;
+import com.fore.game.domain.model.GameConstants;
+import com.fore.game.domain.model.GameSession;
+import com.fore.game.domain.model.PlayerState;
+import com.fore.game.domain.model.SeededDiceSource;
+import com.fore.game.domain.model.TradeOffer;
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.game.domain.model.enums.GameStatus;
+import com.fore.game.domain.model.enums.TurnPhase;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Plays a single NPC-vs-NPC game to completion by driving GameSession commands directly.
+ * No Spring context, persistence or WebSocket publishing is involved.
+ * <p>
+ * Trades the engine proposes are played out: the recipient answers with the engine's decision
+ * for its own seat, and the proposer's turn continues either way. An engine move the game
+ * rejects as illegal ends the turn instead.
+ * Not thread-safe: use one instance per worker.
+ */
+public class GameSimulator {
+
+    private static final int MAX_ACTIONS_PER_TURN = 20; // Same safety limit as NpcTurnService
+    private static final Clock SIMULATION_CLOCK = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+
+    private final NpcDecisionEngine engine;
+    private final int maxTurns;
+
+    public GameSimulator(NpcDecisionEngine engine, int maxTurns) {
+        this.engine = engine;
+        this.maxTurns = maxTurns;
+    }
+
+    public GameOutcome play(Difficulty first, Difficulty second) {
+        return play(first, second, SeededDiceSource.withRandomSeed());
+    }
+
+    public GameOutcome play(Difficulty first, Difficulty second, DiceSource dice) {
+        GameSession game = newGame(first, second, dice);
+        UUID firstId = game.getCurrentPlayerId();
+
+        int actionsThisTurn = 0;
+        int lastTurn = game.getTurnNumber();
+
+        while (game.getStatus() == GameStatus.IN_PROGRESS && game.getTurnNumber() <= maxTurns) {
+            UUID actorId = game.getTurnPhase() == TurnPhase.TRADE
+                    ? game.getPendingTrade().getReceivingPlayerId()
+                    : game.getCurrentPlayerId();
+
+            if (game.getTurnNumber() != lastTurn) {
+                lastTurn = game.getTurnNumber();
+                actionsThisTurn = 0;
+            }
+
+            if (actionsThisTurn++ >= MAX_ACTIONS_PER_TURN) {
+                forceProgress(game, actorId);
+            } else {
+                NpcAction action = engine.decideAction(GameContext.fromGame(game, actorId));
+                try {
+                    apply(game, actorId, action);
+                } catch (IllegalStateException | IllegalArgumentException e) {
+                    // Engine chose an illegal move; fall back to the only always-legal one
+                    forceProgress(game, actorId);
+                }
+            }
+
+        }
+
+        int turns = Math.min(game.getTurnNumber(), maxTurns);
+        if (game.getStatus() != GameStatus.COMPLETED) {
+            return GameOutcome.unfinished(first, second, turns);
+        }
+        return GameOutcome.finished(first, second, turns, game.getWinnerId().equals(firstId));
+    }
+
+    private GameSession newGame(Difficulty first, Difficulty second, DiceSource dice) {
+        Map<UUID, PlayerState> players = new LinkedHashMap<>();
+        PlayerState firstPlayer = npc(first);
+        PlayerState secondPlayer = npc(second);
+        players.put(firstPlayer.getPlayerId(), firstPlayer);
+        players.put(secondPlayer.getPlayerId(), secondPlayer);
+
+        // Seat both NPCs directly; GameSession.create always seats a human creator
+        Instant now = SIMULATION_CLOCK.instant();
+        GameSession game = GameSession.reconstitute(
+                TimeOrderedIds.next(),
+                GameStatus.IN_PROGRESS,
+                firstPlayer.getPlayerId(),
+                TurnPhase.ROLL,
+                1,
+                null,
+                BoardFactory.createStandardBoard(),
+                players,
+                now,
+                now,
+                dice
+        );
+        // Events are only needed for persistence and notifications, and wall-clock timestamps are unused
+        game.setRecordingEvents(false);
+        game.useClock(SIMULATION_CLOCK);
+        return game;
+    }
+
+    private static PlayerState npc(Difficulty difficulty) {
+        return PlayerState.builder()
+                .playerId(TimeOrderedIds.next())
+                .displayName(difficulty.getDisplayName())
+                .npc(true)
+                .npcDifficulty(difficulty)
+                .startingCurrency(GameConstants.STARTING_CURRENCY)
+                .build();
+    }
+
+    private static void apply(GameSession game, UUID actorId, NpcAction action) {
+        switch (action.getActionType()) {
+            case ROLL_DICE -> game.rollDice(actorId);
+            case PURCHASE_PROPERTY -> game.purchaseProperty(actorId, action.getTargetPropertyId());
+            case IMPROVE_PROPERTY -> game.improveProperty(actorId, action.getTargetPropertyId());
+            case ACCEPT_TRADE -> game.respondToTrade(actorId, true);
+            case REJECT_TRADE -> game.respondToTrade(actorId, false);
+            case END_TURN -> game.endTurn(actorId);
+            case PROPOSE_TRADE -> game.proposeTrade(actorId, tradeOffer(actorId, action.getTradeOffer()));
+        }
+    }
+
+    private static TradeOffer tradeOffer(UUID offeringPlayerId, TradeOfferDecision decision) {
+        if (decision == null) {
+            throw new IllegalArgumentException("Trade proposal without an offer");
+        }
+        return TradeOffer.builder()
+                .offerId(TimeOrderedIds.next())
+                .offeringPlayerId(offeringPlayerId)
+                .receivingPlayerId(decision.getTargetPlayerId())
+                .offeredPropertyIds(decision.getOfferedPropertyIds() != null
+                        ? decision.getOfferedPropertyIds()
+                        : Set.of())
+                .offeredCurrency(Money.ofCents(decision.getOfferedCurrencyCents()))
+                .requestedPropertyIds(decision.getRequestedPropertyIds() != null
+                        ? decision.getRequestedPropertyIds()
+                        : Set.of())
+                .requestedCurrency(Money.ofCents(decision.getRequestedCurrencyCents()))
+                .status(TradeOffer.TradeStatus.PENDING)
+                .build();
+    }
+
+    private static void forceProgress(GameSession game, UUID actorId) {
+        switch (game.getTurnPhase()) {
+            case ROLL -> game.rollDice(actorId);
+            case TRADE -> game.respondToTrade(actorId, false);
+            default -> game.endTurn(actorId);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.fore.simulator;
+
+import com.fore.game.application.npc.DeterministicNpcEngine;
+import com.fore.game.application.npc.NpcDecisionEngine;
+import com.fore.game.domain.model.enums.Difficulty;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Parameters for a simulation run.
+ */
+@Getter
+@Builder
+public class SimulationConfig {
+
+    /**
+     * Total number of games to play.
+     */
+    @Builder.Default
+    private final int games = 10_000;
+
+    /**
+     * Games still in progress after this many turns are recorded as unfinished.
+     */
+    @Builder.Default
+    private final int maxTurns = 500;
+
+    /**
+     * Worker threads in the fork/join pool.
+     */
+    @Builder.Default
+    private final int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Games per leaf task before fork/join stops splitting.
+     */
+    @Builder.Default
+    private final int gamesPerTask = 64;
+
+    /**
+     * Master seed; game {@code i} rolls and decides from the stream derived from this seed and {@code i},
+     * so each game plays the same regardless of how games are spread across threads.
+     */
+    @Builder.Default
+    private final long seed = ThreadLocalRandom.current().nextLong();
+
+    /**
+     * Seat pairings, assigned to games round-robin by game index.
+     */
+    @Builder.Default
+    private final List<Matchup> matchups = allMatchups();
+
+    /**
+     * Creates a fresh engine for each game from that game's decision generator,
+     * so engines never share state across threads or games.
+     */
+    @Builder.Default
+    private final Function<RandomGenerator, NpcDecisionEngine> engineFactory = DeterministicNpcEngine::new;
+
+    /**
+     * Difficulties for the first and second seat of a game.
+     */
+    public record Matchup(Difficulty first, Difficulty second) {
+
+        @Override
+        public String toString() {
+            return first + " vs " + second;
+        }
+    }
+
+    /**
+     * Every ordered pairing of difficulties, so each one plays both seats against every other.
+     */
+    public static List<Matchup> allMatchups() {
+        List<Matchup> matchups = new ArrayList<>();
+        for (Difficulty first : Difficulty.values()) {
+            for (Difficulty second : Difficulty.values()) {
+                if (first != second) {
+                    matchups.add(new Matchup(first, second));
+                }
+            }
+        }
+        return List.copyOf(matchups);
+    }
+}
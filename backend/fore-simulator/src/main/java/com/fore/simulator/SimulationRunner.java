@@ -0,0 +1,30 @@
+package com.fore.simulator;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs a simulation across a dedicated fork/join pool.
+ */
+public class SimulationRunner {
+
+    public SimulationResult run(SimulationConfig config) {
+        ForkJoinPool pool = new ForkJoinPool(config.getParallelism());
+        try {
+            long start = System.nanoTime();
+            SimulationStats stats = pool.invoke(new SimulationTask(config, 0, config.getGames()));
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            return new SimulationResult(stats, elapsed, config.getParallelism());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public record SimulationResult(SimulationStats stats, Duration elapsed, int parallelism) {
+
+        public double gamesPerSecond() {
+            double seconds = elapsed.toNanos() / 1_000_000_000.0;
+            return seconds == 0 ? 0 : stats.getGames() / seconds;
+        }
+    }
+}
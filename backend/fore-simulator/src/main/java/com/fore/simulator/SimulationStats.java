@@ -0,0 +1,79 @@
+package com.fore.simulator;
+
+import com.fore.game.domain.model.enums.Difficulty;
+
+/**
+ * Mergeable counters for a batch of simulated games.
+ * Each fork/join leaf fills its own instance; results are combined on join.
+ */
+public class SimulationStats {
+
+    private static final int DIFFICULTIES = Difficulty.values().length;
+
+    private long games;
+    private long unfinished;
+    private long totalTurns;
+    private int maxTurns;
+
+    private final long[] played = new long[DIFFICULTIES];
+    private final long[] wins = new long[DIFFICULTIES];
+
+    public void record(GameOutcome outcome) {
+        games++;
+        totalTurns += outcome.turns();
+        maxTurns = Math.max(maxTurns, outcome.turns());
+
+        played[outcome.first().ordinal()]++;
+        played[outcome.second().ordinal()]++;
+
+        if (outcome.finished()) {
+            wins[outcome.winner().ordinal()]++;
+        } else {
+            unfinished++;
+        }
+    }
+
+    public SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        unfinished += other.unfinished;
+        totalTurns += other.totalTurns;
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        for (int i = 0; i < DIFFICULTIES; i++) {
+            played[i] += other.played[i];
+            wins[i] += other.wins[i];
+        }
+        return this;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getUnfinished() {
+        return unfinished;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Number of seats played by this difficulty (a mirror matchup counts twice).
+     */
+    public long getPlayed(Difficulty difficulty) {
+        return played[difficulty.ordinal()];
+    }
+
+    public long getWins(Difficulty difficulty) {
+        return wins[difficulty.ordinal()];
+    }
+
+    public double getWinRate(Difficulty difficulty) {
+        long seats = played[difficulty.ordinal()];
+        return seats == 0 ? 0 : (double) wins[difficulty.ordinal()] / seats;
+    }
+}
@@ -0,0 +1,55 @@
+package com.fore.simulator;
+
+import com.fore.game.domain.model.SeededDiceSource;
+import com.fore.simulator.SimulationConfig.Matchup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join task over a half-open range of game indices.
+ * Splits until the range is small enough, then plays the games sequentially.
+ */
+class SimulationTask extends RecursiveTask<SimulationStats> {
+
+    private final SimulationConfig config;
+    private final int from;
+    private final int to;
+
+    SimulationTask(SimulationConfig config, int from, int to) {
+        this.config = config;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected SimulationStats compute() {
+        if (to - from <= config.getGamesPerTask()) {
+            return playRange();
+        }
+
+        int mid = (from + to) >>> 1;
+        SimulationTask left = new SimulationTask(config, from, mid);
+        SimulationTask right = new SimulationTask(config, mid, to);
+        left.fork();
+        SimulationStats rightStats = right.compute();
+        return left.join().merge(rightStats);
+    }
+
+    private SimulationStats playRange() {
+        List<Matchup> matchups = config.getMatchups();
+        SimulationStats stats = new SimulationStats();
+
+        for (int i = from; i < to; i++) {
+            Matchup matchup = matchups.get(i % matchups.size());
+            SeededDiceSource dice = SeededDiceSource.forStream(config.getSeed(), i);
+            // Split off the game's own seed, leaving the dice stream untouched
+            SplittableRandom decisions = new SplittableRandom(dice.getSeed()).split();
+            GameSimulator simulator = new GameSimulator(
+                    config.getEngineFactory().apply(decisions), config.getMaxTurns());
+            stats.record(simulator.play(matchup.first(), matchup.second(), dice));
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,188 @@
+package com.fore.simulator;
+
+import com.fore.common.types.Money;
+import com.fore.game.application.npc.DeterministicNpcEngine;
+import com.fore.game.application.npc.GameContext;
+import com.fore.game.application.npc.NpcAction;
+import com.fore.game.application.npc.NpcAction.TradeOfferDecision;
+import com.fore.game.application.npc.NpcDecisionEngine;
+import com.fore.game.domain.model.SeededDiceSource;
+import com.fore.game.domain.model.enums.Difficulty;
+import com.fore.simulator.SimulationConfig.Matchup;
+import com.fore.simulator.SimulationRunner.SimulationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GameSimulatorTest {
+
+    @Test
+    void play_shouldEndWithWinnerOrTurnLimit() {
+        GameSimulator simulator = new GameSimulator(new DeterministicNpcEngine(), 300);
+
+        GameOutcome outcome = simulator.play(Difficulty.HARD, Difficulty.EASY);
+
+        assertThat(outcome.turns()).isBetween(1, 300);
+        if (outcome.finished()) {
+            assertThat(outcome.winner()).isIn(Difficulty.HARD, Difficulty.EASY);
+        } else {
+            assertThat(outcome.winner()).isNull();
+        }
+    }
+
+    @Test
+    void play_proposedTrade_shouldBeAnsweredAndLetTheTurnContinue() {
+        TradingEngine engine = new TradingEngine();
+        GameSimulator simulator = new GameSimulator(engine, 10);
+
+        simulator.play(Difficulty.MEDIUM, Difficulty.MEDIUM, SeededDiceSource.withSeed(7L));
+
+        assertThat(engine.cashWhenProposing).isNotNull();
+        assertThat(engine.cashAfterTrade).isEqualTo(engine.cashWhenProposing.subtract(Money.ofCents(100)));
+    }
+
+    @Test
+    void run_shouldPlayEveryGameAcrossTasks() {
+        SimulationConfig config = SimulationConfig.builder()
+                .games(40)
+                .maxTurns(200)
+                .parallelism(4)
+                .gamesPerTask(8)
+                .build();
+
+        SimulationResult result = new SimulationRunner().run(config);
+
+        SimulationStats stats = result.stats();
+        assertThat(stats.getGames()).isEqualTo(40);
+        assertThat(stats.getAverageTurns()).isPositive();
+        assertThat(result.gamesPerSecond()).isPositive();
+
+        long seats = 0;
+        long wins = 0;
+        for (Difficulty difficulty : Difficulty.values()) {
+            seats += stats.getPlayed(difficulty);
+            wins += stats.getWins(difficulty);
+        }
+        assertThat(seats).isEqualTo(80);
+        assertThat(wins).isEqualTo(stats.getGames() - stats.getUnfinished());
+    }
+
+    @Test
+    void run_sameSeed_shouldPlayTheSameGamesOnAnyNumberOfThreads() {
+        SimulationConfig.SimulationConfigBuilder config = SimulationConfig.builder()
+                .games(48)
+                .maxTurns(200)
+                .gamesPerTask(4)
+                .seed(20260501L);
+
+        SimulationStats first = new SimulationRunner().run(config.parallelism(4).build()).stats();
+        SimulationStats second = new SimulationRunner().run(config.parallelism(1).build()).stats();
+
+        assertThat(second.getUnfinished()).isEqualTo(first.getUnfinished());
+        assertThat(second.getMaxTurns()).isEqualTo(first.getMaxTurns());
+        assertThat(second.getAverageTurns()).isEqualTo(first.getAverageTurns());
+        for (Difficulty difficulty : Difficulty.values()) {
+            assertThat(second.getWins(difficulty)).as("wins of %s", difficulty)
+                    .isEqualTo(first.getWins(difficulty));
+        }
+    }
+
+    @Test
+    void stats_mirrorMatchup_shouldCountBothSeats() {
+        SimulationStats stats = new SimulationStats();
+
+        stats.record(GameOutcome.finished(Difficulty.MEDIUM, Difficulty.MEDIUM, 42, true));
+
+        assertThat(stats.getPlayed(Difficulty.MEDIUM)).isEqualTo(2);
+        assertThat(stats.getWins(Difficulty.MEDIUM)).isEqualTo(1);
+        assertThat(stats.getWinRate(Difficulty.MEDIUM)).isEqualTo(0.5);
+    }
+
+    @Test
+    void parseArgs_shouldReadOptionsAndMatchups() {
+        SimulationConfig config = ForeSimulatorApplication.parseArgs(new String[]{
+                "--games=500", "--max-turns=250", "--threads=2", "--seed=77", "--matchup=hard:easy"
+        });
+
+        assertThat(config.getGames()).isEqualTo(500);
+        assertThat(config.getMaxTurns()).isEqualTo(250);
+        assertThat(config.getParallelism()).isEqualTo(2);
+        assertThat(config.getSeed()).isEqualTo(77L);
+        assertThat(config.getMatchups()).containsExactly(new Matchup(Difficulty.HARD, Difficulty.EASY));
+    }
+
+    @Test
+    void parseArgs_unknownOption_shouldThrow() {
+        assertThatThrownBy(() -> ForeSimulatorApplication.parseArgs(new String[]{"--speed=11"}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown option");
+    }
+
+    @Test
+    void allMatchups_shouldPairEveryDifficultyInBothSeats() {
+        List<Matchup> matchups = SimulationConfig.allMatchups();
+
+        int n = Difficulty.values().length;
+        assertThat(matchups).hasSize(n * (n - 1));
+        assertThat(matchups).contains(
+                new Matchup(Difficulty.EASY, Difficulty.RUTHLESS),
+                new Matchup(Difficulty.RUTHLESS, Difficulty.EASY));
+    }
+
+    /**
+     * Offers the opponent 100 cents once, accepts every offer and otherwise just rolls and ends turns.
+     */
+    private static class TradingEngine implements NpcDecisionEngine {
+
+        private Money cashWhenProposing;
+        private Money cashAfterTrade;
+        private boolean answered;
+
+        @Override
+        public NpcAction decideAction(GameContext context) {
+            return switch (context.getTurnPhase()) {
+                case ROLL -> NpcAction.rollDice();
+                case TRADE -> {
+                    answered = true;
+                    yield NpcAction.acceptTrade("Free money");
+                }
+                case ACTION -> {
+                    if (cashWhenProposing == null) {
+                        cashWhenProposing = context.getNpcCurrency();
+                        yield proposeGift(context);
+                    }
+                    if (answered && cashAfterTrade == null) {
+                        cashAfterTrade = context.getNpcCurrency();
+                    }
+                    yield NpcAction.endTurn();
+                }
+                case END_TURN -> NpcAction.endTurn();
+            };
+        }
+
+        @Override
+        public boolean evaluateTradeOffer(GameContext context) {
+            return true;
+        }
+
+        @Override
+        public String getEngineType() {
+            return "TRADING";
+        }
+
+        private static NpcAction proposeGift(GameContext context) {
+            return NpcAction.builder()
+                    .actionType(NpcAction.ActionType.PROPOSE_TRADE)
+                    .tradeOffer(TradeOfferDecision.builder()
+                            .targetPlayerId(context.getOpponentPlayerId())
+                            .offeredPropertyIds(Set.of())
+                            .offeredCurrencyCents(100)
+                            .requestedPropertyIds(Set.of())
+                            .build())
+                    .build();
+        }
+    }
+}
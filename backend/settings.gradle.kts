@@ -3,3 +3,5 @@ rootProject.name = "fore-backend"
 include("fore-common")
 include("fore-game-service")
 include("fore-ai-agent")
+include("fore-simulator")
+include("fore-benchmarks")